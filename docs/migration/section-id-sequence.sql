@@ -0,0 +1,17 @@
+-- 구간(section) id 생성 전략을 IDENTITY에서 시퀀스(section_seq, 증가 폭 50)로 바꾼 뒤, 기존 데이터가 있는 데이터베이스에 적용하는 스크립트 (H2 기준)
+--
+-- * 새로 만드는 데이터베이스(기본 설정의 인메모리 H2 포함)는 ddl-auto가 시퀀스를 만들므로 실행할 필요가 없다.
+-- * 기존 데이터베이스에는 새 버전의 애플리케이션을 띄우기 전에 실행해야 한다.
+--   ddl-auto가 1부터 시작하는 section_seq를 먼저 만들면 새 구간의 id가 기존 구간의 id와 겹친다.
+-- * 하이버네이트의 pooled 최적화기는 시퀀스에서 받은 값보다 최대 49 작은 id까지 사용하므로,
+--   시작 값은 기존 최대 id + 50 이상이어야 한다.
+-- * section.id 컬럼의 auto increment 기본값은 그대로 두어도 된다. 하이버네이트가 id를 직접 넣어 insert 한다.
+
+-- 1) 시작 값을 구한다.
+SELECT COALESCE(MAX(id), 0) + 50 AS section_seq_start FROM section;
+
+-- 2) 위에서 구한 값으로 <section_seq_start>를 바꾸어 시퀀스를 만든다.
+CREATE SEQUENCE IF NOT EXISTS section_seq START WITH <section_seq_start> INCREMENT BY 50;
+
+-- 3) ddl-auto가 이미 시퀀스를 만든 뒤라면, 2) 대신 시작 값을 옮긴다.
+-- ALTER SEQUENCE section_seq RESTART WITH <section_seq_start> INCREMENT BY 50;
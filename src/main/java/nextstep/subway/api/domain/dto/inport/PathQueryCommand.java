@@ -0,0 +1,28 @@
+package nextstep.subway.api.domain.dto.inport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.subway.api.interfaces.dto.request.PathQueryRequest;
+import nextstep.subway.common.mapper.ModelMapperBasedObjectMapper;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PathQueryCommand {
+
+	private Long source;
+	private Long target;
+
+	public static PathQueryCommand from(PathQueryRequest queryRequest) {
+		return ModelMapperBasedObjectMapper.convert(queryRequest, PathQueryCommand.class);
+	}
+}
@@ -0,0 +1,51 @@
+package nextstep.subway.api.domain.dto.outport;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+
+/**
+ * 노선망 로딩용 구간 프로젝션. 구간 하나와 소속 노선, 상행/하행역 정보를 한 행에 담는다.
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 한 번의 쿼리로 노선망 전체를 읽기 위해 사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NetworkSectionInfo {
+
+	private Long lineId;
+
+	private String lineName;
+
+	private Long sectionId;
+
+	private Long upStationId;
+
+	private String upStationName;
+
+	private Long downStationId;
+
+	private String downStationName;
+
+	private Long distance;
+
+	/**
+	 * 노선망 스냅샷에 담을 구간을 만든다. 같은 역은 stationsById에 보관된 하나의 Station 객체를 공유한다.
+	 */
+	public Section toSection(Map<Long, Station> stationsById) {
+		Station upStation = stationsById.computeIfAbsent(upStationId, id -> new Station(id, upStationName));
+		Station downStation = stationsById.computeIfAbsent(downStationId, id -> new Station(id, downStationName));
+		return new Section(sectionId, upStation, downStation, distance);
+	}
+}
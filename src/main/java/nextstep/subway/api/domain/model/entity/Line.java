@@ -1,6 +1,7 @@
 package nextstep.subway.api.domain.model.entity;
 
 import java.util.List;
+import java.util.Set;
 
 import javax.persistence.Column;
 import javax.persistence.Embedded;
@@ -97,7 +98,15 @@ public class Line {
 		sectionCollection.insertSection(newSection);
 	}
 
+	public void insertSections(List<Section> newSections) {
+		sectionCollection.insertSections(newSections);
+	}
+
 	public void removeStation(Long stationId) {
 		sectionCollection.removeStation(stationId);
 	}
+
+	public void removeStations(Set<Long> stationIds) {
+		sectionCollection.removeStations(stationIds);
+	}
 }
@@ -9,6 +9,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,8 +30,14 @@ import nextstep.subway.common.exception.SectionInsertionNotValidException;
 @Builder
 public class Section implements Comparable<Section> {
 
+	/**
+	 * IDENTITY 전략은 insert를 실행해야 id를 알 수 있어 하이버네이트가 insert를 배치로 묶지 못한다.
+	 * 노선 구간을 한 번에 여러 개 등록할 때 insert를 배치로 보낼 수 있도록 시퀀스에서 id를 미리 할당받는다.
+	 * 기존 데이터가 있는 데이터베이스는 새 버전을 띄우기 전에 docs/migration/section-id-sequence.sql로 시퀀스를 먼저 만들어야 한다.
+	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_id_generator")
+	@SequenceGenerator(name = "section_id_generator", sequenceName = "section_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne
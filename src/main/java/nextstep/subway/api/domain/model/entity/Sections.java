@@ -1,9 +1,15 @@
 package nextstep.subway.api.domain.model.entity;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
@@ -14,10 +20,11 @@ import javax.persistence.Embeddable;
 import javax.persistence.FetchType;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 
 import org.hibernate.annotations.SortNatural;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -29,6 +36,11 @@ import nextstep.subway.common.exception.SectionNotFoundException;
  * Sections 일급 컬렉션으로 리팩토링하여 Line 엔티티와의 관계를 관리합니다.
  * Sections 내에서 Section 엔티티들의 생명주기를 관리하며,
  * Line 엔티티와의 연관관계를 효율적으로 관리하기 위해 사용됩니다.
+ * <p>
+ * 구간 삽입/삭제 시 역으로 구간을 찾는 연산이 많은데, 매번 전체 구간을 훑으면 구간이 많은 노선을 연속해서 편집할 때 편집 횟수 × 구간 수만큼 비용이 든다.
+ * 따라서 상행역 id → 구간, 하행역 id → 구간 색인을 함께 유지하여 역으로 구간을 찾는 연산을 상수 시간에 처리한다.
+ * 색인은 영속화하지 않으며(@Transient), 처음 사용할 때 또는 JPA가 구간 컬렉션을 교체했을 때 구간 목록으로부터 다시 만든다.
+ * 노선의 역 목록도 처음 조회할 때 한 번만 만들어 두고, 구간이 변경되면 버린다.
  *
  * @author : Rene Choi
  * @since : 2024/02/02
@@ -36,7 +48,6 @@ import nextstep.subway.common.exception.SectionNotFoundException;
 @Embeddable
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 public class Sections implements Iterable<Section> {
 
@@ -56,16 +67,48 @@ public class Sections implements Iterable<Section> {
 	@SortNatural
 	private SortedSet<Section> sections = new TreeSet<>();
 
+	@Transient
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private Map<Long, Section> sectionsByUpStationId = new HashMap<>();
+
+	@Transient
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private Map<Long, Section> sectionsByDownStationId = new HashMap<>();
+
+	/**
+	 * 색인을 만들 때 사용한 구간 컬렉션. JPA가 컬렉션을 영속 컬렉션으로 교체하거나 setSections()로 교체되면 달라지므로 색인을 다시 만든다.
+	 */
+	@Transient
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private SortedSet<Section> indexedSections;
+
+	@Transient
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private List<Station> orderedStations;
+
+	public Sections(SortedSet<Section> sections) {
+		this.sections = sections;
+	}
+
 	@Override
 	public Iterator<Section> iterator() {
 		return sections.iterator();
 	}
 
+	/**
+	 * 상행 종점에서 하행 종점 방향으로, 실제로 타고 가는 순서대로 역 목록을 반환한다.
+	 * 노선 조회마다 호출되므로 한 번 만든 목록은 구간이 변경되기 전까지 그대로 반환하며, 반환한 목록은 수정할 수 없다.
+	 */
 	public List<Station> parseStations() {
-		return this.sections.stream()
-			.flatMap(section -> Stream.of(section.getUpStation(), section.getDownStation()))
-			.distinct()
-			.collect(Collectors.toList());
+		ensureIndexed();
+		if (orderedStations == null) {
+			orderedStations = Collections.unmodifiableList(new ArrayList<>(walkStations()));
+		}
+		return orderedStations;
 	}
 
 	public List<Section> parseSections() {
@@ -74,7 +117,7 @@ public class Sections implements Iterable<Section> {
 
 
 	public void addSection(Section section) {
-		this.sections.add(section);
+		add(section);
 	}
 
 	public void insertSection(Section newSection) {
@@ -85,6 +128,19 @@ public class Sections implements Iterable<Section> {
 		}
 	}
 
+	/**
+	 * 순서대로 이어진 구간들을 노선의 하행 종점 뒤 또는 상행 종점 앞에 한 번에 덧붙인다. 새 노선을 구간 단위로 한꺼번에 구성할 때 사용한다.
+	 * 구간마다 insertSection을 호출하지 않고, 주어진 구간들이 하나의 구간 열을 이루며 노선과 한 역에서만 만나는지를 한 번 훑어 검증한 뒤 모두 추가한다.
+	 * 역 포함 여부는 색인으로 확인하므로 검증은 기존 구간 수와 관계없이 새 구간 수에 비례한다.
+	 * 검증에 실패하면 어떤 구간도 추가하지 않는다.
+	 *
+	 * @param newSections
+	 */
+	public void insertSections(List<Section> newSections) {
+		validateChainInsertion(newSections);
+		newSections.forEach(this::add);
+	}
+
 	/**
 	 * 해당하는 stationId가
 	 * 1) sections의 최상단 section의 상행역일 경우 -> 해당 Section을 삭제
@@ -98,15 +154,65 @@ public class Sections implements Iterable<Section> {
 	 */
 	public void removeStation(Long stationId) {
 		if (isUpEndStation(stationId) || isDownEndStation(stationId)) {
-			sections.remove(findSectionByStationId(stationId));
+			remove(findSectionByStationId(stationId));
 			return;
 		}
 
 		mergeSections(stationId);
 	}
 
+	/**
+	 * 여러 역을 한 번에 노선에서 제거한다. 지선 폐쇄처럼 연속한 역들을 제거할 때 사용한다.
+	 * 역마다 removeStation을 호출하면 제거할 때마다 구간을 합친 새 구간이 만들어졌다가 다음 제거에서 다시 삭제되므로,
+	 * 상행 종점부터 구간을 따라가며 남는 역 사이의 구간을 한 번에 계산한다.
+	 * <p>
+	 * 남는 두 역이 원래 하나의 구간으로 이어져 있다면 그 구간은 그대로 두고, 사이의 역이 제거되었다면 사이 구간들을 삭제하고 거리를 합친 구간 하나를 추가한다.
+	 * 상행/하행 종점 쪽에서 제거된 역들의 구간은 삭제만 한다. 따라서 제거된 역에 닿은 구간만 삭제되고, 남는 역 사이의 빈 곳마다 하나의 구간만 추가된다.
+	 * 구간이 하나의 노선으로 이어져 있지 않은 경우에는 역마다 removeStation으로 제거한다.
+	 *
+	 * @param stationIds
+	 */
+	public void removeStations(Set<Long> stationIds) {
+		if (stationIds.stream().anyMatch(stationId -> !isContainsAnyStation(stationId))) {
+			throw new SectionDeletionNotValidException("제거하려는 역이 올바르지 않습니다.");
+		}
+
+		List<Section> chain = walkChain();
+		if (chain.size() != sections.size()) {
+			stationIds.forEach(this::removeStation);
+			return;
+		}
+		if (chain.size() + 1 - stationIds.size() < 2) {
+			throw new SectionDeletionNotValidException("노선에는 최소 하나의 구간이 남아야 합니다.");
+		}
+
+		List<Section> removedSections = new ArrayList<>();
+		List<Section> mergedSections = new ArrayList<>();
+		int lastKeptIndex = -1;
+		for (int index = 0; index <= chain.size(); index++) {
+			Station station = index == chain.size() ? chain.get(index - 1).getDownStation() : chain.get(index).getUpStation();
+			if (stationIds.contains(station.getId())) {
+				continue;
+			}
+
+			if (lastKeptIndex == -1) {
+				removedSections.addAll(chain.subList(0, index));
+			} else if (index - lastKeptIndex > 1) {
+				List<Section> gap = chain.subList(lastKeptIndex, index);
+				removedSections.addAll(gap);
+				mergedSections.add(createSection(gap.get(0).getUpStation(), station, gap.stream().mapToLong(Section::getDistance).sum()));
+			}
+			lastKeptIndex = index;
+		}
+		removedSections.addAll(chain.subList(lastKeptIndex, chain.size()));
+
+		removedSections.forEach(this::remove);
+		mergedSections.forEach(this::add);
+	}
+
 	public boolean isContainsAnyStation(Long stationId) {
-		return this.sections.stream().anyMatch(section -> section.isAnyStation(stationId));
+		ensureIndexed();
+		return sectionsByUpStationId.containsKey(stationId) || sectionsByDownStationId.containsKey(stationId);
 	}
 
 	public boolean isUpEndStation(Long stationId) {
@@ -122,7 +228,7 @@ public class Sections implements Iterable<Section> {
 	}
 
 	public void removeLastSection() {
-		this.sections.remove(lastSection());
+		remove(lastSection());
 	}
 
 	private Section firstSection() {
@@ -134,7 +240,46 @@ public class Sections implements Iterable<Section> {
 	}
 
 	private void validateInsertion(Section newSection) {
-		sections.forEach(existingSection -> existingSection.validateInsertion(newSection));
+		findSectionByUpStationId(newSection.fetchUpStationId())
+			.ifPresent(existingSection -> existingSection.validateInsertion(newSection));
+	}
+
+	/**
+	 * 새 구간들이 앞 구간의 하행역에서 다음 구간이 시작하는 하나의 구간 열이고, 그 열의 상행역이 노선의 하행 종점이거나 하행역이 노선의 상행 종점인지 확인한다.
+	 * 노선과 만나는 역 외의 역이 이미 노선에 있거나 열 안에서 반복되면 노선이 갈라지거나 순환하므로 거절한다.
+	 */
+	private void validateChainInsertion(List<Section> newSections) {
+		ensureIndexed();
+		Set<Long> chainStationIds = new HashSet<>();
+		for (int index = 0; index < newSections.size(); index++) {
+			Section section = newSections.get(index);
+			if (index == 0) {
+				chainStationIds.add(section.fetchUpStationId());
+			} else if (!newSections.get(index - 1).fetchDownStationId().equals(section.fetchUpStationId())) {
+				throw new SectionInsertionNotValidException("일괄 추가할 구간들은 순서대로 이어져 있어야 합니다.");
+			}
+			if (!chainStationIds.add(section.fetchDownStationId())) {
+				throw new SectionInsertionNotValidException("일괄 추가할 구간들에 같은 역이 두 번 이상 포함되어 있습니다.");
+			}
+		}
+		if (sections.isEmpty() || newSections.isEmpty()) {
+			return;
+		}
+
+		Long chainUpStationId = newSections.get(0).fetchUpStationId();
+		Long chainDownStationId = newSections.get(newSections.size() - 1).fetchDownStationId();
+		Long joinStationId;
+		if (sectionsByDownStationId.containsKey(chainUpStationId) && !sectionsByUpStationId.containsKey(chainUpStationId)) {
+			joinStationId = chainUpStationId;
+		} else if (sectionsByUpStationId.containsKey(chainDownStationId) && !sectionsByDownStationId.containsKey(chainDownStationId)) {
+			joinStationId = chainDownStationId;
+		} else {
+			throw new SectionInsertionNotValidException("연결할 수 있는 구간이 없습니다.");
+		}
+
+		if (chainStationIds.stream().anyMatch(stationId -> !stationId.equals(joinStationId) && isContainsAnyStation(stationId))) {
+			throw new SectionInsertionNotValidException("이미 노선에 등록된 역이 포함되어 있습니다.");
+		}
 	}
 
 	private boolean tryInsertSection(Section newSection) {
@@ -145,7 +290,7 @@ public class Sections implements Iterable<Section> {
 		return getFirstSection()
 			.filter(firstSection -> firstSection.isUpStationMatches(newSection.getDownStation()))
 			.map(firstSection -> {
-				sections.add(newSection);
+				add(newSection);
 				return true;
 			})
 			.orElse(false);
@@ -155,7 +300,7 @@ public class Sections implements Iterable<Section> {
 		return getLastSection()
 			.filter(lastSection -> lastSection.isDownStationMatches(newSection.getUpStation()))
 			.map(firstSection -> {
-				sections.add(newSection);
+				add(newSection);
 				return true;
 			})
 			.orElse(false);
@@ -165,13 +310,18 @@ public class Sections implements Iterable<Section> {
 	 * Stream으로 전부 구현시 컬렉션을 순회하면서 컬렉션을 수정하는데, 이때 ConcurrentModificationException 예외 발생
 	 * Java의 컬렉션 프레임워크는 구조적 변경이 발생할 때 fail-fast 동작을 하도록 설계되어 있어, 순회 중인 컬렉션에 대한 수정이 감지되면 이 예외가 발생.
 	 * 이 문제를 해결하기 위해, 순회 전에 필터링을 완료하여 일치하는 섹션들의 목록을 먼저 수집하고 이후 필요한 변경에 대한 연산을 수행 하도록 아래와 같이 변경하였다.
+	 * <p>
+	 * 새 구간과 상행역이 같은 구간, 하행역이 같은 구간은 각각 많아야 하나이므로 전체 구간을 훑지 않고 색인에서 찾는다.
+	 * 처리 순서는 기존과 같도록 구간 정렬 순서를 따른다.
 	 *
 	 * @param newSection
 	 * @return
 	 */
 	private boolean insertInMiddle(Section newSection) {
-		List<Section> matchingSections = sections.stream()
-			.filter(section -> section.canInsertBetween(newSection))
+		List<Section> matchingSections = Stream.of(findSectionByUpStationId(newSection.fetchUpStationId()), findSectionByDownStationId(newSection.fetchDownStationId()))
+			.flatMap(Optional::stream)
+			.distinct()
+			.sorted()
 			.collect(Collectors.toList());
 
 		if (matchingSections.isEmpty()) {
@@ -201,9 +351,9 @@ public class Sections implements Iterable<Section> {
 	}
 
 	private void adjustSectionWithRemovalAndAdd(Section existingSection, Section newSection, Section adjustedSection) {
-		sections.remove(existingSection);
-		sections.add(newSection);
-		sections.add(adjustedSection);
+		remove(existingSection);
+		add(newSection);
+		add(adjustedSection);
 	}
 
 	private void mergeSections(Long stationId) {
@@ -218,9 +368,9 @@ public class Sections implements Iterable<Section> {
 		Station newUpStation = firstSection.getUpStation();
 		Station newDownStation = secondSection.getDownStation();
 
-		this.sections.remove(firstSection);
-		this.sections.remove(secondSection);
-		addSection(createSection(newUpStation, newDownStation, calculateDeletionDistance(firstSection, secondSection)));
+		remove(firstSection);
+		remove(secondSection);
+		add(createSection(newUpStation, newDownStation, calculateDeletionDistance(firstSection, secondSection)));
 	}
 
 	private Section createSection(Station newUpStation, Station newDownStation, Long newDistance) {
@@ -232,15 +382,117 @@ public class Sections implements Iterable<Section> {
 	}
 
 	/**
-	 * Sections가 SortedSet으로 정렬이 보장되므로 결과 시트림은 컬렉션 정렬 순서를 상속받아 정렬 순서를 보존한다.
-	 * 따라서 해당 메서드는 정렬된 결과를 리턴한다.
+	 * 역을 포함하는 구간은 그 역을 하행역으로 하는 구간과 상행역으로 하는 구간, 많아야 두 개이므로 색인에서 찾는다.
+	 * 기존과 같이 Sections의 정렬 순서(상행역 id 순)로 정렬된 결과를 리턴한다.
 	 */
 	private List<Section> findSectionsByStationId(Long stationId) {
-		return this.sections.stream().filter(section -> section.isAnyStation(stationId)).collect(Collectors.toList());
+		return Stream.of(findSectionByDownStationId(stationId), findSectionByUpStationId(stationId))
+			.flatMap(Optional::stream)
+			.distinct()
+			.sorted()
+			.collect(Collectors.toList());
 	}
 
 	private Section findSectionByStationId(Long stationId) {
-		return this.sections.stream().filter(section -> section.isAnyStation(stationId)).findAny().orElseThrow(SectionNotFoundException::new);
+		return findSectionsByStationId(stationId).stream().findFirst().orElseThrow(SectionNotFoundException::new);
+	}
+
+	private Optional<Section> findSectionByUpStationId(Long stationId) {
+		ensureIndexed();
+		return Optional.ofNullable(sectionsByUpStationId.get(stationId));
+	}
+
+	private Optional<Section> findSectionByDownStationId(Long stationId) {
+		ensureIndexed();
+		return Optional.ofNullable(sectionsByDownStationId.get(stationId));
+	}
+
+	/**
+	 * 구간 컬렉션과 색인을 함께 갱신한다. 구간은 상행역 id로 정렬/비교되므로 상행역이 같은 구간이 이미 있다면 추가되지 않는다.
+	 */
+	private void add(Section section) {
+		ensureIndexed();
+		if (sections.add(section)) {
+			orderedStations = null;
+			sectionsByUpStationId.put(section.fetchUpStationId(), section);
+			sectionsByDownStationId.put(section.fetchDownStationId(), section);
+		}
+	}
+
+	private void remove(Section section) {
+		ensureIndexed();
+		if (sections.remove(section)) {
+			orderedStations = null;
+			Section removedSection = sectionsByUpStationId.remove(section.fetchUpStationId());
+			sectionsByDownStationId.remove(removedSection.fetchDownStationId(), removedSection);
+		}
+	}
+
+	/**
+	 * 구간 컬렉션이 교체되었거나 getSections()로 직접 변경되어 색인과 크기가 달라졌다면 색인을 다시 만든다.
+	 */
+	private void ensureIndexed() {
+		if (indexedSections == sections
+			&& sectionsByUpStationId.size() == sections.size()
+			&& sectionsByDownStationId.size() == sections.size()) {
+			return;
+		}
+
+		sectionsByUpStationId = new HashMap<>();
+		sectionsByDownStationId = new HashMap<>();
+		sections.forEach(section -> {
+			sectionsByUpStationId.put(section.fetchUpStationId(), section);
+			sectionsByDownStationId.put(section.fetchDownStationId(), section);
+		});
+		indexedSections = sections;
+		orderedStations = null;
+	}
+
+	/**
+	 * 상행 종점이 하나뿐이라면 상행 종점부터 하행 종점까지 구간을 순서대로 반환한다. 상행 종점이 없거나 여럿이라면 빈 목록을 반환한다.
+	 * 순환이 섞여 있다면 모든 구간을 방문하지 못하므로, 호출하는 쪽에서 반환된 구간 수로 하나의 노선인지 판단한다.
+	 */
+	private List<Section> walkChain() {
+		ensureIndexed();
+		List<Section> heads = sections.stream()
+			.filter(section -> !sectionsByDownStationId.containsKey(section.fetchUpStationId()))
+			.limit(2)
+			.collect(Collectors.toList());
+		if (heads.size() != 1) {
+			return Collections.emptyList();
+		}
+
+		List<Section> chain = new ArrayList<>();
+		for (Section section = heads.get(0); section != null && chain.size() < sections.size(); ) {
+			chain.add(section);
+			section = sectionsByUpStationId.get(section.fetchDownStationId());
+		}
+		return chain;
+	}
+
+	/**
+	 * 다른 구간의 하행역이 아닌 상행역(상행 종점)에서 시작해 상행역 색인으로 다음 구간을 따라가며 역을 모은다.
+	 * 구간이 하나의 노선으로 이어져 있지 않은 경우에도 모든 역이 포함되도록,
+	 * 상행 종점이 여럿이라면 정렬 순서대로 각각 따라가고 순환 등으로 방문하지 못한 구간의 역은 마지막에 정렬 순서대로 덧붙인다.
+	 */
+	private Set<Station> walkStations() {
+		Set<Station> stations = new LinkedHashSet<>();
+		for (Section head : sections) {
+			if (sectionsByDownStationId.containsKey(head.fetchUpStationId())) {
+				continue;
+			}
+
+			stations.add(head.getUpStation());
+			for (Section section = head; section != null && stations.add(section.getDownStation()); ) {
+				section = sectionsByUpStationId.get(section.fetchDownStationId());
+			}
+		}
+
+		sections.forEach(section -> {
+			stations.add(section.getUpStation());
+			stations.add(section.getDownStation());
+		});
+		return stations;
 	}
 
 	private Optional<Section> getLastSection() {
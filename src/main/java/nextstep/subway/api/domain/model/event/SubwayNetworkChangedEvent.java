@@ -0,0 +1,39 @@
+package nextstep.subway.api.domain.model.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import nextstep.subway.api.domain.model.vo.SectionChanges;
+
+/**
+ * 노선 또는 구간의 변경으로 지하철 노선망이 바뀌었음을 알리는 이벤트.
+ * 트랜잭션이 커밋된 이후에 경로 탐색용 노선망을 갱신하는 데 사용된다.
+ * <p>
+ * 구간 추가/삭제처럼 변경된 구간을 정확히 알 수 있는 경우에는 sectionChanges를 함께 담아,
+ * 노선망 전체를 다시 읽지 않고 변경분만 반영할 수 있도록 한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/13
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SubwayNetworkChangedEvent {
+	private final Long lineId;
+
+	/**
+	 * lineId 노선의 구간 변경분. null이라면 변경 내용을 알 수 없으므로 노선망 전체를 다시 읽는다.
+	 */
+	private final SectionChanges sectionChanges;
+
+	public static SubwayNetworkChangedEvent of(Long lineId) {
+		return new SubwayNetworkChangedEvent(lineId, null);
+	}
+
+	public static SubwayNetworkChangedEvent of(Long lineId, SectionChanges sectionChanges) {
+		return new SubwayNetworkChangedEvent(lineId, sectionChanges);
+	}
+
+	public boolean hasSectionChanges() {
+		return lineId != null && sectionChanges != null;
+	}
+}
@@ -0,0 +1,23 @@
+package nextstep.subway.api.domain.model.vo;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 출발역 목록 × 도착역 목록의 최단 거리 행렬. distances의 i행 j열은 sourceIds[i]에서 targetIds[j]까지의 최단 거리이며,
+ * 도달할 수 없거나 노선망에 없는 역이 포함된 칸은 null이다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class DistanceMatrix {
+	List<Long> sourceIds;
+
+	List<Long> targetIds;
+
+	List<List<Long>> distances;
+}
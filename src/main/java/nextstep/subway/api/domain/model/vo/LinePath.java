@@ -0,0 +1,25 @@
+package nextstep.subway.api.domain.model.vo;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.subway.api.domain.model.entity.Station;
+
+/**
+ * 노선 정보를 포함한 경로. 전체 역 목록과 거리 외에 노선별 이동 구간(legs)과 환승 횟수를 함께 가진다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class LinePath {
+	List<Station> stations;
+
+	Long distance;
+
+	Integer transferCount;
+
+	List<PathLeg> legs;
+}
@@ -1,5 +1,6 @@
 package nextstep.subway.api.domain.model.vo;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import lombok.AllArgsConstructor;
@@ -21,4 +22,13 @@ public class Path {
 		return stations.size();
 	}
 
+	/**
+	 * 이 경로의 도착역에서 출발하는 경로를 뒤에 이어붙인다. 두 경로가 만나는 역은 한 번만 포함한다.
+	 */
+	public Path concat(Path next) {
+		List<Station> joinedStations = new ArrayList<>(stations);
+		joinedStations.addAll(next.stations.subList(1, next.stations.size()));
+		return Path.of(joinedStations, distance + next.distance);
+	}
+
 }
@@ -0,0 +1,21 @@
+package nextstep.subway.api.domain.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 최단 경로 캐시의 키. 같은 출발역/도착역이라도 노선망 버전이 다르면 다른 키로 취급하여
+ * 노선망이 변경되기 전에 계산한 경로가 변경 이후에 반환되지 않도록 한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/17
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class PathCacheKey {
+	Long sourceId;
+
+	Long targetId;
+
+	long networkVersion;
+}
@@ -0,0 +1,25 @@
+package nextstep.subway.api.domain.model.vo;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.subway.api.domain.model.entity.Station;
+
+/**
+ * 경로 중 한 노선을 갈아타지 않고 이동하는 구간. stations는 승차역부터 하차역까지의 역 목록이다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class PathLeg {
+	Long lineId;
+
+	String lineName;
+
+	List<Station> stations;
+
+	Long distance;
+}
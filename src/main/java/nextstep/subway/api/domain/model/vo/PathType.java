@@ -0,0 +1,12 @@
+package nextstep.subway.api.domain.model.vo;
+
+/**
+ * 경로 조회 기준. DISTANCE는 최단 거리, TRANSFER는 최소 환승(환승 횟수가 같다면 최단 거리) 경로를 찾는다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+public enum PathType {
+	DISTANCE,
+	TRANSFER
+}
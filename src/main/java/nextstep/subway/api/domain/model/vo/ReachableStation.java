@@ -0,0 +1,19 @@
+package nextstep.subway.api.domain.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.subway.api.domain.model.entity.Station;
+
+/**
+ * 출발역에서 도달할 수 있는 역과 그 역까지의 최단 거리.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class ReachableStation {
+	Station station;
+
+	long distance;
+}
@@ -0,0 +1,44 @@
+package nextstep.subway.api.domain.model.vo;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.subway.api.domain.model.entity.Section;
+
+/**
+ * 한 노선에서 구간 추가/삭제로 인해 사라진 구간과 새로 생긴 구간.
+ * 예를 들어 중간 삽입은 기존 구간 하나가 사라지고 둘로 나뉜 구간이 생기며, 중간 역 삭제는 두 구간이 사라지고 합쳐진 구간 하나가 생긴다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class SectionChanges {
+	List<Section> removedSections;
+
+	List<Section> addedSections;
+
+	/**
+	 * 변경 전후의 구간 목록을 비교하여 변경분을 구한다.
+	 * Section의 동등성은 상행/하행역과 거리로 판단하므로, 같은 구간 객체인지로 비교한다.
+	 */
+	public static SectionChanges between(List<Section> before, List<Section> after) {
+		Set<Section> beforeSet = identitySetOf(before);
+		Set<Section> afterSet = identitySetOf(after);
+		return of(
+			before.stream().filter(section -> !afterSet.contains(section)).collect(Collectors.toList()),
+			after.stream().filter(section -> !beforeSet.contains(section)).collect(Collectors.toList()));
+	}
+
+	private static Set<Section> identitySetOf(List<Section> sections) {
+		Set<Section> set = Collections.newSetFromMap(new IdentityHashMap<>());
+		set.addAll(sections);
+		return set;
+	}
+}
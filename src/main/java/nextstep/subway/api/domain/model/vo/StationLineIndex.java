@@ -0,0 +1,136 @@
+package nextstep.subway.api.domain.model.vo;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+
+/**
+ * 노선망 스냅샷에서 역 id로 역 객체와 그 역을 지나는 노선 id 집합을 찾는 색인.
+ * <p>
+ * 노선망 전체로 만든 기본 색인(base)과, 그 이후 구간 변경으로 항목이 바뀐 역만 담은 덮어쓰기 색인(overlay)으로 나뉜다.
+ * 조회는 overlay를 먼저 보고 없으면 base를 보므로 O(1)이며,
+ * 구간 변경을 반영할 때는 base를 그대로 공유하고 overlay만 복사하여 변경된 역의 항목을 넣는다.
+ * overlay가 MAX_OVERLAY_SIZE를 넘으면 base에 합쳐 다시 만들므로, 변경마다 복사하는 항목 수는 노선망 크기와 관계없이 제한된다.
+ * <p>
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 동시에 읽어도 안전하다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/20
+ */
+final class StationLineIndex {
+
+	static final int MAX_OVERLAY_SIZE = 1024;
+
+	private final Map<Long, Entry> base;
+	private final Map<Long, Entry> overlay;
+
+	private StationLineIndex(Map<Long, Entry> base, Map<Long, Entry> overlay) {
+		this.base = base;
+		this.overlay = overlay;
+	}
+
+	static StationLineIndex build(Map<Long, List<Section>> sectionsByLine) {
+		Map<Long, Station> stationsById = new HashMap<>();
+		Map<Long, Set<Long>> lineIdsByStationId = new HashMap<>();
+		sectionsByLine.forEach((lineId, sections) -> sections.forEach(section -> {
+			stationsById.put(section.fetchUpStationId(), section.getUpStation());
+			stationsById.put(section.fetchDownStationId(), section.getDownStation());
+			lineIdsByStationId.computeIfAbsent(section.fetchUpStationId(), id -> new TreeSet<>()).add(lineId);
+			lineIdsByStationId.computeIfAbsent(section.fetchDownStationId(), id -> new TreeSet<>()).add(lineId);
+		}));
+
+		Map<Long, Entry> base = new HashMap<>();
+		stationsById.forEach((stationId, station) -> base.put(stationId, new Entry(station, lineIdsByStationId.get(stationId))));
+		return new StationLineIndex(base, Map.of());
+	}
+
+	Optional<Station> findStation(Long stationId) {
+		Entry entry = find(stationId);
+		return entry == null ? Optional.empty() : Optional.of(entry.station);
+	}
+
+	Set<Long> findLineIds(Long stationId) {
+		Entry entry = find(stationId);
+		return entry == null ? Set.of() : entry.lineIds;
+	}
+
+	/**
+	 * 색인에 있는 모든 역을 id 오름차순으로 반환한다. base와 overlay를 합쳐야 하므로 O(역 수)이다.
+	 */
+	List<Station> stations() {
+		Map<Long, Entry> merged = new HashMap<>(base);
+		merged.putAll(overlay);
+		return merged.values().stream()
+			.filter(Entry::isServed)
+			.map(entry -> entry.station)
+			.sorted(Comparator.comparing(Station::getId))
+			.collect(Collectors.toUnmodifiableList());
+	}
+
+	/**
+	 * 한 노선의 구간이 바뀐 뒤의 색인을 만든다.
+	 * touchedStations는 삭제되거나 추가된 구간의 역이고, lineStationIds는 변경 후 그 노선의 구간에 남아있는 역 id 집합이다.
+	 * touchedStations의 역만 그 노선의 포함 여부를 다시 판단하며, 어느 노선에도 속하지 않게 된 역은 색인에서 빠진다.
+	 */
+	StationLineIndex patch(Long lineId, Map<Long, Station> touchedStations, Set<Long> lineStationIds) {
+		Map<Long, Entry> patchedOverlay = new HashMap<>(overlay);
+		touchedStations.forEach((stationId, station) -> {
+			Entry current = find(stationId);
+			Set<Long> lineIds = new TreeSet<>(current == null ? Set.of() : current.lineIds);
+			if (lineStationIds.contains(stationId)) {
+				lineIds.add(lineId);
+			} else {
+				lineIds.remove(lineId);
+			}
+			patchedOverlay.put(stationId, new Entry(current == null ? station : current.station, lineIds));
+		});
+
+		if (patchedOverlay.size() <= MAX_OVERLAY_SIZE) {
+			return new StationLineIndex(base, patchedOverlay);
+		}
+
+		Map<Long, Entry> compacted = new HashMap<>(base);
+		patchedOverlay.forEach((stationId, entry) -> {
+			if (entry.isServed()) {
+				compacted.put(stationId, entry);
+			} else {
+				compacted.remove(stationId);
+			}
+		});
+		return new StationLineIndex(compacted, Map.of());
+	}
+
+	private Entry find(Long stationId) {
+		Entry entry = overlay.get(stationId);
+		if (entry == null) {
+			entry = base.get(stationId);
+		}
+		return entry == null || !entry.isServed() ? null : entry;
+	}
+
+	private static final class Entry {
+		private final Station station;
+		private final Set<Long> lineIds;
+
+		private Entry(Station station, Set<Long> lineIds) {
+			this.station = station;
+			this.lineIds = Collections.unmodifiableSet(lineIds);
+		}
+
+		/**
+		 * 어느 노선의 구간에도 속하지 않게 된 역은 overlay에서 base의 항목을 가리기 위해 빈 노선 집합으로 남는다.
+		 */
+		private boolean isServed() {
+			return !lineIds.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,249 @@
+package nextstep.subway.api.domain.model.vo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+
+/**
+ * 경로 탐색에 사용하는 지하철 노선망 스냅샷.
+ * 노선별 구간 목록을 한 번 읽어 메모리에 유지하며, 노선망이 변경되면 새 버전의 스냅샷으로 교체된다.
+ * <p>
+ * 경로 탐색기가 구간 목록으로부터 만들어내는 그래프와 같은 파생 구조는 attach()로 스냅샷에 함께 보관한다.
+ * 따라서 파생 구조는 스냅샷이 교체되기 전까지 재사용되고, 교체되면 스냅샷과 함께 버려진다.
+ * 단, 구간 변경분만으로 갱신할 수 있는 파생 구조(Patchable)는 patch()로 만든 다음 스냅샷에 갱신된 채로 옮겨진다.
+ * <p>
+ * 역마다 그 역을 지나는 노선 id 집합도 함께 색인해두므로, 역을 지나는 노선 조회와 노선의 역 포함 여부 확인은 노선과 구간을 훑지 않고 O(1)로 처리된다.
+ * 구간 변경은 patch()나 노선망 재조회로 새 스냅샷을 만들 때 반영된다.
+ * <p>
+ * patch()로 만든 스냅샷은 변경되지 않은 노선의 구간 목록과 역 색인을 이전 스냅샷과 공유하므로,
+ * 스냅샷을 만드는 비용은 노선망 전체가 아니라 변경된 노선의 구간 수(와 노선 수)에 비례한다.
+ * 모든 노선의 구간을 이어붙인 목록(getSections())은 처음 요청될 때 만든다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/13
+ */
+@Getter
+public class SubwayNetwork {
+
+	private static final Long UNASSIGNED_LINE_ID = 0L;
+
+	private final long version;
+
+	private final Map<Long, List<Section>> sectionsByLine;
+
+	@Getter(AccessLevel.NONE)
+	private volatile List<Section> sections;
+
+	@Getter(AccessLevel.NONE)
+	private final StationLineIndex stationLineIndex;
+
+	@Getter(AccessLevel.NONE)
+	private final Map<Long, String> lineNamesById;
+
+	@Getter(AccessLevel.NONE)
+	private final Map<Class<?>, Object> attachments = new ConcurrentHashMap<>();
+
+	private SubwayNetwork(long version, Map<Long, List<Section>> sectionsByLine, StationLineIndex stationLineIndex, Map<Long, String> lineNamesById) {
+		this.version = version;
+		this.sectionsByLine = sectionsByLine;
+		this.stationLineIndex = stationLineIndex;
+		this.lineNamesById = lineNamesById;
+	}
+
+	public static SubwayNetwork of(long version, Map<Long, List<Section>> sectionsByLine) {
+		return of(version, sectionsByLine, Map.of());
+	}
+
+	public static SubwayNetwork of(long version, Map<Long, List<Section>> sectionsByLine, Map<Long, String> lineNamesById) {
+		Map<Long, List<Section>> copied = Collections.unmodifiableMap(copyOf(sectionsByLine));
+		return new SubwayNetwork(version, copied, StationLineIndex.build(copied), Map.copyOf(lineNamesById));
+	}
+
+	/**
+	 * 노선 구분 없이 구간 목록만으로 노선망을 구성한다.
+	 */
+	public static SubwayNetwork from(List<Section> sections) {
+		return of(0L, Map.of(UNASSIGNED_LINE_ID, sections));
+	}
+
+	/**
+	 * 모든 노선의 구간을 노선 순서대로 이어붙인 목록. 처음 요청될 때 한 번 만들어 보관한다.
+	 */
+	public List<Section> getSections() {
+		List<Section> flattened = sections;
+		if (flattened == null) {
+			flattened = sectionsByLine.values().stream()
+				.flatMap(Collection::stream)
+				.collect(Collectors.toUnmodifiableList());
+			sections = flattened;
+		}
+		return flattened;
+	}
+
+	/**
+	 * 구간에 포함된 역을 id로 조회한다. 어느 구간에도 속하지 않은 역은 노선망에 없는 것으로 본다.
+	 */
+	public Optional<Station> findStation(Long stationId) {
+		return stationLineIndex.findStation(stationId);
+	}
+
+	/**
+	 * 노선망에 속한 모든 역을 id 오름차순으로 반환한다.
+	 */
+	public List<Station> getStations() {
+		return stationLineIndex.stations();
+	}
+
+	/**
+	 * 역을 지나는 노선 id를 오름차순으로 반환한다. 어느 구간에도 속하지 않은 역이라면 비어있다.
+	 */
+	public Set<Long> findLineIds(Long stationId) {
+		return stationLineIndex.findLineIds(stationId);
+	}
+
+	/**
+	 * 노선의 구간 중 하나라도 역을 상행역이나 하행역으로 가지고 있는지 확인한다.
+	 */
+	public boolean isServedBy(Long lineId, Long stationId) {
+		return findLineIds(stationId).contains(lineId);
+	}
+
+	/**
+	 * 노선 이름을 id로 조회한다. 노선 구분 없이 구성한 노선망이라면 비어있다.
+	 */
+	public Optional<String> findLineName(Long lineId) {
+		return Optional.ofNullable(lineNamesById.get(lineId));
+	}
+
+	/**
+	 * 한 노선의 구간 변경분만 반영한 다음 버전의 스냅샷을 만든다. DB에서 노선망을 다시 읽지 않는다.
+	 * 삭제된 구간은 id로 찾으며, 이 스냅샷에 없는 구간이거나 id가 없는 구간이 있다면 변경분을 신뢰할 수 없으므로 빈 값을 반환한다.
+	 * 추가된 구간이 이미 스냅샷에 있는 경우(변경분이 이미 반영된 노선망을 다시 읽은 경우)에도 빈 값을 반환한다.
+	 * 보관된 파생 구조 중 Patchable인 것은 변경분을 반영하여 새 스냅샷에 붙이고, 나머지는 새 스냅샷에서 필요할 때 다시 만든다.
+	 * 다른 노선의 구간 목록은 그대로 공유하고, 역 색인은 변경된 구간의 역 항목만 갱신한다.
+	 */
+	public Optional<SubwayNetwork> patch(long nextVersion, Long lineId, SectionChanges changes) {
+		Map<Long, Section> lineSectionsById = new LinkedHashMap<>();
+		for (Section section : sectionsByLine.getOrDefault(lineId, List.of())) {
+			lineSectionsById.put(section.getId(), section);
+		}
+
+		List<Section> removedSections = new ArrayList<>();
+		for (Section removed : changes.getRemovedSections()) {
+			Section existing = removed.getId() == null ? null : lineSectionsById.remove(removed.getId());
+			if (existing == null) {
+				return Optional.empty();
+			}
+			removedSections.add(existing);
+		}
+		if (changes.getAddedSections().stream().anyMatch(section -> section.getId() == null || lineSectionsById.containsKey(section.getId()))) {
+			return Optional.empty();
+		}
+
+		Map<Long, Station> addedStationsById = new HashMap<>();
+		List<Section> addedSections = changes.getAddedSections().stream()
+			.map(section -> toSnapshotSection(section, addedStationsById))
+			.collect(Collectors.toList());
+		List<Section> patchedLineSections = new ArrayList<>(lineSectionsById.values());
+		patchedLineSections.addAll(addedSections);
+
+		Map<Long, List<Section>> patchedSectionsByLine = new LinkedHashMap<>(sectionsByLine);
+		patchedSectionsByLine.put(lineId, Collections.unmodifiableList(patchedLineSections));
+		StationLineIndex patchedStationLineIndex = stationLineIndex.patch(lineId, collectStations(removedSections, addedSections), collectStationIds(patchedLineSections));
+		SubwayNetwork patched = new SubwayNetwork(nextVersion, Collections.unmodifiableMap(patchedSectionsByLine), patchedStationLineIndex, lineNamesById);
+
+		attachments.forEach((type, attachment) -> {
+			if (attachment instanceof Patchable) {
+				patched.attachments.put(type, ((Patchable<?>)attachment).patch(removedSections, addedSections));
+			}
+		});
+		return Optional.of(patched);
+	}
+
+	/**
+	 * 스냅샷에 보관된 파생 구조를 조회하고, 없다면 factory로 생성하여 보관한다.
+	 * ConcurrentHashMap.computeIfAbsent는 factory 내부에서 다른 파생 구조를 attach할 때 재귀 갱신 예외가 발생하므로
+	 * 생성은 잠금 밖에서 수행하고 먼저 등록된 값을 우선한다.
+	 */
+	public <T> T attach(Class<T> type, Function<SubwayNetwork, T> factory) {
+		Object attached = attachments.get(type);
+		if (attached == null) {
+			attached = factory.apply(this);
+			Object previous = attachments.putIfAbsent(type, attached);
+			if (previous != null) {
+				attached = previous;
+			}
+		}
+		return type.cast(attached);
+	}
+
+	/**
+	 * 이미 보관된 파생 구조만 조회한다. 생성 비용이 큰 구조를 다른 스레드에서 만들어 붙이는 경우에 사용한다.
+	 */
+	public <T> Optional<T> findAttached(Class<T> type) {
+		return Optional.ofNullable(attachments.get(type)).map(type::cast);
+	}
+
+	/**
+	 * 트랜잭션에서 사용한 엔티티 대신 스냅샷의 역 객체를 사용하는 구간으로 바꾼다.
+	 * 스냅샷에 없던 역은 id와 이름만 복사하며, 같은 역은 addedStationsById에 보관된 하나의 객체를 공유한다.
+	 */
+	private Section toSnapshotSection(Section section, Map<Long, Station> addedStationsById) {
+		return new Section(section.getId(), toSnapshotStation(section.getUpStation(), addedStationsById),
+			toSnapshotStation(section.getDownStation(), addedStationsById), section.getDistance());
+	}
+
+	private Station toSnapshotStation(Station station, Map<Long, Station> addedStationsById) {
+		return findStation(station.getId())
+			.orElseGet(() -> addedStationsById.computeIfAbsent(station.getId(), id -> new Station(id, station.getName())));
+	}
+
+	private static Map<Long, Station> collectStations(List<Section> removedSections, List<Section> addedSections) {
+		Map<Long, Station> stations = new HashMap<>();
+		for (List<Section> sections : List.of(removedSections, addedSections)) {
+			sections.forEach(section -> {
+				stations.put(section.fetchUpStationId(), section.getUpStation());
+				stations.put(section.fetchDownStationId(), section.getDownStation());
+			});
+		}
+		return stations;
+	}
+
+	private static Set<Long> collectStationIds(List<Section> sections) {
+		Set<Long> stationIds = new HashSet<>();
+		sections.forEach(section -> {
+			stationIds.add(section.fetchUpStationId());
+			stationIds.add(section.fetchDownStationId());
+		});
+		return stationIds;
+	}
+
+	private static Map<Long, List<Section>> copyOf(Map<Long, List<Section>> sectionsByLine) {
+		Map<Long, List<Section>> copied = new LinkedHashMap<>();
+		sectionsByLine.forEach((lineId, sections) -> copied.put(lineId, Collections.unmodifiableList(new ArrayList<>(sections))));
+		return copied;
+	}
+
+	/**
+	 * 구간 변경분만으로 갱신할 수 있는 파생 구조. patch()는 자신을 변경하지 않고 변경분을 반영한 새 구조를 반환해야 한다.
+	 * 이전 스냅샷을 읽고 있는 요청이 있을 수 있기 때문이다.
+	 */
+	public interface Patchable<T> {
+		T patch(List<Section> removedSections, List<Section> addedSections);
+	}
+}
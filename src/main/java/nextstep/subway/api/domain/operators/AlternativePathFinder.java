@@ -0,0 +1,20 @@
+package nextstep.subway.api.domain.operators;
+
+import java.util.List;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+public interface AlternativePathFinder {
+
+	/**
+	 * 출발역에서 도착역까지 같은 역을 두 번 지나지 않는 경로를 거리 오름차순으로 최대 k개 반환한다.
+	 * 첫 번째 경로는 최단 경로이며, 경로가 없다면 빈 목록을 반환한다.
+	 */
+	List<Path> findAlternativePaths(Station sourceStation, Station targetStation, int k, SubwayNetwork network);
+}
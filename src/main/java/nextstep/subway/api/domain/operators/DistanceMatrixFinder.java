@@ -0,0 +1,18 @@
+package nextstep.subway.api.domain.operators;
+
+import java.util.List;
+
+import nextstep.subway.api.domain.model.vo.DistanceMatrix;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+public interface DistanceMatrixFinder {
+
+	/**
+	 * 출발역 id 목록 × 도착역 id 목록의 최단 거리 행렬을 구한다. 행과 열은 요청한 순서를 그대로 따른다.
+	 */
+	DistanceMatrix findDistanceMatrix(List<Long> sourceIds, List<Long> targetIds, SubwayNetwork network);
+}
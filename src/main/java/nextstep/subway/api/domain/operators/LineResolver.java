@@ -3,6 +3,7 @@ package nextstep.subway.api.domain.operators;
 import java.util.List;
 import java.util.Optional;
 
+import nextstep.subway.api.domain.dto.outport.NetworkSectionInfo;
 import nextstep.subway.api.domain.model.entity.Line;
 
 /**
@@ -14,4 +15,14 @@ public interface LineResolver {
 
 	Optional<Line> fetchOptional(Long id);
 
+	/**
+	 * 노선 목록을 구간과 상행/하행역까지 함께 한 번의 쿼리로 조회한다. 노선 id 오름차순으로 반환한다.
+	 */
+	List<Line> fetchAllWithSectionsByIds(List<Long> ids);
+
+	/**
+	 * 노선망 전체의 구간을 소속 노선, 상행/하행역 정보와 함께 한 번의 쿼리로 조회한다.
+	 */
+	List<NetworkSectionInfo> fetchNetworkSections();
+
 }
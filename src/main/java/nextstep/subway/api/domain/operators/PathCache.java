@@ -0,0 +1,14 @@
+package nextstep.subway.api.domain.operators;
+
+import java.util.function.Supplier;
+
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.PathCacheKey;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/17
+ */
+public interface PathCache {
+	Path fetchOrCompute(PathCacheKey key, Supplier<Path> loader);
+}
@@ -1,10 +1,14 @@
 package nextstep.subway.api.domain.operators;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import nextstep.subway.api.domain.model.entity.Section;
 import nextstep.subway.api.domain.model.entity.Station;
 import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.common.exception.PathNotValidException;
 
 /**
  * @author : Rene Choi
@@ -12,5 +16,25 @@ import nextstep.subway.api.domain.model.vo.Path;
  */
 public interface PathFinder {
 
-	Path findShortestPath(Station sourceStation, Station targetStation, List<Section> sections);
+	Path findShortestPath(Station sourceStation, Station targetStation, SubwayNetwork network);
+
+	default Path findShortestPath(Station sourceStation, Station targetStation, List<Section> sections) {
+		return findShortestPath(sourceStation, targetStation, SubwayNetwork.from(sections));
+	}
+
+	/**
+	 * 하나의 출발역에서 여러 도착역까지의 최단 경로를 찾는다. 결과는 도착역 id를 키로 하며, 경로가 없는 도착역은 포함하지 않는다.
+	 * 기본 구현은 도착역마다 findShortestPath를 호출하므로, 한 번의 탐색으로 여러 도착역을 구할 수 있는 구현은 이를 재정의한다.
+	 */
+	default Map<Long, Path> findShortestPaths(Station sourceStation, List<Station> targetStations, SubwayNetwork network) {
+		Map<Long, Path> paths = new LinkedHashMap<>();
+		for (Station targetStation : targetStations) {
+			try {
+				paths.put(targetStation.getId(), findShortestPath(sourceStation, targetStation, network));
+			} catch (PathNotValidException e) {
+				// 경로가 없는 도착역은 결과에서 제외한다.
+			}
+		}
+		return paths;
+	}
 }
@@ -0,0 +1,17 @@
+package nextstep.subway.api.domain.operators;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+public interface ReachabilityChecker {
+
+	/**
+	 * 구간 방향을 따라 출발역에서 도착역으로 갈 수 있는지 경로를 탐색하지 않고 판단한다.
+	 * false라면 경로가 확실히 없으므로 탐색 없이 거절해도 되며, 노선망에 없는 역이 주어져도 false를 반환한다.
+	 */
+	boolean isReachable(Station sourceStation, Station targetStation, SubwayNetwork network);
+}
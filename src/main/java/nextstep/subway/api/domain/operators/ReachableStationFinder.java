@@ -0,0 +1,20 @@
+package nextstep.subway.api.domain.operators;
+
+import java.util.stream.Stream;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.ReachableStation;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+public interface ReachableStationFinder {
+
+	/**
+	 * 출발역에서 maxDistance 이내로 도달할 수 있는 역을 가까운 순서대로 반환한다. 출발역 자신은 포함하지 않는다.
+	 * 반환된 스트림은 소비되는 만큼만 탐색을 진행한다.
+	 */
+	Stream<ReachableStation> findReachableStations(Station sourceStation, long maxDistance, SubwayNetwork network);
+}
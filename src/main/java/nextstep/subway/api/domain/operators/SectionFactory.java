@@ -1,5 +1,8 @@
 package nextstep.subway.api.domain.operators;
 
+import java.util.List;
+import java.util.Map;
+
 import nextstep.subway.api.domain.dto.inport.LineCreateCommand;
 import nextstep.subway.api.domain.dto.inport.SectionCreateCommand;
 import nextstep.subway.api.domain.model.entity.Line;
@@ -16,6 +19,8 @@ public interface SectionFactory {
 
 	Section createSection(SectionCreateCommand command, Station upStation, Station downStation);
 
+	List<Section> createSections(List<SectionCreateCommand> commands, Map<Long, Station> stationsById);
+
 	void deleteByLine(Line line);
 
 }
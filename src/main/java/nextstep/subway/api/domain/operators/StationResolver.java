@@ -13,4 +13,6 @@ public interface StationResolver {
 	List<Station> fetchAll();
 
 	Optional<Station> fetchOptional(Long id);
+
+	List<Station> fetchAllByIds(List<Long> ids);
 }
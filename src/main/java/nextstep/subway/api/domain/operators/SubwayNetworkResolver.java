@@ -0,0 +1,11 @@
+package nextstep.subway.api.domain.operators;
+
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/13
+ */
+public interface SubwayNetworkResolver {
+	SubwayNetwork fetchNetwork();
+}
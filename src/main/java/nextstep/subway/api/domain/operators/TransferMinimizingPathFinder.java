@@ -0,0 +1,18 @@
+package nextstep.subway.api.domain.operators;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.LinePath;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+public interface TransferMinimizingPathFinder {
+
+	/**
+	 * 환승 횟수가 가장 적은 경로를 찾고, 환승 횟수가 같다면 거리가 가장 짧은 경로를 반환한다.
+	 * 경로가 없다면 PathNotValidException을 던진다.
+	 */
+	LinePath findLeastTransferPath(Station sourceStation, Station targetStation, SubwayNetwork network);
+}
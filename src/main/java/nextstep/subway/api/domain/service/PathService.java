@@ -1,6 +1,14 @@
 package nextstep.subway.api.domain.service;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import nextstep.subway.api.domain.dto.inport.PathQueryCommand;
+import nextstep.subway.api.interfaces.dto.response.PathAlternativesResponse;
+import nextstep.subway.api.interfaces.dto.response.PathBatchResponse;
+import nextstep.subway.api.interfaces.dto.response.PathMatrixResponse;
 import nextstep.subway.api.interfaces.dto.response.PathResponse;
+import nextstep.subway.api.interfaces.dto.response.ReachableStationResponse;
 
 /**
  * @author : Rene Choi
@@ -8,4 +16,16 @@ import nextstep.subway.api.interfaces.dto.response.PathResponse;
  */
 public interface PathService {
 	PathResponse findShortestPath(Long source, Long target);
+
+	PathResponse findShortestPathVia(Long source, Long target, List<Long> via);
+
+	PathResponse findLeastTransferPath(Long source, Long target);
+
+	PathBatchResponse findShortestPaths(List<PathQueryCommand> queries);
+
+	Stream<ReachableStationResponse> findReachableStations(Long source, Long maxDistance);
+
+	PathAlternativesResponse findAlternativePaths(Long source, Long target, int k);
+
+	PathMatrixResponse findDistanceMatrix(List<Long> sources, List<Long> targets);
 }
@@ -1,5 +1,7 @@
 package nextstep.subway.api.domain.service;
 
+import java.util.List;
+
 import nextstep.subway.api.domain.dto.inport.SectionCreateCommand;
 import nextstep.subway.api.domain.dto.outport.SectionInfo;
 
@@ -10,5 +12,9 @@ import nextstep.subway.api.domain.dto.outport.SectionInfo;
 public interface SectionService {
 	SectionInfo addSection(Long lineId, SectionCreateCommand createRequest);
 
+	List<SectionInfo> addSections(Long lineId, List<SectionCreateCommand> createCommands);
+
 	void deleteSection(Long lineId, Long stationId);
+
+	void deleteSections(Long lineId, List<Long> stationIds);
 }
@@ -2,6 +2,15 @@ package nextstep.subway.api.domain.service.impl;
 
 import static org.springframework.http.HttpStatus.*;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,11 +20,15 @@ import nextstep.subway.api.domain.dto.outport.SectionInfo;
 import nextstep.subway.api.domain.model.entity.Line;
 import nextstep.subway.api.domain.model.entity.Section;
 import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.event.SubwayNetworkChangedEvent;
+import nextstep.subway.api.domain.model.vo.SectionChanges;
 import nextstep.subway.api.domain.operators.LineResolver;
 import nextstep.subway.api.domain.operators.SectionFactory;
 import nextstep.subway.api.domain.operators.StationResolver;
 import nextstep.subway.api.domain.service.SectionService;
 import nextstep.subway.common.exception.LineNotFoundException;
+import nextstep.subway.common.exception.SectionCreationNotValidException;
+import nextstep.subway.common.exception.SectionDeletionNotValidException;
 import nextstep.subway.common.exception.StationNotFoundException;
 
 /**
@@ -26,9 +39,12 @@ import nextstep.subway.common.exception.StationNotFoundException;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class EnhancedSectionService implements SectionService {
+	private static final int MAX_BATCH_SECTIONS = 1000;
+
 	private final LineResolver lineResolver;
 	private final SectionFactory sectionFactory;
 	private final StationResolver stationResolver;
+	private final ApplicationEventPublisher eventPublisher;
 
 
 
@@ -57,7 +73,9 @@ public class EnhancedSectionService implements SectionService {
 
 		Section newSection = sectionFactory.createSection(createCommand, upStation, downStation);
 
+		List<Section> sectionsBefore = line.parseSections();
 		line.insertSection(newSection);
+		eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(lineId, SectionChanges.between(sectionsBefore, line.parseSections())));
 
 		return SectionInfo.from(newSection);
 	}
@@ -65,11 +83,86 @@ public class EnhancedSectionService implements SectionService {
 
 
 
+	/**
+	 * 순서대로 이어진 여러 구간을 하나의 트랜잭션에서 노선의 상행 종점 앞 또는 하행 종점 뒤에 추가한다. 새 노선을 구간 단위로 한꺼번에 구성할 때 사용한다.
+	 * 구간마다 addSection을 호출하면 요청마다 노선과 역을 다시 읽고, 기존 구간 전체를 검증하며, 따로 flush 하게 된다.
+	 * 여기서는 노선을 한 번 읽고, 모든 역을 하나의 IN 쿼리로 읽은 뒤, 색인을 사용하는 Sections.insertSections로 새 구간 수에 비례하는 한 번의 훑기로 검증/삽입한다.
+	 * 새 구간은 커밋 시점에 배치 insert로 저장되며, 노선망 변경 이벤트도 한 번만 발행한다.
+	 * 하나라도 추가할 수 없는 구간이 있다면 예외가 발생하고 모든 구간 추가가 롤백된다.
+	 *
+	 * @param lineId
+	 * @param createCommands
+	 * @return
+	 */
+	@Override
+	@Transactional
+	public List<SectionInfo> addSections(Long lineId, List<SectionCreateCommand> createCommands) {
+		validateBatch(createCommands);
+		Line line = lineResolver.fetchOptional(lineId).orElseThrow(() -> new LineNotFoundException(BAD_REQUEST));
+
+		List<Long> stationIds = createCommands.stream()
+			.flatMap(command -> Stream.of(command.getUpStationId(), command.getDownStationId()))
+			.distinct()
+			.collect(Collectors.toList());
+		Map<Long, Station> stationsById = stationResolver.fetchAllByIds(stationIds).stream()
+			.collect(Collectors.toMap(Station::getId, Function.identity()));
+		if (stationsById.size() != stationIds.size()) {
+			throw new StationNotFoundException(BAD_REQUEST);
+		}
+
+		List<Section> newSections = sectionFactory.createSections(createCommands, stationsById);
+
+		List<Section> sectionsBefore = line.parseSections();
+		line.insertSections(newSections);
+		eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(lineId, SectionChanges.between(sectionsBefore, line.parseSections())));
+
+		return newSections.stream().map(SectionInfo::from).collect(Collectors.toList());
+	}
+
 	@Override
 	@Transactional
 	public void deleteSection(Long lineId, Long stationId) {
 		Line line = lineResolver.fetchOptional(lineId).orElseThrow(() -> new LineNotFoundException(BAD_REQUEST));
 
+		List<Section> sectionsBefore = line.parseSections();
 		line.removeStation(stationId);
+		eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(lineId, SectionChanges.between(sectionsBefore, line.parseSections())));
+	}
+
+	/**
+	 * 여러 역을 하나의 트랜잭션에서 노선에서 제거한다.
+	 * 남는 구간은 Sections.removeStations가 노선을 한 번 따라가며 계산하므로, 제거된 역에 닿은 구간만 삭제되고 남는 역 사이마다 합친 구간 하나만 추가된다.
+	 * 노선망 변경 이벤트도 한 번만 발행한다.
+	 *
+	 * @param lineId
+	 * @param stationIds
+	 */
+	@Override
+	@Transactional
+	public void deleteSections(Long lineId, List<Long> stationIds) {
+		if (stationIds == null || stationIds.isEmpty() || stationIds.stream().anyMatch(Objects::isNull)) {
+			throw new SectionDeletionNotValidException("제거할 역이 없습니다.");
+		}
+		Line line = lineResolver.fetchOptional(lineId).orElseThrow(() -> new LineNotFoundException(BAD_REQUEST));
+
+		List<Section> sectionsBefore = line.parseSections();
+		line.removeStations(new LinkedHashSet<>(stationIds));
+		eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(lineId, SectionChanges.between(sectionsBefore, line.parseSections())));
+	}
+
+	private void validateBatch(List<SectionCreateCommand> createCommands) {
+		if (createCommands == null || createCommands.isEmpty()) {
+			throw new SectionCreationNotValidException("추가할 구간이 없습니다.");
+		}
+		if (createCommands.size() > MAX_BATCH_SECTIONS) {
+			throw new SectionCreationNotValidException("한 번에 추가할 수 있는 구간은 " + MAX_BATCH_SECTIONS + "개 이하입니다.");
+		}
+		if (createCommands.stream().anyMatch(command -> command == null || command.getUpStationId() == null || command.getDownStationId() == null
+			|| command.getDistance() == null)) {
+			throw new SectionCreationNotValidException("구간의 상행역, 하행역, 거리는 필수입니다.");
+		}
+		if (createCommands.stream().anyMatch(command -> Objects.equals(command.getUpStationId(), command.getDownStationId()))) {
+			throw new SectionCreationNotValidException("상행역과 하행역이 같은 구간은 추가할 수 없습니다.");
+		}
 	}
 }
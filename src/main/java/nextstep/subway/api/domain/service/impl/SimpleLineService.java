@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 
 import javax.persistence.EntityNotFoundException;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +14,7 @@ import nextstep.subway.api.domain.dto.inport.LineCreateCommand;
 import nextstep.subway.api.domain.dto.inport.LineUpdateCommand;
 import nextstep.subway.api.domain.model.entity.Line;
 import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.event.SubwayNetworkChangedEvent;
 import nextstep.subway.api.domain.operators.LineFactory;
 import nextstep.subway.api.domain.operators.LineResolver;
 import nextstep.subway.api.domain.operators.SectionFactory;
@@ -31,6 +33,7 @@ public class SimpleLineService implements LineService {
 	private final LineFactory lineFactory;
 	private final SectionFactory sectionFactory;
 	private final LineResolver lineResolver;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 기존의 방식은 Line을 먼저 만들고 Section을 생성
@@ -58,6 +61,7 @@ public class SimpleLineService implements LineService {
 		Section section = sectionFactory.createSection(command);
 		Line line = lineFactory.createLine(command);
 		line.addSection(section);
+		eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(line.getId()));
 
 		return LineResponse.from(line);
 	}
@@ -72,6 +76,13 @@ public class SimpleLineService implements LineService {
 		return LineResponse.from(fetchLineOrThrow(id));
 	}
 
+	/**
+	 * 노선 이름은 노선망 스냅샷에도 보관되어 최소 환승 경로의 구간별 노선 이름으로 응답하므로, 구간이 바뀌지 않더라도 노선망 변경으로 알린다.
+	 *
+	 * @param id
+	 * @param updateRequest
+	 * @return
+	 */
 	@Override
 	@Transactional
 	public LineResponse updateLineById(Long id, LineUpdateCommand updateRequest) {
@@ -80,6 +91,7 @@ public class SimpleLineService implements LineService {
 		line
 			.updateName(updateRequest.getName())
 			.updateColor(updateRequest.getColor());
+		eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(id));
 
 		return LineResponse.from(line);
 	}
@@ -91,6 +103,7 @@ public class SimpleLineService implements LineService {
 
 		sectionFactory.deleteByLine(line);
 		lineFactory.deleteLine(line);
+		eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(id));
 	}
 
 	private Line fetchLineOrThrow(Long id) {
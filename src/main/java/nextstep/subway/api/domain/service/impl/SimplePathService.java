@@ -1,20 +1,41 @@
 package nextstep.subway.api.domain.service.impl;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
-import nextstep.subway.api.domain.model.entity.Line;
-import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.dto.inport.PathQueryCommand;
 import nextstep.subway.api.domain.model.entity.Station;
-import nextstep.subway.api.domain.operators.LineResolver;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.PathCacheKey;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.AlternativePathFinder;
+import nextstep.subway.api.domain.operators.DistanceMatrixFinder;
+import nextstep.subway.api.domain.operators.PathCache;
 import nextstep.subway.api.domain.operators.PathFinder;
-import nextstep.subway.api.domain.operators.StationResolver;
+import nextstep.subway.api.domain.operators.ReachabilityChecker;
+import nextstep.subway.api.domain.operators.ReachableStationFinder;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+import nextstep.subway.api.domain.operators.TransferMinimizingPathFinder;
 import nextstep.subway.api.domain.service.PathService;
+import nextstep.subway.api.interfaces.dto.response.PathAlternativesResponse;
+import nextstep.subway.api.interfaces.dto.response.PathBatchItemResponse;
+import nextstep.subway.api.interfaces.dto.response.PathBatchResponse;
+import nextstep.subway.api.interfaces.dto.response.PathMatrixResponse;
 import nextstep.subway.api.interfaces.dto.response.PathResponse;
+import nextstep.subway.api.interfaces.dto.response.ReachableStationResponse;
 import nextstep.subway.common.exception.PathNotValidException;
 
 /**
@@ -25,10 +46,25 @@ import nextstep.subway.common.exception.PathNotValidException;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SimplePathService implements PathService {
-	private final StationResolver stationResolver;
+	private static final int MAX_ALTERNATIVE_PATHS = 10;
+	private static final int MAX_DISTANCE_MATRIX_CELLS = 1_000_000;
+	private static final int MAX_WAYPOINTS = 10;
+
 	private final PathFinder pathFinder;
 
-	private final LineResolver lineResolver;
+	private final SubwayNetworkResolver subwayNetworkResolver;
+
+	private final PathCache pathCache;
+
+	private final ReachableStationFinder reachableStationFinder;
+
+	private final AlternativePathFinder alternativePathFinder;
+
+	private final TransferMinimizingPathFinder transferMinimizingPathFinder;
+
+	private final DistanceMatrixFinder distanceMatrixFinder;
+
+	private final ReachabilityChecker reachabilityChecker;
 
 	/**
 	 * source station과 target station이 주어질 때 최단거리를 찾아주는 서비스
@@ -36,32 +72,264 @@ public class SimplePathService implements PathService {
 	 * 따라서 찾고자 하는 station에 대해 관련된 section을 불러오고 (다익스트라 알고리즘을 통해 최단 거리를 찾을 것이므로 여기서 순서는 상관없음)
 	 * 해당 값들을 파라미터로 pathFinder에게 넘겨주어 최단거리 탐색 알고리즘을 수행하여 최단거리를 찾아 Path 객체로 반환 받는다.
 	 * <p>
-	 * 노선의 개수를 불러오는 부분에서 모든 노선을 불러와 어플리케이션 연산으로 관련된 Section을 탐색하는데
-	 * db join연산으로 불러오는 방식과의 차이를 고려하여
-	 * 성능 이슈를 고려해보아야 한다.
+	 * 기존에는 매 요청마다 모든 노선을 불러와 관련된 Section을 걸러낸 뒤 그래프를 새로 만들었는데,
+	 * 요청이 많아지면 탐색 자체보다 노선 로딩과 그래프 생성 비용이 훨씬 커진다.
+	 * 따라서 노선망은 SubwayNetworkResolver가 메모리에 유지하고(노선망 변경 시에만 갱신), 그래프는 pathFinder가 노선망 스냅샷마다 한 번만 생성한다.
+	 * <p>
+	 * 같은 출발역/도착역 요청이 반복되는 경우가 많으므로 계산한 경로는 (출발역, 도착역, 노선망 버전) 키로 캐시한다.
+	 * 노선망이 변경되면 버전이 바뀌어 이전 경로는 조회되지 않는다.
+	 * 캐시에는 변경할 수 없는 Path를 두고 응답은 요청마다 새로 만들므로, 한 요청에서 응답을 고쳐도 다른 요청의 응답에 섞이지 않는다.
+	 * 역은 노선망 스냅샷에서 찾으므로 캐시 적중 여부와 관계없이 DB에 접근하지 않고, 이 메서드 자체는 트랜잭션을 시작하지 않는다.
+	 * <p>
+	 * 노선망 스냅샷은 요청 시작 시점에 한 번만 가져와 끝까지 사용하므로, 계산 도중 노선망이 교체되더라도 한 버전의 노선망으로만 계산한다.
+	 * 출발역에서 도착역으로 갈 수 없는 요청은 그래프 탐색 전에 도달 가능성 색인으로 거절한다.
+	 * 응답에는 계산에 사용한 노선망 버전을 함께 담는다.
 	 *
 	 * @param source
 	 * @param target
 	 * @return
 	 */
 	@Override
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	public PathResponse findShortestPath(Long source, Long target) {
-		if (source.equals(target)) {
-			throw new PathNotValidException("Source and target stations cannot be the same.");
+		validateSourceAndTarget(source, target);
+
+		SubwayNetwork network = subwayNetworkResolver.fetchNetwork();
+		Path path = pathCache.fetchOrCompute(PathCacheKey.of(source, target, network.getVersion()), () -> {
+			Station sourceStation = network.findStation(source).orElseThrow(PathNotValidException::new);
+			Station targetStation = network.findStation(target).orElseThrow(PathNotValidException::new);
+			validateReachable(sourceStation, targetStation, network);
+
+			return pathFinder.findShortestPath(sourceStation, targetStation, network);
+		});
+		return PathResponse.from(path, network.getVersion());
+	}
+
+	/**
+	 * 출발역에서 경유역들을 주어진 순서대로 지나 도착역까지 가는 최단 경로를 찾는다.
+	 * 인접한 두 역 사이의 최단 경로(구간)를 차례로 구해 하나의 경로로 이어붙이며, 전체 거리는 구간 거리의 합이다.
+	 * <p>
+	 * 구간마다 findShortestPath를 호출하면 구간마다 노선망을 다시 가져오고 역을 DB에서 조회하게 되므로,
+	 * 노선망 스냅샷은 한 번만 가져와 모든 구간에 사용하고 역도 스냅샷에서 찾는다.
+	 * 따라서 모든 구간이 같은 버전의 노선망으로 계산되고, 구간 탐색은 pathFinder가 스냅샷에 붙여둔 그래프와 스레드별 탐색 작업 공간을 재사용한다.
+	 * 경유역 수는 MAX_WAYPOINTS 이하로 제한하고, 연속한 두 역이 같거나 어느 한 구간이라도 갈 수 없다면 예외가 발생한다.
+	 *
+	 * @param source
+	 * @param target
+	 * @param via
+	 * @return
+	 */
+	@Override
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public PathResponse findShortestPathVia(Long source, Long target, List<Long> via) {
+		if (via.size() > MAX_WAYPOINTS) {
+			throw new PathNotValidException("The number of waypoints cannot exceed " + MAX_WAYPOINTS + ".");
+		}
+
+		List<Long> route = Stream.of(Stream.of(source), via.stream(), Stream.of(target))
+			.flatMap(stream -> stream)
+			.collect(Collectors.toList());
+		if (route.stream().anyMatch(Objects::isNull)) {
+			throw new PathNotValidException("Source and target stations are required.");
+		}
+		if (IntStream.range(1, route.size()).anyMatch(index -> route.get(index - 1).equals(route.get(index)))) {
+			throw new PathNotValidException("Consecutive stations on a route cannot be the same.");
+		}
+
+		SubwayNetwork network = subwayNetworkResolver.fetchNetwork();
+		List<Station> stations = route.stream()
+			.map(stationId -> network.findStation(stationId).orElseThrow(PathNotValidException::new))
+			.collect(Collectors.toList());
+
+		Path path = null;
+		for (int index = 1; index < stations.size(); index++) {
+			Station legSource = stations.get(index - 1);
+			Station legTarget = stations.get(index);
+			validateReachable(legSource, legTarget, network);
+
+			Path leg = pathFinder.findShortestPath(legSource, legTarget, network);
+			path = path == null ? leg : path.concat(leg);
+		}
+		return PathResponse.from(path, network.getVersion());
+	}
+
+	/**
+	 * 환승 횟수가 가장 적은 경로를 찾고, 환승 횟수가 같다면 거리가 가장 짧은 경로를 찾는다.
+	 * 최단 거리 경로와 달리 어느 노선으로 어디까지 이동하는지(legs)와 환승 횟수를 함께 반환한다.
+	 *
+	 * @param source
+	 * @param target
+	 * @return
+	 */
+	@Override
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public PathResponse findLeastTransferPath(Long source, Long target) {
+		validateSourceAndTarget(source, target);
+
+		SubwayNetwork network = subwayNetworkResolver.fetchNetwork();
+		Station sourceStation = network.findStation(source).orElseThrow(PathNotValidException::new);
+		Station targetStation = network.findStation(target).orElseThrow(PathNotValidException::new);
+		validateReachable(sourceStation, targetStation, network);
+		return PathResponse.from(transferMinimizingPathFinder.findLeastTransferPath(sourceStation, targetStation, network), network.getVersion());
+	}
+
+	/**
+	 * 여러 출발역/도착역 쌍의 최단 경로를 한 번에 찾는다.
+	 * 요청을 출발역별로 묶어 출발역마다 한 번의 one-to-many 탐색으로 모든 도착역의 경로를 구하고, 결과는 요청 순서대로 반환한다.
+	 * 역은 노선망 스냅샷에서 찾으므로 DB를 조회하지 않으며, 경로를 찾지 못한 쌍은 예외 대신 사유를 담아 반환한다.
+	 *
+	 * @param queries
+	 * @return
+	 */
+	@Override
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public PathBatchResponse findShortestPaths(List<PathQueryCommand> queries) {
+		if (queries.stream().anyMatch(query -> query.getSource() == null || query.getTarget() == null)) {
+			throw new PathNotValidException("Source and target stations are required.");
+		}
+
+		SubwayNetwork network = subwayNetworkResolver.fetchNetwork();
+		PathBatchItemResponse[] results = new PathBatchItemResponse[queries.size()];
+
+		Map<Long, List<Integer>> queryIndexesBySource = IntStream.range(0, queries.size()).boxed()
+			.collect(Collectors.groupingBy(index -> queries.get(index).getSource(), LinkedHashMap::new, Collectors.toList()));
+		queryIndexesBySource.forEach((source, queryIndexes) -> {
+			Map<Long, Path> paths = findShortestPathsFrom(source, queryIndexes.stream().map(index -> queries.get(index).getTarget()), network);
+			queryIndexes.forEach(index -> results[index] = toBatchItem(queries.get(index), paths, network.getVersion()));
+		});
+
+		return PathBatchResponse.of(Arrays.asList(results));
+	}
+
+	/**
+	 * 출발역에서 maxDistance 이내로 도달할 수 있는 모든 역을 가까운 순서대로 찾는다. maxDistance가 없으면 도달 가능한 모든 역을 찾는다.
+	 * 도착역마다 탐색하지 않고 출발역에서 한 번의 거리 제한 다익스트라 탐색으로 구하며,
+	 * 결과가 많을 수 있으므로 목록으로 모으지 않고 소비되는 만큼만 탐색하는 스트림으로 반환한다.
+	 * 출발역 검증은 호출 시점에 끝나고, 스트림은 노선망 스냅샷만 사용하므로 트랜잭션 밖에서 소비해도 된다.
+	 *
+	 * @param source
+	 * @param maxDistance
+	 * @return
+	 */
+	@Override
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public Stream<ReachableStationResponse> findReachableStations(Long source, Long maxDistance) {
+		if (source == null) {
+			throw new PathNotValidException("Source station is required.");
+		}
+		if (maxDistance != null && maxDistance < 0) {
+			throw new PathNotValidException("Max distance cannot be negative.");
 		}
 
-		Station sourceStation = stationResolver.fetchOptional(source).orElseThrow(PathNotValidException::new);
-		Station targetStation = stationResolver.fetchOptional(target).orElseThrow(PathNotValidException::new);
+		SubwayNetwork network = subwayNetworkResolver.fetchNetwork();
+		Station sourceStation = network.findStation(source).orElseThrow(PathNotValidException::new);
 
-		List<Line> lines = lineResolver.fetchAll();
+		return reachableStationFinder.findReachableStations(sourceStation, Optional.ofNullable(maxDistance).orElse(Long.MAX_VALUE), network)
+			.map(ReachableStationResponse::from);
+	}
 
-		List<Section> sections = lines.stream()
-			.filter(line -> line.isContainsAnyStation(source, target))
-			.map(Line::parseSections)
-			.flatMap(java.util.Collection::stream)
+	/**
+	 * 출발역에서 도착역까지 같은 역을 두 번 지나지 않는 경로를 거리 오름차순으로 최대 k개 찾는다. 첫 번째 경로는 최단 경로와 같다.
+	 * 혼잡 등으로 최단 경로를 피하고 싶을 때의 대안 경로 안내에 사용하며, k는 1 이상 MAX_ALTERNATIVE_PATHS 이하로 제한한다.
+	 *
+	 * @param source
+	 * @param target
+	 * @param k
+	 * @return
+	 */
+	@Override
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public PathAlternativesResponse findAlternativePaths(Long source, Long target, int k) {
+		validateSourceAndTarget(source, target);
+		if (k < 1 || k > MAX_ALTERNATIVE_PATHS) {
+			throw new PathNotValidException("The number of alternative paths must be between 1 and " + MAX_ALTERNATIVE_PATHS + ".");
+		}
+
+		SubwayNetwork network = subwayNetworkResolver.fetchNetwork();
+		Station sourceStation = network.findStation(source).orElseThrow(PathNotValidException::new);
+		Station targetStation = network.findStation(target).orElseThrow(PathNotValidException::new);
+		validateReachable(sourceStation, targetStation, network);
+		List<Path> paths = alternativePathFinder.findAlternativePaths(sourceStation, targetStation, k, network);
+		if (paths.isEmpty()) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+		return PathAlternativesResponse.of(paths.stream().map(path -> PathResponse.from(path, network.getVersion())).collect(Collectors.toList()));
+	}
+
+	/**
+	 * 출발역 목록 × 도착역 목록의 최단 거리 행렬을 구한다. 운임/분석 시스템처럼 경로 없이 거리만 대량으로 필요한 경우에 사용한다.
+	 * 출발역마다 한 번의 one-to-many 탐색으로 한 행을 채우며, 행들은 하나의 노선망 스냅샷을 함께 읽으면서 병렬로 계산된다.
+	 * 역은 노선망 스냅샷에서 찾으므로 DB를 조회하지 않으며, 노선망에 없는 역이거나 도달할 수 없는 칸은 null로 반환한다.
+	 * 응답 크기를 제한하기 위해 행렬의 칸 수는 MAX_DISTANCE_MATRIX_CELLS 이하로 제한한다.
+	 *
+	 * @param sources
+	 * @param targets
+	 * @return
+	 */
+	@Override
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public PathMatrixResponse findDistanceMatrix(List<Long> sources, List<Long> targets) {
+		if (sources == null || targets == null || sources.isEmpty() || targets.isEmpty()
+			|| Stream.concat(sources.stream(), targets.stream()).anyMatch(Objects::isNull)) {
+			throw new PathNotValidException("Source and target stations are required.");
+		}
+		if ((long)sources.size() * targets.size() > MAX_DISTANCE_MATRIX_CELLS) {
+			throw new PathNotValidException("The distance matrix cannot exceed " + MAX_DISTANCE_MATRIX_CELLS + " cells.");
+		}
+
+		SubwayNetwork network = subwayNetworkResolver.fetchNetwork();
+		return PathMatrixResponse.from(distanceMatrixFinder.findDistanceMatrix(sources, targets, network), network.getVersion());
+	}
+
+	/**
+	 * 도달할 수 없는 도착역은 탐색 대상에서 미리 빼서, one-to-many 탐색이 도달할 수 없는 역을 찾느라 노선망 전체를 훑지 않도록 한다.
+	 */
+	private Map<Long, Path> findShortestPathsFrom(Long source, Stream<Long> targets, SubwayNetwork network) {
+		Station sourceStation = network.findStation(source).orElse(null);
+		if (sourceStation == null) {
+			return Collections.emptyMap();
+		}
+
+		List<Station> targetStations = targets.filter(target -> !target.equals(source))
+			.distinct()
+			.map(network::findStation)
+			.flatMap(Optional::stream)
+			.filter(targetStation -> reachabilityChecker.isReachable(sourceStation, targetStation, network))
 			.collect(Collectors.toList());
+		if (targetStations.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return pathFinder.findShortestPaths(sourceStation, targetStations, network);
+	}
+
+	private void validateSourceAndTarget(Long source, Long target) {
+		if (source == null || target == null) {
+			throw new PathNotValidException("Source and target stations are required.");
+		}
+		if (source.equals(target)) {
+			throw new PathNotValidException("Source and target stations cannot be the same.");
+		}
+	}
 
-		return PathResponse.from(pathFinder.findShortestPath(sourceStation, targetStation, sections));
+	/**
+	 * 미리 계산된 도달 가능성 색인으로 경로가 없는 요청을 탐색 없이 거절한다.
+	 */
+	private void validateReachable(Station sourceStation, Station targetStation, SubwayNetwork network) {
+		if (!reachabilityChecker.isReachable(sourceStation, targetStation, network)) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+	}
+
+	private PathBatchItemResponse toBatchItem(PathQueryCommand query, Map<Long, Path> paths, long networkVersion) {
+		if (query.getSource().equals(query.getTarget())) {
+			return PathBatchItemResponse.failed(query.getSource(), query.getTarget(), "Source and target stations cannot be the same.");
+		}
+
+		Path path = paths.get(query.getTarget());
+		if (path == null) {
+			return PathBatchItemResponse.failed(query.getSource(), query.getTarget(), "No path exists between the source and target stations.");
+		}
+		return PathBatchItemResponse.succeeded(query.getSource(), query.getTarget(), PathResponse.from(path, networkVersion));
 	}
 
 }
@@ -1,22 +1,32 @@
 package nextstep.subway.api.domain.service.impl;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import nextstep.subway.api.domain.dto.inport.StationCreateCommand;
 import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.event.SubwayNetworkChangedEvent;
+import nextstep.subway.api.domain.operators.LineResolver;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
 import nextstep.subway.api.infrastructure.persistence.StationRepository;
+import nextstep.subway.api.interfaces.dto.response.LineResponse;
 import nextstep.subway.api.interfaces.dto.response.StationResponse;
+import nextstep.subway.common.exception.StationNotFoundException;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class StationService {
     private final StationRepository stationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SubwayNetworkResolver subwayNetworkResolver;
+    private final LineResolver lineResolver;
 
     @Transactional
     public StationResponse saveStation(StationCreateCommand stationCreateRequest) {
@@ -30,9 +40,29 @@ public class StationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 역을 지나는 노선을 id 오름차순으로 조회한다.
+     * 노선망 스냅샷의 역별 노선 색인으로 노선 id를 찾으므로, 역을 지나는 노선만 읽는다.
+     * 노선의 구간과 역은 fetch join으로 함께 읽으므로 노선 수와 관계없이 한 번의 쿼리로 응답을 만든다.
+     */
+    public List<LineResponse> findLinesByStationId(Long id) {
+        if (!stationRepository.existsById(id)) {
+            throw new StationNotFoundException();
+        }
+
+        List<Long> lineIds = new ArrayList<>(subwayNetworkResolver.fetchNetwork().findLineIds(id));
+        if (lineIds.isEmpty()) {
+            return List.of();
+        }
+        return lineResolver.fetchAllWithSectionsByIds(lineIds).stream()
+                .map(LineResponse::from)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(null));
     }
 
     private StationResponse createStationResponse(Station station) {
@@ -0,0 +1,137 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+
+/**
+ * 모든 정점 쌍의 최단 거리와 다음 정점(next hop)을 미리 계산해둔 행렬.
+ * <p>
+ * 정점마다 한 번씩 전체 다익스트라 탐색을 수행하여, (source, target) 쌍에 대해
+ * distances[source * n + target]에 최단 거리를, nextHops[source * n + target]에 source 다음으로 지나야 할 정점을 저장한다.
+ * 질의는 탐색 없이 거리 조회와 next hop을 따라가는 경로 복원만으로 끝나며, 경로 길이에 비례하는 시간이 든다.
+ * <p>
+ * 대신 메모리를 정점 수의 제곱에 비례하여(쌍마다 long 거리 + int next hop = 12 byte) 사용하므로
+ * 정점 수가 수천 개 수준인 노선망에서만 사용해야 한다.
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 동시에 질의해도 안전하다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/17
+ */
+public class AllPairsShortestPaths implements PathLookup {
+
+	private static final long BYTES_PER_PAIR = Long.BYTES + Integer.BYTES;
+
+	private final CompressedSparseRowGraph graph;
+	private final int vertexCount;
+	private final long[] distances;
+	private final int[] nextHops;
+	private final long preprocessingNanos;
+
+	private AllPairsShortestPaths(CompressedSparseRowGraph graph, long[] distances, int[] nextHops, long preprocessingNanos) {
+		this.graph = graph;
+		this.vertexCount = graph.vertexCount();
+		this.distances = distances;
+		this.nextHops = nextHops;
+		this.preprocessingNanos = preprocessingNanos;
+	}
+
+	public static AllPairsShortestPaths build(CompressedSparseRowGraph graph) {
+		long startedAt = System.nanoTime();
+		int vertexCount = graph.vertexCount();
+		if ((long)vertexCount * vertexCount > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many stations to build an all-pairs matrix: " + vertexCount);
+		}
+
+		long[] distances = new long[vertexCount * vertexCount];
+		int[] nextHops = new int[vertexCount * vertexCount];
+		int[] firstHops = new int[vertexCount];
+		for (int source = 0; source < vertexCount; source++) {
+			ShortestPathTree tree = DijkstraSearch.search(graph, source, CompressedSparseRowGraph.NO_VERTEX);
+			fillFirstHops(tree, source, firstHops);
+
+			int row = source * vertexCount;
+			for (int target = 0; target < vertexCount; target++) {
+				distances[row + target] = tree.distanceTo(target);
+				nextHops[row + target] = firstHops[target];
+			}
+		}
+
+		return new AllPairsShortestPaths(graph, distances, nextHops, System.nanoTime() - startedAt);
+	}
+
+	/**
+	 * 정점 수로부터 행렬이 차지할 메모리 크기를 추정한다.
+	 */
+	public static long estimateBytes(int vertexCount) {
+		return (long)vertexCount * vertexCount * BYTES_PER_PAIR;
+	}
+
+	@Override
+	public CompressedSparseRowGraph getGraph() {
+		return graph;
+	}
+
+	public long getPreprocessingNanos() {
+		return preprocessingNanos;
+	}
+
+	public long getMatrixBytes() {
+		return estimateBytes(vertexCount);
+	}
+
+	public boolean isReachable(int source, int target) {
+		return distances[source * vertexCount + target] != ShortestPathTree.UNREACHABLE;
+	}
+
+	public long distance(int source, int target) {
+		return distances[source * vertexCount + target];
+	}
+
+	/**
+	 * next hop을 따라가며 경로를 복원한다. 도달할 수 없는 쌍이라면 null을 반환한다.
+	 */
+	@Override
+	public Path pathOf(int source, int target) {
+		if (!isReachable(source, target)) {
+			return null;
+		}
+
+		List<Station> stations = new ArrayList<>();
+		stations.add(graph.stationAt(source));
+		for (int vertex = source; vertex != target; vertex = nextHops[vertex * vertexCount + target]) {
+			stations.add(graph.stationAt(nextHops[vertex * vertexCount + target]));
+		}
+		return Path.of(stations, distance(source, target));
+	}
+
+	/**
+	 * 최단 경로 트리에서 각 정점으로 가는 경로가 source 다음으로 지나는 정점을 구한다.
+	 * 직전 정점을 따라 올라가다 이미 구한 정점을 만나면 그 값을 경로 전체에 채워넣으므로 전체 O(n)이다.
+	 */
+	private static void fillFirstHops(ShortestPathTree tree, int source, int[] firstHops) {
+		Arrays.fill(firstHops, CompressedSparseRowGraph.NO_VERTEX);
+		firstHops[source] = source;
+
+		IntList pending = new IntList();
+		for (int target = 0; target < firstHops.length; target++) {
+			if (firstHops[target] != CompressedSparseRowGraph.NO_VERTEX || !tree.isReachable(target)) {
+				continue;
+			}
+
+			int vertex = target;
+			while (firstHops[vertex] == CompressedSparseRowGraph.NO_VERTEX && tree.parentOf(vertex) != source) {
+				pending.add(vertex);
+				vertex = tree.parentOf(vertex);
+			}
+			int firstHop = firstHops[vertex] == CompressedSparseRowGraph.NO_VERTEX ? vertex : firstHops[vertex];
+			firstHops[vertex] = firstHop;
+			while (!pending.isEmpty()) {
+				firstHops[pending.removeLast()] = firstHop;
+			}
+		}
+	}
+}
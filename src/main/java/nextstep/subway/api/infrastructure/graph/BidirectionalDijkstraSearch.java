@@ -0,0 +1,115 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+
+/**
+ * 정방향/역방향 인접 리스트를 함께 두고 출발역과 도착역 양쪽에서 동시에 탐색하는 양방향 다익스트라.
+ * <p>
+ * 정방향 탐색은 출발역에서 구간 방향(상행 → 하행)으로, 역방향 탐색은 도착역에서 구간을 거꾸로 따라가며,
+ * 간선을 완화할 때마다 반대편 탐색이 이미 도달한 정점이라면 두 거리의 합으로 최단 경로 후보(best)를 갱신한다.
+ * 두 큐의 최솟값 합이 best 이상이 되면 남은 어떤 경로도 best보다 짧을 수 없으므로 탐색을 멈춘다.
+ * 긴 경로일수록 한쪽 탐색 반경이 절반 정도로 줄어들어 확정(settle)하는 정점 수가 크게 줄어든다.
+ * <p>
+ * 두 그래프는 생성 이후 변경되지 않으므로 여러 스레드에서 동시에 질의해도 안전하다.
+ * 정방향 탐색은 스레드별 SearchWorkspace를, 역방향 탐색은 같은 스레드에서 빌린 두 번째 작업 공간을 사용하므로 질의마다 배열을 만들지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/16
+ */
+public class BidirectionalDijkstraSearch {
+
+	private static final long UNREACHABLE = ShortestPathTree.UNREACHABLE;
+
+	private final CompressedSparseRowGraph forwardGraph;
+	private final CompressedSparseRowGraph backwardGraph;
+
+	private BidirectionalDijkstraSearch(CompressedSparseRowGraph forwardGraph, CompressedSparseRowGraph backwardGraph) {
+		this.forwardGraph = forwardGraph;
+		this.backwardGraph = backwardGraph;
+	}
+
+	public static BidirectionalDijkstraSearch from(CompressedSparseRowGraph graph) {
+		return new BidirectionalDijkstraSearch(graph, graph.reversed());
+	}
+
+	public CompressedSparseRowGraph getGraph() {
+		return forwardGraph;
+	}
+
+	public RouteSearchResult findRoute(int source, int target) {
+		int vertexCount = forwardGraph.vertexCount();
+		SearchWorkspace forward = SearchWorkspace.begin(vertexCount);
+		SearchWorkspace backward = SearchWorkspace.acquire(vertexCount);
+		try {
+			return findRoute(source, target, forward, backward);
+		} finally {
+			backward.release();
+		}
+	}
+
+	private RouteSearchResult findRoute(int source, int target, SearchWorkspace forward, SearchWorkspace backward) {
+		forward.update(source, 0L, CompressedSparseRowGraph.NO_VERTEX);
+		forward.heap().insertOrDecrease(source, 0L);
+		backward.update(target, 0L, CompressedSparseRowGraph.NO_VERTEX);
+		backward.heap().insertOrDecrease(target, 0L);
+
+		long best = source == target ? 0L : UNREACHABLE;
+		int meeting = source == target ? source : CompressedSparseRowGraph.NO_VERTEX;
+		int settled = 0;
+
+		IndexedDaryHeap forwardHeap = forward.heap();
+		IndexedDaryHeap backwardHeap = backward.heap();
+		while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+			if (best != UNREACHABLE && forwardHeap.peekKey() + backwardHeap.peekKey() >= best) {
+				break;
+			}
+
+			boolean forwardTurn = forwardHeap.peekKey() <= backwardHeap.peekKey();
+			SearchWorkspace current = forwardTurn ? forward : backward;
+			SearchWorkspace opposite = forwardTurn ? backward : forward;
+			CompressedSparseRowGraph graph = forwardTurn ? forwardGraph : backwardGraph;
+			int vertex = current.heap().poll();
+			settled++;
+
+			long vertexDistance = current.distanceOf(vertex);
+			for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+				int next = graph.target(edge);
+				long distance = vertexDistance + graph.weight(edge);
+				if (distance < current.distanceOf(next)) {
+					current.update(next, distance, vertex);
+					current.heap().insertOrDecrease(next, distance);
+				}
+				long oppositeDistance = opposite.distanceOf(next);
+				if (oppositeDistance != UNREACHABLE && current.distanceOf(next) + oppositeDistance < best) {
+					best = current.distanceOf(next) + oppositeDistance;
+					meeting = next;
+				}
+			}
+		}
+
+		if (meeting == CompressedSparseRowGraph.NO_VERTEX) {
+			return RouteSearchResult.notFound(settled);
+		}
+		return RouteSearchResult.found(Path.of(stationsThrough(forward, backward, meeting), best), settled);
+	}
+
+	/**
+	 * 정방향 탐색의 직전 정점을 따라 출발역까지, 역방향 탐색의 직전 정점을 따라 도착역까지 이어 붙인다.
+	 */
+	private List<Station> stationsThrough(SearchWorkspace forward, SearchWorkspace backward, int meeting) {
+		List<Station> stations = new ArrayList<>();
+		for (int vertex = meeting; vertex != CompressedSparseRowGraph.NO_VERTEX; vertex = forward.parentOf(vertex)) {
+			stations.add(forwardGraph.stationAt(vertex));
+		}
+		Collections.reverse(stations);
+		for (int vertex = backward.parentOf(meeting); vertex != CompressedSparseRowGraph.NO_VERTEX; vertex = backward.parentOf(vertex)) {
+			stations.add(forwardGraph.stationAt(vertex));
+		}
+		return stations;
+	}
+}
@@ -0,0 +1,470 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * 구간 목록을 CSR(Compressed Sparse Row) 형태로 압축한 방향 그래프.
+ * <p>
+ * 역 id를 오름차순으로 정렬하여 0부터 시작하는 조밀한 정점 번호를 부여하고,
+ * 정점 v에서 나가는 간선은 targets[firstEdge(v)] ~ targets[endEdge(v) - 1] 구간에 연속으로 저장한다.
+ * 간선 가중치는 Section.distance와 같은 long 값을 그대로 사용한다.
+ * <p>
+ * Station 엔티티를 정점으로, DefaultWeightedEdge 객체를 간선으로 두는 JGraphT 그래프와 달리
+ * 정점/간선마다 객체나 해시 엔트리를 만들지 않으므로, 정점 수가 많아질수록 메모리 사용량과 포인터 추적 비용에서 차이가 커진다.
+ * 역 id → 정점 번호 변환은 정렬된 id 배열에 대한 이진 탐색으로 처리한다.
+ * <p>
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 동시에 읽어도 안전하다.
+ * 구간 변경분은 patch()로 반영하며, 이때도 기존 그래프는 그대로 두고 변경분을 반영한 새 그래프를 만든다.
+ * 새 그래프는 기존 그래프와 배열 대부분을 공유하므로 patch() 비용은 노선망 크기가 아니라 변경된 간선 수에 비례한다.
+ * <ul>
+ *     <li>정점별 간선 범위(first/end)와 역 정보는 PAGE_SIZE개씩 나눈 페이지에 두고, 변경된 정점이 속한 페이지만 복사한다.</li>
+ *     <li>간선 배열은 그래프 간에 공유하는 추가 전용 버퍼다. 변경된 정점의 간선 목록은 버퍼 끝에 새로 써서 범위만 옮기고,
+ *     이전 그래프는 자신이 가리키는 범위만 읽으므로 영향을 받지 않는다.</li>
+ *     <li>새 역은 기존 정점 뒤의 번호를 받고 별도의 id → 정점 표로 찾는다.</li>
+ * </ul>
+ * 버퍼의 여유 공간이 모자라거나 새 역이 MAX_ADDED_VERTICES개를 넘으면 살아있는 간선만으로 그래프를 다시 압축한다.
+ * 여유 공간은 압축할 때의 간선 수만큼 두므로, 압축 비용은 그동안의 변경 횟수로 나누면 변경마다 상수 시간이다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/14
+ */
+public class CompressedSparseRowGraph implements SubwayNetwork.Patchable<CompressedSparseRowGraph> {
+
+	public static final int NO_VERTEX = -1;
+
+	static final int MAX_ADDED_VERTICES = 1024;
+
+	private static final int PAGE_SHIFT = 10;
+	private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+	private static final int MIN_SPARE_EDGES = 64;
+
+	private final long[] stationIds;
+	private final Map<Long, Integer> addedVertices;
+	private final int vertexCount;
+	private final Station[][] stationPages;
+
+	private final int[][] firstPages;
+	private final int[][] endPages;
+
+	private final EdgeBuffer edgeBuffer;
+	private final int[] targets;
+	private final long[] weights;
+	private final int edgeLimit;
+	private final int edgeCount;
+
+	private CompressedSparseRowGraph(long[] stationIds, Map<Long, Integer> addedVertices, int vertexCount, Station[][] stationPages,
+		int[][] firstPages, int[][] endPages, EdgeBuffer edgeBuffer, int edgeLimit, int edgeCount) {
+		this.stationIds = stationIds;
+		this.addedVertices = addedVertices;
+		this.vertexCount = vertexCount;
+		this.stationPages = stationPages;
+		this.firstPages = firstPages;
+		this.endPages = endPages;
+		this.edgeBuffer = edgeBuffer;
+		this.targets = edgeBuffer.targets;
+		this.weights = edgeBuffer.weights;
+		this.edgeLimit = edgeLimit;
+		this.edgeCount = edgeCount;
+	}
+
+	public static CompressedSparseRowGraph from(List<Section> sections) {
+		long[] stationIds = collectSortedStationIds(sections);
+		Station[] stations = new Station[stationIds.length];
+
+		int[] tails = new int[sections.size()];
+		int[] heads = new int[sections.size()];
+		long[] weights = new long[sections.size()];
+		for (int i = 0; i < sections.size(); i++) {
+			Section section = sections.get(i);
+			tails[i] = Arrays.binarySearch(stationIds, section.fetchUpStationId());
+			heads[i] = Arrays.binarySearch(stationIds, section.fetchDownStationId());
+			weights[i] = section.getDistance();
+			stations[tails[i]] = section.getUpStation();
+			stations[heads[i]] = section.getDownStation();
+		}
+
+		return assemble(stationIds, Map.of(), stationIds.length, toPages(stations, stationIds.length), tails, heads, weights, sections.size());
+	}
+
+	/**
+	 * 모든 간선의 방향을 뒤집은 그래프를 만든다. 정점 번호와 역 정보는 그대로 공유한다.
+	 * 도착 정점 기준의 역방향 탐색에 사용한다.
+	 */
+	public CompressedSparseRowGraph reversed() {
+		int[] tails = new int[edgeCount];
+		int[] heads = new int[edgeCount];
+		long[] reversedWeights = new long[edgeCount];
+		int size = 0;
+		for (int vertex = 0; vertex < vertexCount; vertex++) {
+			for (int edge = firstEdge(vertex); edge < endEdge(vertex); edge++) {
+				tails[size] = targets[edge];
+				heads[size] = vertex;
+				reversedWeights[size++] = weights[edge];
+			}
+		}
+		return assemble(stationIds, addedVertices, vertexCount, stationPages, tails, heads, reversedWeights, size);
+	}
+
+	/**
+	 * 삭제된 구간의 간선을 빼고 추가된 구간의 간선을 더한 새 그래프를 만든다.
+	 * 변경된 구간의 상행역(간선의 출발 정점)마다 간선 목록을 다시 만들어 공유 버퍼 끝에 쓰고, 그 정점이 속한 페이지만 복사한다.
+	 * 이 그래프 이후로 버퍼를 이미 다른 그래프가 이어 쓰고 있거나(같은 그래프를 두 번 patch한 경우) 여유 공간이 모자라면 다시 압축한다.
+	 * 간선이 모두 사라진 역도 정점으로 남으며, 그런 정점은 어느 역에서도 도달할 수 없는 정점으로 취급된다.
+	 */
+	@Override
+	public CompressedSparseRowGraph patch(List<Section> removedSections, List<Section> addedSections) {
+		if (removedSections.isEmpty() && addedSections.isEmpty()) {
+			return this;
+		}
+
+		Map<Long, Integer> patchedAddedVertices = addedVertices;
+		Map<Integer, Station> newStations = new LinkedHashMap<>();
+		int patchedVertexCount = vertexCount;
+		for (Section section : addedSections) {
+			for (Station station : List.of(section.getUpStation(), section.getDownStation())) {
+				if (indexOf(station.getId()) != NO_VERTEX || patchedAddedVertices.containsKey(station.getId())) {
+					continue;
+				}
+				if (patchedAddedVertices == addedVertices) {
+					patchedAddedVertices = new HashMap<>(addedVertices);
+				}
+				patchedAddedVertices.put(station.getId(), patchedVertexCount);
+				newStations.put(patchedVertexCount++, station);
+			}
+		}
+
+		Map<Integer, PendingEdges> pendingEdgesByTail = collectPendingEdges(removedSections, addedSections, patchedAddedVertices);
+		int removedEdgeCount = 0;
+		int writtenEdgeCount = 0;
+		for (Map.Entry<Integer, PendingEdges> entry : pendingEdgesByTail.entrySet()) {
+			int tail = entry.getKey();
+			if (tail < vertexCount) {
+				removedEdgeCount += endEdge(tail) - firstEdge(tail);
+			}
+			writtenEdgeCount += entry.getValue().size;
+		}
+		int patchedEdgeCount = edgeCount - removedEdgeCount + writtenEdgeCount;
+
+		if (patchedAddedVertices.size() > MAX_ADDED_VERTICES || !edgeBuffer.claim(edgeLimit, writtenEdgeCount)) {
+			return compact(patchedVertexCount, newStations, pendingEdgesByTail, patchedEdgeCount);
+		}
+
+		StationPages patchedStationPages = new StationPages(stationPages, patchedVertexCount);
+		EdgeRangePages patchedFirstPages = new EdgeRangePages(firstPages, patchedVertexCount);
+		EdgeRangePages patchedEndPages = new EdgeRangePages(endPages, patchedVertexCount);
+		newStations.forEach(patchedStationPages::set);
+
+		int cursor = edgeLimit;
+		for (Map.Entry<Integer, PendingEdges> entry : pendingEdgesByTail.entrySet()) {
+			int tail = entry.getKey();
+			PendingEdges pendingEdges = entry.getValue();
+			System.arraycopy(pendingEdges.targets, 0, targets, cursor, pendingEdges.size);
+			System.arraycopy(pendingEdges.weights, 0, weights, cursor, pendingEdges.size);
+			patchedFirstPages.set(tail, cursor);
+			patchedEndPages.set(tail, cursor + pendingEdges.size);
+			cursor += pendingEdges.size;
+		}
+
+		return new CompressedSparseRowGraph(stationIds, patchedAddedVertices, patchedVertexCount, patchedStationPages.pages,
+			patchedFirstPages.pages, patchedEndPages.pages, edgeBuffer, cursor, patchedEdgeCount);
+	}
+
+	public int vertexCount() {
+		return vertexCount;
+	}
+
+	public int edgeCount() {
+		return edgeCount;
+	}
+
+	public int indexOf(Long stationId) {
+		if (stationId == null) {
+			return NO_VERTEX;
+		}
+		int index = Arrays.binarySearch(stationIds, stationId);
+		if (index >= 0) {
+			return index;
+		}
+		Integer added = addedVertices.get(stationId);
+		return added == null ? NO_VERTEX : added;
+	}
+
+	public int indexOf(Station station) {
+		return station == null ? NO_VERTEX : indexOf(station.getId());
+	}
+
+	public Station stationAt(int vertex) {
+		return stationPages[vertex >>> PAGE_SHIFT][vertex & PAGE_MASK];
+	}
+
+	public int firstEdge(int vertex) {
+		return firstPages[vertex >>> PAGE_SHIFT][vertex & PAGE_MASK];
+	}
+
+	public int endEdge(int vertex) {
+		return endPages[vertex >>> PAGE_SHIFT][vertex & PAGE_MASK];
+	}
+
+	public int target(int edge) {
+		return targets[edge];
+	}
+
+	public long weight(int edge) {
+		return weights[edge];
+	}
+
+	/**
+	 * 변경된 구간의 상행역마다, 기존 간선 중 삭제되지 않은 것과 추가된 간선을 모은 새 간선 목록을 만든다.
+	 * 삭제된 구간은 같은 방향, 같은 거리의 간선 중 하나로 보고 지운다. 그래프에 없는 역의 구간은 무시한다.
+	 */
+	private Map<Integer, PendingEdges> collectPendingEdges(List<Section> removedSections, List<Section> addedSections, Map<Long, Integer> patchedAddedVertices) {
+		Map<Integer, PendingEdges> pendingEdgesByTail = new LinkedHashMap<>();
+		for (Section section : removedSections) {
+			int tail = indexOf(section.fetchUpStationId());
+			int head = indexOf(section.fetchDownStationId());
+			if (tail != NO_VERTEX && head != NO_VERTEX) {
+				pendingEdgesByTail.computeIfAbsent(tail, this::copyEdges).remove(head, section.getDistance());
+			}
+		}
+		for (Section section : addedSections) {
+			int tail = resolveVertex(section.fetchUpStationId(), patchedAddedVertices);
+			int head = resolveVertex(section.fetchDownStationId(), patchedAddedVertices);
+			pendingEdgesByTail.computeIfAbsent(tail, this::copyEdges).add(head, section.getDistance());
+		}
+		return pendingEdgesByTail;
+	}
+
+	private PendingEdges copyEdges(int tail) {
+		PendingEdges pendingEdges = new PendingEdges();
+		if (tail < vertexCount) {
+			for (int edge = firstEdge(tail); edge < endEdge(tail); edge++) {
+				pendingEdges.add(targets[edge], weights[edge]);
+			}
+		}
+		return pendingEdges;
+	}
+
+	private int resolveVertex(Long stationId, Map<Long, Integer> patchedAddedVertices) {
+		int index = indexOf(stationId);
+		return index != NO_VERTEX ? index : patchedAddedVertices.get(stationId);
+	}
+
+	/**
+	 * 변경분을 반영한 살아있는 간선만으로 새 버퍼와 페이지를 만든다. 정점 번호도 역 id 오름차순으로 다시 부여한다.
+	 */
+	private CompressedSparseRowGraph compact(int patchedVertexCount, Map<Integer, Station> newStations, Map<Integer, PendingEdges> pendingEdgesByTail, int patchedEdgeCount) {
+		long[] ids = new long[patchedVertexCount];
+		Station[] stations = new Station[patchedVertexCount];
+		for (int vertex = 0; vertex < patchedVertexCount; vertex++) {
+			stations[vertex] = vertex < vertexCount ? stationAt(vertex) : newStations.get(vertex);
+			ids[vertex] = stations[vertex].getId();
+		}
+		long[] sortedIds = ids.clone();
+		Arrays.sort(sortedIds);
+		int[] renumbered = new int[patchedVertexCount];
+		Station[] sortedStations = new Station[patchedVertexCount];
+		for (int vertex = 0; vertex < patchedVertexCount; vertex++) {
+			renumbered[vertex] = Arrays.binarySearch(sortedIds, ids[vertex]);
+			sortedStations[renumbered[vertex]] = stations[vertex];
+		}
+
+		int[] tails = new int[patchedEdgeCount];
+		int[] heads = new int[patchedEdgeCount];
+		long[] compactedWeights = new long[patchedEdgeCount];
+		int size = 0;
+		for (int vertex = 0; vertex < patchedVertexCount; vertex++) {
+			PendingEdges pendingEdges = pendingEdgesByTail.get(vertex);
+			if (pendingEdges != null) {
+				for (int i = 0; i < pendingEdges.size; i++) {
+					tails[size] = renumbered[vertex];
+					heads[size] = renumbered[pendingEdges.targets[i]];
+					compactedWeights[size++] = pendingEdges.weights[i];
+				}
+			} else if (vertex < vertexCount) {
+				for (int edge = firstEdge(vertex); edge < endEdge(vertex); edge++) {
+					tails[size] = renumbered[vertex];
+					heads[size] = renumbered[targets[edge]];
+					compactedWeights[size++] = weights[edge];
+				}
+			}
+		}
+
+		return assemble(sortedIds, Map.of(), patchedVertexCount, toPages(sortedStations, patchedVertexCount), tails, heads, compactedWeights, size);
+	}
+
+	/**
+	 * (tail, head, weight) 간선 목록을 정점별로 모아 새 버퍼에 연속으로 쓰고, 정점별 간선 범위 페이지를 만든다.
+	 * 버퍼에는 간선 수만큼의 여유 공간을 두어 이후의 patch()가 버퍼를 복사하지 않고 이어 쓸 수 있게 한다.
+	 */
+	private static CompressedSparseRowGraph assemble(long[] stationIds, Map<Long, Integer> addedVertices, int vertexCount, Station[][] stationPages,
+		int[] tails, int[] heads, long[] weights, int edgeCount) {
+		int[] offsets = new int[vertexCount + 1];
+		for (int i = 0; i < edgeCount; i++) {
+			offsets[tails[i] + 1]++;
+		}
+		for (int vertex = 0; vertex < vertexCount; vertex++) {
+			offsets[vertex + 1] += offsets[vertex];
+		}
+
+		EdgeBuffer edgeBuffer = new EdgeBuffer(edgeCount * 2 + MIN_SPARE_EDGES, edgeCount);
+		int[] cursor = Arrays.copyOf(offsets, vertexCount);
+		for (int i = 0; i < edgeCount; i++) {
+			int edge = cursor[tails[i]]++;
+			edgeBuffer.targets[edge] = heads[i];
+			edgeBuffer.weights[edge] = weights[i];
+		}
+
+		int pageCount = pageCountOf(vertexCount);
+		int[][] firstPages = new int[pageCount][PAGE_SIZE];
+		int[][] endPages = new int[pageCount][PAGE_SIZE];
+		for (int vertex = 0; vertex < vertexCount; vertex++) {
+			firstPages[vertex >>> PAGE_SHIFT][vertex & PAGE_MASK] = offsets[vertex];
+			endPages[vertex >>> PAGE_SHIFT][vertex & PAGE_MASK] = offsets[vertex + 1];
+		}
+
+		return new CompressedSparseRowGraph(stationIds, addedVertices, vertexCount, stationPages, firstPages, endPages, edgeBuffer, edgeCount, edgeCount);
+	}
+
+	private static Station[][] toPages(Station[] stations, int vertexCount) {
+		Station[][] pages = new Station[pageCountOf(vertexCount)][];
+		for (int page = 0; page < pages.length; page++) {
+			pages[page] = Arrays.copyOfRange(stations, page << PAGE_SHIFT, (page + 1) << PAGE_SHIFT);
+		}
+		return pages;
+	}
+
+	private static int pageCountOf(int vertexCount) {
+		return (vertexCount + PAGE_SIZE - 1) >>> PAGE_SHIFT;
+	}
+
+	/**
+	 * 간선 배열을 공유하는 그래프들이 함께 쓰는 추가 전용 버퍼.
+	 * limit은 지금까지 쓰인 끝 위치이며, 그래프는 자신이 만들어질 때의 끝 위치(edgeLimit)에서만 이어 쓸 수 있다.
+	 */
+	private static final class EdgeBuffer {
+		private final int[] targets;
+		private final long[] weights;
+		private final AtomicInteger limit;
+
+		private EdgeBuffer(int capacity, int used) {
+			this.targets = new int[capacity];
+			this.weights = new long[capacity];
+			this.limit = new AtomicInteger(used);
+		}
+
+		/**
+		 * from 위치부터 count개의 간선을 쓸 공간을 확보한다. 다른 그래프가 이미 이어 썼거나 공간이 모자라면 false를 반환한다.
+		 */
+		private boolean claim(int from, int count) {
+			return from + count <= targets.length && limit.compareAndSet(from, from + count);
+		}
+	}
+
+	/**
+	 * patch() 중에 페이지 목록을 복사하고, 값을 쓰는 페이지만 처음 쓸 때 복사하는 정점별 간선 범위 페이지.
+	 */
+	private static final class EdgeRangePages {
+		private final int[][] pages;
+		private final boolean[] copied;
+
+		private EdgeRangePages(int[][] sharedPages, int vertexCount) {
+			this.pages = Arrays.copyOf(sharedPages, Math.max(sharedPages.length, pageCountOf(vertexCount)));
+			this.copied = new boolean[pages.length];
+			for (int page = sharedPages.length; page < pages.length; page++) {
+				pages[page] = new int[PAGE_SIZE];
+				copied[page] = true;
+			}
+		}
+
+		private void set(int vertex, int value) {
+			int page = vertex >>> PAGE_SHIFT;
+			if (!copied[page]) {
+				pages[page] = pages[page].clone();
+				copied[page] = true;
+			}
+			pages[page][vertex & PAGE_MASK] = value;
+		}
+	}
+
+	private static final class StationPages {
+		private final Station[][] pages;
+		private final boolean[] copied;
+
+		private StationPages(Station[][] sharedPages, int vertexCount) {
+			this.pages = Arrays.copyOf(sharedPages, Math.max(sharedPages.length, pageCountOf(vertexCount)));
+			this.copied = new boolean[pages.length];
+			for (int page = sharedPages.length; page < pages.length; page++) {
+				pages[page] = new Station[PAGE_SIZE];
+				copied[page] = true;
+			}
+		}
+
+		private void set(int vertex, Station station) {
+			int page = vertex >>> PAGE_SHIFT;
+			if (!copied[page]) {
+				pages[page] = pages[page].clone();
+				copied[page] = true;
+			}
+			pages[page][vertex & PAGE_MASK] = station;
+		}
+	}
+
+	/**
+	 * patch() 중에 한 정점의 새 간선 목록을 모으는 가변 목록.
+	 */
+	private static final class PendingEdges {
+		private int[] targets = new int[4];
+		private long[] weights = new long[4];
+		private int size;
+
+		private void add(int target, long weight) {
+			if (size == targets.length) {
+				targets = Arrays.copyOf(targets, size * 2);
+				weights = Arrays.copyOf(weights, size * 2);
+			}
+			targets[size] = target;
+			weights[size++] = weight;
+		}
+
+		/**
+		 * 같은 도착 정점, 같은 거리의 간선 하나를 지운다.
+		 */
+		private void remove(int target, long weight) {
+			for (int i = 0; i < size; i++) {
+				if (targets[i] == target && weights[i] == weight) {
+					System.arraycopy(targets, i + 1, targets, i, size - i - 1);
+					System.arraycopy(weights, i + 1, weights, i, size - i - 1);
+					size--;
+					return;
+				}
+			}
+		}
+	}
+
+	private static long[] collectSortedStationIds(List<Section> sections) {
+		long[] ids = new long[sections.size() * 2];
+		for (int i = 0; i < sections.size(); i++) {
+			ids[2 * i] = sections.get(i).fetchUpStationId();
+			ids[2 * i + 1] = sections.get(i).fetchDownStationId();
+		}
+		Arrays.sort(ids);
+
+		int distinct = 0;
+		for (int i = 0; i < ids.length; i++) {
+			if (i == 0 || ids[i] != ids[i - 1]) {
+				ids[distinct++] = ids[i];
+			}
+		}
+		return Arrays.copyOf(ids, distinct);
+	}
+}
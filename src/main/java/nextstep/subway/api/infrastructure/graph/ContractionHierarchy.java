@@ -0,0 +1,564 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+
+/**
+ * 구간 그래프에 대한 Contraction Hierarchies(CH) 인덱스.
+ * <p>
+ * 전처리 단계에서는 중요도가 낮은 정점부터 하나씩 축약(contract)한다.
+ * 정점 v를 축약할 때 u → v → w 경로를 대신할 다른 경로(witness)가 없다면 u → w 지름길(shortcut) 간선을 추가하며,
+ * 지름길은 자신이 대신하는 두 간선을 기억하여 나중에 원래 역 목록으로 풀어낼 수 있다.
+ * 축약 순서는 edge difference(추가될 지름길 수 - 제거되는 간선 수)와 이미 축약된 이웃 수로 정하고, lazy update로 갱신한다.
+ * <p>
+ * 질의 단계에서는 출발역에서 순위가 높아지는 방향(upward)으로, 도착역에서 역방향으로 순위가 높아지는 방향으로
+ * 양방향 다익스트라 탐색을 수행하며, 두 탐색이 만나는 정점 중 거리 합이 최소인 곳이 최단 경로가 된다.
+ * 두 탐색 모두 순위가 높은 정점으로만 진행하므로, 일반 다익스트라에 비해 확정하는 정점 수가 크게 줄어든다.
+ * <p>
+ * 전처리 결과는 변경되지 않으며, 질의용 작업 공간은 스레드별로 두어 동시에 질의해도 안전하다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/15
+ */
+public class ContractionHierarchy {
+
+	private static final int ORIGINAL_EDGE = -1;
+	private static final long INFINITY = Long.MAX_VALUE;
+
+	private final CompressedSparseRowGraph graph;
+	private final int[] ranks;
+
+	private final int[] edgeTails;
+	private final int[] edgeHeads;
+	private final long[] edgeWeights;
+	private final int[] firstChildren;
+	private final int[] secondChildren;
+
+	private final int[] upwardOffsets;
+	private final int[] upwardEdges;
+	private final int[] downwardOffsets;
+	private final int[] downwardEdges;
+
+	private final int shortcutCount;
+	private final long preprocessingNanos;
+
+	private ContractionHierarchy(CompressedSparseRowGraph graph, Contractor contractor, long preprocessingNanos) {
+		this.graph = graph;
+		this.ranks = contractor.ranks;
+		this.edgeTails = Arrays.copyOf(contractor.edgeTails, contractor.edgeCount);
+		this.edgeHeads = Arrays.copyOf(contractor.edgeHeads, contractor.edgeCount);
+		this.edgeWeights = Arrays.copyOf(contractor.edgeWeights, contractor.edgeCount);
+		this.firstChildren = Arrays.copyOf(contractor.firstChildren, contractor.edgeCount);
+		this.secondChildren = Arrays.copyOf(contractor.secondChildren, contractor.edgeCount);
+		this.shortcutCount = contractor.shortcutCount;
+		this.preprocessingNanos = preprocessingNanos;
+
+		int vertexCount = graph.vertexCount();
+		this.upwardOffsets = new int[vertexCount + 1];
+		this.downwardOffsets = new int[vertexCount + 1];
+		for (int edge = 0; edge < edgeTails.length; edge++) {
+			if (isUpward(edge)) {
+				upwardOffsets[edgeTails[edge] + 1]++;
+			} else {
+				downwardOffsets[edgeHeads[edge] + 1]++;
+			}
+		}
+		for (int vertex = 0; vertex < vertexCount; vertex++) {
+			upwardOffsets[vertex + 1] += upwardOffsets[vertex];
+			downwardOffsets[vertex + 1] += downwardOffsets[vertex];
+		}
+
+		this.upwardEdges = new int[upwardOffsets[vertexCount]];
+		this.downwardEdges = new int[downwardOffsets[vertexCount]];
+		int[] upwardCursor = Arrays.copyOf(upwardOffsets, vertexCount);
+		int[] downwardCursor = Arrays.copyOf(downwardOffsets, vertexCount);
+		for (int edge = 0; edge < edgeTails.length; edge++) {
+			if (isUpward(edge)) {
+				upwardEdges[upwardCursor[edgeTails[edge]]++] = edge;
+			} else {
+				downwardEdges[downwardCursor[edgeHeads[edge]]++] = edge;
+			}
+		}
+	}
+
+	public static ContractionHierarchy build(CompressedSparseRowGraph graph) {
+		long startedAt = System.nanoTime();
+		Contractor contractor = new Contractor(graph);
+		contractor.contractAll();
+		return new ContractionHierarchy(graph, contractor, System.nanoTime() - startedAt);
+	}
+
+	public CompressedSparseRowGraph getGraph() {
+		return graph;
+	}
+
+	public int getShortcutCount() {
+		return shortcutCount;
+	}
+
+	public long getPreprocessingNanos() {
+		return preprocessingNanos;
+	}
+
+	/**
+	 * 출발 정점과 도착 정점 사이의 최단 경로를 양방향 upward 탐색으로 찾고, 지름길을 풀어 실제 역 목록으로 반환한다.
+	 */
+	public RouteSearchResult findRoute(int source, int target) {
+		QueryWorkspace workspace = QueryWorkspace.begin(graph.vertexCount());
+		IndexedDaryHeap forwardHeap = workspace.forwardHeap;
+		IndexedDaryHeap backwardHeap = workspace.backwardHeap;
+
+		workspace.updateForward(source, 0L, ORIGINAL_EDGE);
+		forwardHeap.insertOrDecrease(source, 0L);
+		workspace.updateBackward(target, 0L, ORIGINAL_EDGE);
+		backwardHeap.insertOrDecrease(target, 0L);
+
+		long best = INFINITY;
+		int meeting = CompressedSparseRowGraph.NO_VERTEX;
+		int settled = 0;
+
+		while (true) {
+			boolean forwardActive = !forwardHeap.isEmpty() && forwardHeap.peekKey() < best;
+			boolean backwardActive = !backwardHeap.isEmpty() && backwardHeap.peekKey() < best;
+			if (!forwardActive && !backwardActive) {
+				break;
+			}
+
+			boolean forwardTurn = forwardActive && (!backwardActive || forwardHeap.peekKey() <= backwardHeap.peekKey());
+			int vertex = forwardTurn ? forwardHeap.poll() : backwardHeap.poll();
+			settled++;
+
+			long forwardDistance = workspace.forwardDistanceOf(vertex);
+			long backwardDistance = workspace.backwardDistanceOf(vertex);
+			if (forwardDistance != INFINITY && backwardDistance != INFINITY && forwardDistance + backwardDistance < best) {
+				best = forwardDistance + backwardDistance;
+				meeting = vertex;
+			}
+
+			if (forwardTurn) {
+				relaxUpward(workspace, vertex, forwardDistance);
+			} else {
+				relaxDownward(workspace, vertex, backwardDistance);
+			}
+		}
+
+		if (meeting == CompressedSparseRowGraph.NO_VERTEX) {
+			return RouteSearchResult.notFound(settled);
+		}
+		return RouteSearchResult.found(Path.of(unpack(workspace, source, target, meeting), best), settled);
+	}
+
+	/**
+	 * 출발역에서 여러 도착역까지의 최단 경로를 구한다. 그래프에 없거나 도달할 수 없는 도착역은 결과에서 제외한다.
+	 * 출발역의 upward 탐색은 도착역과 무관하므로 끝까지 한 번만 수행하고, 도착역마다 역방향 upward 탐색만 새로 하며
+	 * 역방향 힙의 최솟값이 지금까지 찾은 거리 이상이 되면 그 도착역의 탐색을 멈춘다.
+	 */
+	public Map<Long, Path> findPaths(Station sourceStation, List<Station> targetStations) {
+		Map<Long, Path> paths = new LinkedHashMap<>();
+		int source = graph.indexOf(sourceStation);
+		if (source == CompressedSparseRowGraph.NO_VERTEX) {
+			return paths;
+		}
+
+		QueryWorkspace workspace = QueryWorkspace.begin(graph.vertexCount());
+		workspace.updateForward(source, 0L, ORIGINAL_EDGE);
+		workspace.forwardHeap.insertOrDecrease(source, 0L);
+		while (!workspace.forwardHeap.isEmpty()) {
+			int vertex = workspace.forwardHeap.poll();
+			relaxUpward(workspace, vertex, workspace.forwardDistanceOf(vertex));
+		}
+
+		for (Station targetStation : targetStations) {
+			int target = graph.indexOf(targetStation);
+			if (target == CompressedSparseRowGraph.NO_VERTEX) {
+				continue;
+			}
+
+			workspace.beginBackward();
+			workspace.updateBackward(target, 0L, ORIGINAL_EDGE);
+			workspace.backwardHeap.insertOrDecrease(target, 0L);
+
+			long best = INFINITY;
+			int meeting = CompressedSparseRowGraph.NO_VERTEX;
+			while (!workspace.backwardHeap.isEmpty() && workspace.backwardHeap.peekKey() < best) {
+				int vertex = workspace.backwardHeap.poll();
+				long backwardDistance = workspace.backwardDistanceOf(vertex);
+				long forwardDistance = workspace.forwardDistanceOf(vertex);
+				if (forwardDistance != INFINITY && forwardDistance + backwardDistance < best) {
+					best = forwardDistance + backwardDistance;
+					meeting = vertex;
+				}
+				relaxDownward(workspace, vertex, backwardDistance);
+			}
+
+			if (meeting != CompressedSparseRowGraph.NO_VERTEX) {
+				paths.put(targetStation.getId(), Path.of(unpack(workspace, source, target, meeting), best));
+			}
+		}
+		return paths;
+	}
+
+	private void relaxUpward(QueryWorkspace workspace, int vertex, long vertexDistance) {
+		for (int i = upwardOffsets[vertex]; i < upwardOffsets[vertex + 1]; i++) {
+			int edge = upwardEdges[i];
+			int next = edgeHeads[edge];
+			long distance = vertexDistance + edgeWeights[edge];
+			if (distance < workspace.forwardDistanceOf(next)) {
+				workspace.updateForward(next, distance, edge);
+				workspace.forwardHeap.insertOrDecrease(next, distance);
+			}
+		}
+	}
+
+	private void relaxDownward(QueryWorkspace workspace, int vertex, long vertexDistance) {
+		for (int i = downwardOffsets[vertex]; i < downwardOffsets[vertex + 1]; i++) {
+			int edge = downwardEdges[i];
+			int next = edgeTails[edge];
+			long distance = vertexDistance + edgeWeights[edge];
+			if (distance < workspace.backwardDistanceOf(next)) {
+				workspace.updateBackward(next, distance, edge);
+				workspace.backwardHeap.insertOrDecrease(next, distance);
+			}
+		}
+	}
+
+	private List<Station> unpack(QueryWorkspace workspace, int source, int target, int meeting) {
+		IntList forwardPart = new IntList();
+		for (int vertex = meeting; vertex != source; vertex = edgeTails[workspace.forwardParents[vertex]]) {
+			forwardPart.add(workspace.forwardParents[vertex]);
+		}
+
+		List<Station> stations = new ArrayList<>();
+		stations.add(graph.stationAt(source));
+		for (int i = forwardPart.size() - 1; i >= 0; i--) {
+			appendUnpacked(forwardPart.get(i), stations);
+		}
+		for (int vertex = meeting; vertex != target; vertex = edgeHeads[workspace.backwardParents[vertex]]) {
+			appendUnpacked(workspace.backwardParents[vertex], stations);
+		}
+		return stations;
+	}
+
+	/**
+	 * 지름길 간선을 재귀 없이 원래 간선들로 풀어내며, 각 원래 간선의 도착역을 순서대로 추가한다.
+	 */
+	private void appendUnpacked(int edge, List<Station> stations) {
+		IntList stack = new IntList();
+		stack.add(edge);
+		while (!stack.isEmpty()) {
+			int current = stack.removeLast();
+			if (firstChildren[current] == ORIGINAL_EDGE) {
+				stations.add(graph.stationAt(edgeHeads[current]));
+				continue;
+			}
+			stack.add(secondChildren[current]);
+			stack.add(firstChildren[current]);
+		}
+	}
+
+	private boolean isUpward(int edge) {
+		return ranks[edgeHeads[edge]] > ranks[edgeTails[edge]];
+	}
+
+	/**
+	 * 양방향 질의에 필요한 거리/직전 간선/힙 배열을 스레드마다 하나씩 두고, 노선망 버전이 바뀌어 계층이 새로 만들어져도 재사용하는 작업 공간.
+	 * SearchWorkspace와 같이 질의마다 세대 번호를 올려 배열 초기화를 대신하고, 더 큰 그래프가 들어올 때만 배열을 키운다.
+	 * 한 출발역에서 여러 도착역을 찾을 때는 역방향 세대 번호만 올려 정방향 탐색 결과를 그대로 재사용한다.
+	 * 계층마다 ThreadLocal을 두면 이전 버전의 계층이 버려진 뒤에도 요청 스레드마다 O(V) 작업 공간이 남아있게 되므로 정적 ThreadLocal 하나만 사용한다.
+	 */
+	private static final class QueryWorkspace {
+		private static final ThreadLocal<QueryWorkspace> WORKSPACES = ThreadLocal.withInitial(QueryWorkspace::new);
+
+		private int[] forwardStamps = new int[0];
+		private int[] backwardStamps = new int[0];
+		private long[] forwardDistances = new long[0];
+		private long[] backwardDistances = new long[0];
+		private int[] forwardParents = new int[0];
+		private int[] backwardParents = new int[0];
+		private IndexedDaryHeap forwardHeap = new IndexedDaryHeap(0);
+		private IndexedDaryHeap backwardHeap = new IndexedDaryHeap(0);
+		private int forwardGeneration;
+		private int backwardGeneration;
+
+		private static QueryWorkspace begin(int vertexCount) {
+			QueryWorkspace workspace = WORKSPACES.get();
+			workspace.prepare(vertexCount);
+			return workspace;
+		}
+
+		private long forwardDistanceOf(int vertex) {
+			return forwardStamps[vertex] == forwardGeneration ? forwardDistances[vertex] : INFINITY;
+		}
+
+		private long backwardDistanceOf(int vertex) {
+			return backwardStamps[vertex] == backwardGeneration ? backwardDistances[vertex] : INFINITY;
+		}
+
+		private void updateForward(int vertex, long distance, int parentEdge) {
+			forwardStamps[vertex] = forwardGeneration;
+			forwardDistances[vertex] = distance;
+			forwardParents[vertex] = parentEdge;
+		}
+
+		private void updateBackward(int vertex, long distance, int parentEdge) {
+			backwardStamps[vertex] = backwardGeneration;
+			backwardDistances[vertex] = distance;
+			backwardParents[vertex] = parentEdge;
+		}
+
+		private void prepare(int vertexCount) {
+			if (forwardStamps.length < vertexCount) {
+				forwardStamps = new int[vertexCount];
+				backwardStamps = new int[vertexCount];
+				forwardDistances = new long[vertexCount];
+				backwardDistances = new long[vertexCount];
+				forwardParents = new int[vertexCount];
+				backwardParents = new int[vertexCount];
+				forwardHeap = new IndexedDaryHeap(vertexCount);
+				backwardHeap = new IndexedDaryHeap(vertexCount);
+				forwardGeneration = 0;
+				backwardGeneration = 0;
+			}
+
+			forwardHeap.clear();
+			if (++forwardGeneration == 0) {
+				Arrays.fill(forwardStamps, 0);
+				forwardGeneration = 1;
+			}
+			beginBackward();
+		}
+
+		private void beginBackward() {
+			backwardHeap.clear();
+			if (++backwardGeneration == 0) {
+				Arrays.fill(backwardStamps, 0);
+				backwardGeneration = 1;
+			}
+		}
+	}
+
+	/**
+	 * 전처리 과정에서만 사용하는 가변 그래프와 축약 로직.
+	 */
+	private static class Contractor {
+		private static final int WITNESS_SETTLE_LIMIT = 100;
+
+		private final int vertexCount;
+		private final IntList[] outgoingEdges;
+		private final IntList[] incomingEdges;
+		private final boolean[] contracted;
+		private final int[] deletedNeighbors;
+		private final int[] ranks;
+
+		private int[] edgeTails;
+		private int[] edgeHeads;
+		private long[] edgeWeights;
+		private int[] firstChildren;
+		private int[] secondChildren;
+		private int edgeCount;
+		private int shortcutCount;
+
+		private final long[] witnessDistances;
+		private final IntList witnessTouched = new IntList();
+		private final IndexedDaryHeap witnessHeap;
+
+		private Contractor(CompressedSparseRowGraph graph) {
+			this.vertexCount = graph.vertexCount();
+			this.outgoingEdges = new IntList[vertexCount];
+			this.incomingEdges = new IntList[vertexCount];
+			for (int vertex = 0; vertex < vertexCount; vertex++) {
+				outgoingEdges[vertex] = new IntList();
+				incomingEdges[vertex] = new IntList();
+			}
+			this.contracted = new boolean[vertexCount];
+			this.deletedNeighbors = new int[vertexCount];
+			this.ranks = new int[vertexCount];
+
+			int capacity = Math.max(graph.edgeCount() * 2, 4);
+			this.edgeTails = new int[capacity];
+			this.edgeHeads = new int[capacity];
+			this.edgeWeights = new long[capacity];
+			this.firstChildren = new int[capacity];
+			this.secondChildren = new int[capacity];
+
+			this.witnessDistances = new long[vertexCount];
+			Arrays.fill(witnessDistances, INFINITY);
+			this.witnessHeap = new IndexedDaryHeap(vertexCount);
+
+			for (int vertex = 0; vertex < vertexCount; vertex++) {
+				for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+					if (graph.target(edge) != vertex) {
+						addEdge(vertex, graph.target(edge), graph.weight(edge), ORIGINAL_EDGE, ORIGINAL_EDGE);
+					}
+				}
+			}
+		}
+
+		private void contractAll() {
+			IndexedDaryHeap queue = new IndexedDaryHeap(vertexCount);
+			for (int vertex = 0; vertex < vertexCount; vertex++) {
+				queue.insertOrDecrease(vertex, priorityOf(vertex));
+			}
+
+			int order = 0;
+			while (!queue.isEmpty()) {
+				int vertex = queue.poll();
+				long priority = priorityOf(vertex);
+				if (!queue.isEmpty() && priority > queue.peekKey()) {
+					queue.insertOrDecrease(vertex, priority);
+					continue;
+				}
+				contract(vertex);
+				ranks[vertex] = order++;
+			}
+		}
+
+		private long priorityOf(int vertex) {
+			int shortcuts = processShortcuts(vertex, false);
+			int removedEdges = liveDegree(outgoingEdges[vertex], edgeHeads) + liveDegree(incomingEdges[vertex], edgeTails);
+			return (long)shortcuts - removedEdges + deletedNeighbors[vertex];
+		}
+
+		private void contract(int vertex) {
+			shortcutCount += processShortcuts(vertex, true);
+			contracted[vertex] = true;
+			markNeighborsDeleted(outgoingEdges[vertex], edgeHeads);
+			markNeighborsDeleted(incomingEdges[vertex], edgeTails);
+		}
+
+		/**
+		 * vertex를 축약할 때 필요한 지름길 수를 센다. apply가 true라면 실제로 지름길을 추가한다.
+		 */
+		private int processShortcuts(int vertex, boolean apply) {
+			int count = 0;
+			IntList incoming = incomingEdges[vertex];
+			IntList outgoing = outgoingEdges[vertex];
+
+			for (int i = 0; i < incoming.size(); i++) {
+				int incomingEdge = incoming.get(i);
+				int from = edgeTails[incomingEdge];
+				if (contracted[from]) {
+					continue;
+				}
+
+				long maxOutgoingWeight = maxLiveWeight(outgoing, from);
+				if (maxOutgoingWeight < 0) {
+					continue;
+				}
+				searchWitness(from, vertex, edgeWeights[incomingEdge] + maxOutgoingWeight);
+
+				for (int j = 0; j < outgoing.size(); j++) {
+					int outgoingEdge = outgoing.get(j);
+					int to = edgeHeads[outgoingEdge];
+					if (contracted[to] || to == from) {
+						continue;
+					}
+					long viaVertex = edgeWeights[incomingEdge] + edgeWeights[outgoingEdge];
+					if (witnessDistances[to] <= viaVertex) {
+						continue;
+					}
+					count++;
+					if (apply) {
+						addEdge(from, to, viaVertex, incomingEdge, outgoingEdge);
+					}
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * 축약 중인 정점과 이미 축약된 정점을 제외한 그래프에서 source로부터의 거리를 제한적으로 탐색한다.
+		 * 탐색이 중간에 멈추면 도달하지 못한 정점은 witness가 없는 것으로 간주되어 지름길이 추가되는데,
+		 * 불필요한 지름길이 생길 수는 있어도 최단 거리가 틀어지지는 않는다.
+		 */
+		private void searchWitness(int source, int excluded, long maxDistance) {
+			for (int i = 0; i < witnessTouched.size(); i++) {
+				witnessDistances[witnessTouched.get(i)] = INFINITY;
+			}
+			witnessTouched.clear();
+
+			witnessDistances[source] = 0L;
+			witnessTouched.add(source);
+			witnessHeap.insertOrDecrease(source, 0L);
+
+			int settled = 0;
+			while (!witnessHeap.isEmpty() && settled < WITNESS_SETTLE_LIMIT && witnessHeap.peekKey() <= maxDistance) {
+				int vertex = witnessHeap.poll();
+				settled++;
+				IntList outgoing = outgoingEdges[vertex];
+				for (int i = 0; i < outgoing.size(); i++) {
+					int edge = outgoing.get(i);
+					int next = edgeHeads[edge];
+					if (contracted[next] || next == excluded) {
+						continue;
+					}
+					long distance = witnessDistances[vertex] + edgeWeights[edge];
+					if (distance < witnessDistances[next]) {
+						if (witnessDistances[next] == INFINITY) {
+							witnessTouched.add(next);
+						}
+						witnessDistances[next] = distance;
+						witnessHeap.insertOrDecrease(next, distance);
+					}
+				}
+			}
+			witnessHeap.clear();
+		}
+
+		private long maxLiveWeight(IntList outgoing, int excludedHead) {
+			long max = -1L;
+			for (int i = 0; i < outgoing.size(); i++) {
+				int edge = outgoing.get(i);
+				int head = edgeHeads[edge];
+				if (!contracted[head] && head != excludedHead) {
+					max = Math.max(max, edgeWeights[edge]);
+				}
+			}
+			return max;
+		}
+
+		private int liveDegree(IntList edges, int[] endpoints) {
+			int degree = 0;
+			for (int i = 0; i < edges.size(); i++) {
+				if (!contracted[endpoints[edges.get(i)]]) {
+					degree++;
+				}
+			}
+			return degree;
+		}
+
+		private void markNeighborsDeleted(IntList edges, int[] endpoints) {
+			for (int i = 0; i < edges.size(); i++) {
+				int neighbor = endpoints[edges.get(i)];
+				if (!contracted[neighbor]) {
+					deletedNeighbors[neighbor]++;
+				}
+			}
+		}
+
+		private void addEdge(int tail, int head, long weight, int firstChild, int secondChild) {
+			if (edgeCount == edgeTails.length) {
+				int capacity = edgeCount * 2;
+				edgeTails = Arrays.copyOf(edgeTails, capacity);
+				edgeHeads = Arrays.copyOf(edgeHeads, capacity);
+				edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+				firstChildren = Arrays.copyOf(firstChildren, capacity);
+				secondChildren = Arrays.copyOf(secondChildren, capacity);
+			}
+			int edge = edgeCount++;
+			edgeTails[edge] = tail;
+			edgeHeads[edge] = head;
+			edgeWeights[edge] = weight;
+			firstChildren[edge] = firstChild;
+			secondChildren[edge] = secondChild;
+			outgoingEdges[tail].add(edge);
+			incomingEdges[head].add(edge);
+		}
+	}
+}
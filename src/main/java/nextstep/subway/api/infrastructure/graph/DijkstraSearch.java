@@ -0,0 +1,150 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+
+/**
+ * CompressedSparseRowGraph 위에서 동작하는 다익스트라 탐색.
+ * 거리/직전 정점은 원시 배열로, 우선순위 큐는 인덱스 d-ary 힙으로 관리한다.
+ * <p>
+ * 배열과 힙은 스레드마다 하나씩 두는 SearchWorkspace를 재사용하고 세대 번호로 초기화를 대신하므로,
+ * 경로 질의(findRoute, searchPaths, searchDistances)는 결과 객체 외에는 탐색마다 메모리를 할당하지 않는다.
+ * 전처리처럼 모든 정점까지의 거리를 따로 보관해야 하는 경우에는 작업 공간을 복사한 ShortestPathTree를 반환하는 search()를 사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/14
+ */
+public class DijkstraSearch {
+
+	private DijkstraSearch() {
+	}
+
+	/**
+	 * source에서 탐색을 시작하여 target이 확정(settle)되면 멈춘다.
+	 * target이 NO_VERTEX라면 도달 가능한 모든 정점을 확정할 때까지 탐색한다.
+	 */
+	public static ShortestPathTree search(CompressedSparseRowGraph graph, int source, int target) {
+		if (target == CompressedSparseRowGraph.NO_VERTEX) {
+			return search(graph, source, null);
+		}
+		return search(graph, source, new int[] {target});
+	}
+
+	/**
+	 * source에서 탐색을 시작하여 targets가 모두 확정되면 멈춘다. 한 번의 탐색으로 여러 도착 정점까지의 최단 경로를 구할 때 사용한다.
+	 * targets가 null이라면 도달 가능한 모든 정점을 확정할 때까지 탐색하며, targets 중 NO_VERTEX는 무시한다.
+	 * 반환하는 트리는 작업 공간을 복사하여 만들므로 이후의 탐색과 무관하게 계속 사용할 수 있다.
+	 */
+	public static ShortestPathTree search(CompressedSparseRowGraph graph, int source, int[] targets) {
+		SearchWorkspace workspace = run(graph, source, targets);
+
+		int vertexCount = graph.vertexCount();
+		long[] distances = new long[vertexCount];
+		int[] parents = new int[vertexCount];
+		for (int vertex = 0; vertex < vertexCount; vertex++) {
+			distances[vertex] = workspace.distanceOf(vertex);
+			parents[vertex] = workspace.parentOf(vertex);
+		}
+		return new ShortestPathTree(graph, source, distances, parents, workspace.settledVertexCount());
+	}
+
+	/**
+	 * source에서 target까지의 최단 경로를 찾는다. 경로가 있다면 결과 Path만 새로 만들어 반환한다.
+	 */
+	public static RouteSearchResult findRoute(CompressedSparseRowGraph graph, int source, int target) {
+		SearchWorkspace workspace = SearchWorkspace.begin(graph.vertexCount());
+		workspace.markPending(target);
+		relaxUntilSettled(graph, source, 1, workspace);
+
+		if (!workspace.isVisited(target)) {
+			return RouteSearchResult.notFound(workspace.settledVertexCount());
+		}
+		return RouteSearchResult.found(workspace.pathTo(graph, target), workspace.settledVertexCount());
+	}
+
+	/**
+	 * 출발역에서 한 번의 탐색으로 여러 도착역까지의 최단 경로를 구한다.
+	 * 결과는 도착역 id를 키로 하며, 그래프에 없거나 도달할 수 없는 도착역은 포함하지 않는다.
+	 */
+	public static Map<Long, Path> searchPaths(CompressedSparseRowGraph graph, Station sourceStation, List<Station> targetStations) {
+		Map<Long, Path> paths = new LinkedHashMap<>();
+		int source = graph.indexOf(sourceStation);
+		if (source == CompressedSparseRowGraph.NO_VERTEX) {
+			return paths;
+		}
+
+		int[] targets = new int[targetStations.size()];
+		for (int i = 0; i < targets.length; i++) {
+			targets[i] = graph.indexOf(targetStations.get(i));
+		}
+		SearchWorkspace workspace = run(graph, source, targets);
+		for (int i = 0; i < targets.length; i++) {
+			if (targets[i] != CompressedSparseRowGraph.NO_VERTEX && workspace.isVisited(targets[i])) {
+				paths.put(targetStations.get(i).getId(), workspace.pathTo(graph, targets[i]));
+			}
+		}
+		return paths;
+	}
+
+	/**
+	 * source에서 targets[i]까지의 최단 거리를 distances[i]에 채우고, 확정한 정점 수를 반환한다.
+	 * 그래프에 없거나 도달할 수 없는 도착 정점의 거리는 UNREACHABLE이다. 경로를 복원하지 않으므로 메모리를 할당하지 않는다.
+	 */
+	public static int searchDistances(CompressedSparseRowGraph graph, int source, int[] targets, long[] distances) {
+		SearchWorkspace workspace = run(graph, source, targets);
+		for (int i = 0; i < targets.length; i++) {
+			distances[i] = targets[i] == CompressedSparseRowGraph.NO_VERTEX ? ShortestPathTree.UNREACHABLE : workspace.distanceOf(targets[i]);
+		}
+		return workspace.settledVertexCount();
+	}
+
+	private static SearchWorkspace run(CompressedSparseRowGraph graph, int source, int[] targets) {
+		SearchWorkspace workspace = SearchWorkspace.begin(graph.vertexCount());
+		int remaining = targets == null ? graph.vertexCount() : markPending(targets, workspace);
+		relaxUntilSettled(graph, source, remaining, workspace);
+		return workspace;
+	}
+
+	private static int markPending(int[] targets, SearchWorkspace workspace) {
+		int count = 0;
+		for (int target : targets) {
+			if (target != CompressedSparseRowGraph.NO_VERTEX && workspace.markPending(target)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 확정되지 않은 도착 정점이 remaining개 남아있는 상태에서 탐색을 진행하고, 확정한 정점 수를 작업 공간에 남긴다.
+	 */
+	private static void relaxUntilSettled(CompressedSparseRowGraph graph, int source, int remaining, SearchWorkspace workspace) {
+		IndexedDaryHeap heap = workspace.heap();
+		workspace.update(source, 0L, CompressedSparseRowGraph.NO_VERTEX);
+		heap.insertOrDecrease(source, 0L);
+
+		int settled = 0;
+		while (!heap.isEmpty() && remaining > 0) {
+			int vertex = heap.poll();
+			settled++;
+			if (workspace.settlePending(vertex) && --remaining == 0) {
+				break;
+			}
+
+			long vertexDistance = workspace.distanceOf(vertex);
+			for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+				int next = graph.target(edge);
+				long distance = vertexDistance + graph.weight(edge);
+				if (distance < workspace.distanceOf(next)) {
+					workspace.update(next, distance, vertex);
+					heap.insertOrDecrease(next, distance);
+				}
+			}
+		}
+		workspace.recordSettledVertexCount(settled);
+	}
+}
@@ -0,0 +1,75 @@
+package nextstep.subway.api.infrastructure.graph;
+
+/**
+ * 출발 정점에서 거리 예산(maxDistance) 이내의 정점만 확정하는 다익스트라 탐색을 한 정점씩 진행하는 커서.
+ * <p>
+ * advance()를 호출할 때마다 다음으로 가까운 정점 하나를 확정하므로, 정점은 최단 거리 오름차순으로 나온다.
+ * 큐의 최솟값이 예산을 넘으면 남은 정점도 모두 예산 밖이므로 탐색을 끝낸다.
+ * 결과를 한꺼번에 모으지 않고 소비하는 쪽의 속도에 맞춰 진행하므로, 결과가 많을 때 스트리밍 응답에 사용할 수 있다.
+ * <p>
+ * 탐색이 호출 사이에 이어지므로 스레드의 기본 작업 공간 대신 SearchWorkspace.acquire()로 작업 공간을 빌리고,
+ * 탐색이 끝나면 돌려주어 다음 탐색이 재사용한다. 끝까지 소비되지 않은 커서의 작업 공간은 재사용되지 않고 GC가 거둔다.
+ * 한 번의 탐색에만 사용하며 여러 스레드에서 공유하지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+public class DistanceBoundedSweep {
+
+	private final CompressedSparseRowGraph graph;
+	private final long maxDistance;
+
+	private SearchWorkspace workspace;
+	private int current = CompressedSparseRowGraph.NO_VERTEX;
+	private long currentDistance;
+	private int settledVertexCount;
+
+	public DistanceBoundedSweep(CompressedSparseRowGraph graph, int source, long maxDistance) {
+		this.graph = graph;
+		this.maxDistance = maxDistance;
+		this.workspace = SearchWorkspace.acquire(graph.vertexCount());
+		workspace.update(source, 0L, CompressedSparseRowGraph.NO_VERTEX);
+		workspace.heap().insertOrDecrease(source, 0L);
+	}
+
+	/**
+	 * 다음으로 가까운 정점을 확정한다. 예산 안에 더 이상 정점이 없다면 작업 공간을 돌려주고 false를 반환한다.
+	 */
+	public boolean advance() {
+		if (workspace == null) {
+			return false;
+		}
+		IndexedDaryHeap heap = workspace.heap();
+		if (heap.isEmpty() || heap.peekKey() > maxDistance) {
+			current = CompressedSparseRowGraph.NO_VERTEX;
+			workspace.release();
+			workspace = null;
+			return false;
+		}
+
+		current = heap.poll();
+		currentDistance = workspace.distanceOf(current);
+		settledVertexCount++;
+		for (int edge = graph.firstEdge(current); edge < graph.endEdge(current); edge++) {
+			int next = graph.target(edge);
+			long distance = currentDistance + graph.weight(edge);
+			if (distance <= maxDistance && distance < workspace.distanceOf(next)) {
+				workspace.update(next, distance, current);
+				heap.insertOrDecrease(next, distance);
+			}
+		}
+		return true;
+	}
+
+	public int vertex() {
+		return current;
+	}
+
+	public long distance() {
+		return currentDistance;
+	}
+
+	public int getSettledVertexCount() {
+		return settledVertexCount;
+	}
+}
@@ -0,0 +1,72 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * 출발 정점 목록 × 도착 정점 목록의 최단 거리 표.
+ * <p>
+ * 출발 정점마다 한 번의 one-to-many 다익스트라 탐색으로 한 행을 채우며, 행끼리는 서로 독립적이므로 주어진 ForkJoinPool에서 병렬로 계산한다.
+ * 모든 행은 같은 CSR 그래프를 읽기만 하고, 탐색용 배열은 스레드마다 따로 둔 작업 공간을 재사용하므로 스레드 간에 공유하는 쓰기 상태가 없다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+public class DistanceTable {
+
+	private final long[][] distances;
+	private final long settledVertexCount;
+
+	private DistanceTable(long[][] distances, long settledVertexCount) {
+		this.distances = distances;
+		this.settledVertexCount = settledVertexCount;
+	}
+
+	/**
+	 * sources[i]에서 targets[j]까지의 최단 거리를 i행 j열에 채운다. 그래프에 없는 정점(NO_VERTEX)이 포함된 칸은 도달할 수 없는 것으로 본다.
+	 */
+	public static DistanceTable compute(CompressedSparseRowGraph graph, int[] sources, int[] targets, ForkJoinPool pool) {
+		long[][] distances = new long[sources.length][];
+		LongAdder settled = new LongAdder();
+		pool.submit(() -> IntStream.range(0, sources.length).parallel()
+				.forEach(row -> distances[row] = computeRow(graph, sources[row], targets, settled)))
+			.join();
+		return new DistanceTable(distances, settled.sum());
+	}
+
+	public int rowCount() {
+		return distances.length;
+	}
+
+	public int columnCount(int row) {
+		return distances[row].length;
+	}
+
+	public boolean isReachable(int row, int column) {
+		return distances[row][column] != ShortestPathTree.UNREACHABLE;
+	}
+
+	public long distance(int row, int column) {
+		return distances[row][column];
+	}
+
+	/**
+	 * 모든 행의 탐색에서 확정(settle)한 정점 수의 합.
+	 */
+	public long getSettledVertexCount() {
+		return settledVertexCount;
+	}
+
+	private static long[] computeRow(CompressedSparseRowGraph graph, int source, int[] targets, LongAdder settled) {
+		long[] row = new long[targets.length];
+		if (source == CompressedSparseRowGraph.NO_VERTEX) {
+			Arrays.fill(row, ShortestPathTree.UNREACHABLE);
+			return row;
+		}
+
+		settled.add(DijkstraSearch.searchDistances(graph, source, targets, row));
+		return row;
+	}
+}
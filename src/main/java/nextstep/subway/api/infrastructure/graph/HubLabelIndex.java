@@ -0,0 +1,370 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+
+/**
+ * 방향 그래프의 2-hop 허브 레이블(hub labeling) 거리 색인.
+ * <p>
+ * 정점마다 두 개의 레이블을 둔다. 정방향 레이블 out(v)에는 v에서 도달할 수 있는 허브와 그 허브까지의 거리를,
+ * 역방향 레이블 in(v)에는 v로 도달할 수 있는 허브와 그 허브로부터의 거리를 담는다.
+ * 모든 (s, t) 최단 경로 위의 어떤 허브 h가 out(s)와 in(t)에 함께 들어있도록 만들면, 최단 거리는 min(out(s)[h] + in(t)[h]) 가 된다.
+ * 레이블은 허브 순위 오름차순으로 정렬되어 있으므로 질의는 두 레이블의 정렬 병합(sorted merge) 한 번으로 끝난다.
+ * <p>
+ * 레이블은 pruned landmark labeling 방식으로 만든다. 연결 차수가 큰(환승역 같은) 정점부터 허브로 삼아 정방향/역방향 다익스트라 탐색을 하되,
+ * 이미 만든 레이블로 같거나 더 짧은 거리를 알 수 있는 정점에서는 레이블을 추가하지 않고 탐색도 더 진행하지 않는다.
+ * 따라서 레이블은 앞 순위 허브들이 덮지 못한 쌍에 대해서만 늘어난다.
+ * <p>
+ * 레이블 항목에는 허브 탐색 트리에서의 이웃 정점(정방향 레이블은 허브 쪽 다음 정점, 역방향 레이블은 허브 쪽 직전 정점)을 함께 둔다.
+ * 탐색에서 가지치기된 정점은 확장하지 않으므로, 레이블을 받은 정점의 트리 이웃도 항상 같은 허브의 레이블을 가지고 있다.
+ * 이를 이용해 s → h → t 경로를 레이블만 따라가며 복원한다.
+ * <p>
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 동시에 질의해도 안전하다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+public class HubLabelIndex implements PathLookup {
+
+	private static final long UNREACHABLE = ShortestPathTree.UNREACHABLE;
+	private static final int BYTES_PER_ENTRY = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+	private final CompressedSparseRowGraph graph;
+	private final Labels forwardLabels;
+	private final Labels backwardLabels;
+	private final long preprocessingNanos;
+
+	private HubLabelIndex(CompressedSparseRowGraph graph, Labels forwardLabels, Labels backwardLabels, long preprocessingNanos) {
+		this.graph = graph;
+		this.forwardLabels = forwardLabels;
+		this.backwardLabels = backwardLabels;
+		this.preprocessingNanos = preprocessingNanos;
+	}
+
+	public static HubLabelIndex build(CompressedSparseRowGraph graph) {
+		long startedAt = System.nanoTime();
+		int vertexCount = graph.vertexCount();
+		CompressedSparseRowGraph reversed = graph.reversed();
+		int[] hubOrder = orderByDegree(graph, reversed);
+
+		LabelBuilder forward = new LabelBuilder(vertexCount);
+		LabelBuilder backward = new LabelBuilder(vertexCount);
+		PrunedSearch search = new PrunedSearch(vertexCount);
+		for (int rank = 0; rank < vertexCount; rank++) {
+			int hub = hubOrder[rank];
+			search.run(graph, hub, rank, backward, forward);
+			search.run(reversed, hub, rank, forward, backward);
+		}
+
+		return new HubLabelIndex(graph, forward.toLabels(), backward.toLabels(), System.nanoTime() - startedAt);
+	}
+
+	@Override
+	public CompressedSparseRowGraph getGraph() {
+		return graph;
+	}
+
+	public long getPreprocessingNanos() {
+		return preprocessingNanos;
+	}
+
+	/**
+	 * 정방향/역방향 레이블 항목 수의 합.
+	 */
+	public long getLabelEntryCount() {
+		return (long)forwardLabels.size() + backwardLabels.size();
+	}
+
+	public int getMaxLabelSize() {
+		return Math.max(forwardLabels.maxLabelSize(), backwardLabels.maxLabelSize());
+	}
+
+	public double getAverageLabelSize() {
+		return graph.vertexCount() == 0 ? 0.0 : (double)getLabelEntryCount() / (2L * graph.vertexCount());
+	}
+
+	public long getLabelBytes() {
+		return getLabelEntryCount() * BYTES_PER_ENTRY;
+	}
+
+	/**
+	 * source에서 target까지의 최단 거리. 도달할 수 없다면 UNREACHABLE을 반환한다.
+	 */
+	public long distance(int source, int target) {
+		int entry = findBestHubEntry(source, target);
+		if (entry == CompressedSparseRowGraph.NO_VERTEX) {
+			return UNREACHABLE;
+		}
+		int hubRank = forwardLabels.hubs[entry];
+		return forwardLabels.distances[entry] + backwardLabels.distances[backwardLabels.find(target, hubRank)];
+	}
+
+	/**
+	 * 레이블을 따라 source → 허브 → target 경로를 복원한다. 도달할 수 없는 쌍이라면 null을 반환한다.
+	 */
+	@Override
+	public Path pathOf(int source, int target) {
+		int entry = findBestHubEntry(source, target);
+		if (entry == CompressedSparseRowGraph.NO_VERTEX) {
+			return null;
+		}
+
+		int hubRank = forwardLabels.hubs[entry];
+		long distance = forwardLabels.distances[entry] + backwardLabels.distances[backwardLabels.find(target, hubRank)];
+
+		List<Station> stations = new ArrayList<>();
+		int vertex = source;
+		stations.add(graph.stationAt(vertex));
+		for (int next = forwardLabels.neighborOf(vertex, hubRank); next != CompressedSparseRowGraph.NO_VERTEX; next = forwardLabels.neighborOf(next, hubRank)) {
+			stations.add(graph.stationAt(next));
+			vertex = next;
+		}
+
+		List<Station> hubToTarget = new ArrayList<>();
+		for (int current = target; current != vertex; current = backwardLabels.neighborOf(current, hubRank)) {
+			hubToTarget.add(graph.stationAt(current));
+		}
+		Collections.reverse(hubToTarget);
+		stations.addAll(hubToTarget);
+		return Path.of(stations, distance);
+	}
+
+	/**
+	 * out(source)와 in(target)을 허브 순위 순서로 병합하며 거리 합이 가장 작은 공통 허브를 찾고, 그 허브의 정방향 레이블 항목 위치를 반환한다.
+	 */
+	private int findBestHubEntry(int source, int target) {
+		int forward = forwardLabels.offsets[source];
+		int forwardEnd = forwardLabels.offsets[source + 1];
+		int backward = backwardLabels.offsets[target];
+		int backwardEnd = backwardLabels.offsets[target + 1];
+
+		long best = UNREACHABLE;
+		int bestEntry = CompressedSparseRowGraph.NO_VERTEX;
+		while (forward < forwardEnd && backward < backwardEnd) {
+			int forwardHub = forwardLabels.hubs[forward];
+			int backwardHub = backwardLabels.hubs[backward];
+			if (forwardHub < backwardHub) {
+				forward++;
+			} else if (forwardHub > backwardHub) {
+				backward++;
+			} else {
+				long distance = forwardLabels.distances[forward] + backwardLabels.distances[backward];
+				if (distance < best) {
+					best = distance;
+					bestEntry = forward;
+				}
+				forward++;
+				backward++;
+			}
+		}
+		return bestEntry;
+	}
+
+	/**
+	 * 나가는 간선과 들어오는 간선 수의 합이 큰 정점부터 허브 순위를 매긴다. 같다면 정점 번호가 작은 쪽이 앞선다.
+	 */
+	private static int[] orderByDegree(CompressedSparseRowGraph graph, CompressedSparseRowGraph reversed) {
+		int vertexCount = graph.vertexCount();
+		long[] keys = new long[vertexCount];
+		for (int vertex = 0; vertex < vertexCount; vertex++) {
+			long degree = (graph.endEdge(vertex) - graph.firstEdge(vertex)) + (reversed.endEdge(vertex) - reversed.firstEdge(vertex));
+			keys[vertex] = ((Integer.MAX_VALUE - degree) << Integer.SIZE) | vertex;
+		}
+		Arrays.sort(keys);
+
+		int[] order = new int[vertexCount];
+		for (int rank = 0; rank < vertexCount; rank++) {
+			order[rank] = (int)keys[rank];
+		}
+		return order;
+	}
+
+	/**
+	 * 허브 하나에서 시작하는 가지치기 다익스트라 탐색. 탐색용 배열은 허브마다 새로 만들지 않고, 방문한 정점만 되돌려 재사용한다.
+	 */
+	private static final class PrunedSearch {
+		private final long[] distances;
+		private final int[] parents;
+		private final long[] hubDistances;
+		private final IndexedDaryHeap heap;
+		private final IntList visited = new IntList();
+
+		private PrunedSearch(int vertexCount) {
+			this.distances = new long[vertexCount];
+			this.parents = new int[vertexCount];
+			this.hubDistances = new long[vertexCount];
+			this.heap = new IndexedDaryHeap(vertexCount);
+			Arrays.fill(distances, UNREACHABLE);
+			Arrays.fill(parents, CompressedSparseRowGraph.NO_VERTEX);
+			Arrays.fill(hubDistances, UNREACHABLE);
+		}
+
+		/**
+		 * graph를 따라 hub에서 탐색하며 도달한 정점의 targetLabels에 허브를 추가한다.
+		 * 정방향 그래프라면 in 레이블을, 역방향 그래프라면 out 레이블을 채운다. hubLabels는 그 반대쪽 레이블이다.
+		 * 가지치기 판단에 쓰는 hub → v 거리는 hub의 hubLabels를 허브 순위로 펼쳐둔 hubDistances와 v의 targetLabels를 맞춰보는 것으로 구한다.
+		 */
+		private void run(CompressedSparseRowGraph graph, int hub, int hubRank, LabelBuilder targetLabels, LabelBuilder hubLabels) {
+			hubLabels.spread(hub, hubDistances);
+
+			distances[hub] = 0L;
+			visited.add(hub);
+			heap.insertOrDecrease(hub, 0L);
+			while (!heap.isEmpty()) {
+				int vertex = heap.poll();
+				long distance = distances[vertex];
+				if (targetLabels.isCovered(vertex, hubDistances, distance)) {
+					continue;
+				}
+
+				targetLabels.add(vertex, hubRank, distance, parents[vertex]);
+				for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+					int next = graph.target(edge);
+					long nextDistance = distance + graph.weight(edge);
+					if (nextDistance < distances[next]) {
+						if (distances[next] == UNREACHABLE) {
+							visited.add(next);
+						}
+						distances[next] = nextDistance;
+						parents[next] = vertex;
+						heap.insertOrDecrease(next, nextDistance);
+					}
+				}
+			}
+
+			hubLabels.unspread(hub, hubDistances);
+			while (!visited.isEmpty()) {
+				int vertex = visited.removeLast();
+				distances[vertex] = UNREACHABLE;
+				parents[vertex] = CompressedSparseRowGraph.NO_VERTEX;
+			}
+		}
+	}
+
+	/**
+	 * 생성 중인 레이블. 허브는 순위 순서대로 추가되므로 정점별 레이블은 따로 정렬하지 않아도 허브 순위 오름차순이다.
+	 */
+	private static final class LabelBuilder {
+		private final int[][] hubs;
+		private final long[][] distances;
+		private final int[][] neighbors;
+		private final int[] sizes;
+
+		private LabelBuilder(int vertexCount) {
+			this.hubs = new int[vertexCount][];
+			this.distances = new long[vertexCount][];
+			this.neighbors = new int[vertexCount][];
+			this.sizes = new int[vertexCount];
+		}
+
+		private void add(int vertex, int hubRank, long distance, int neighbor) {
+			int size = sizes[vertex];
+			if (hubs[vertex] == null) {
+				hubs[vertex] = new int[4];
+				distances[vertex] = new long[4];
+				neighbors[vertex] = new int[4];
+			} else if (size == hubs[vertex].length) {
+				hubs[vertex] = Arrays.copyOf(hubs[vertex], size * 2);
+				distances[vertex] = Arrays.copyOf(distances[vertex], size * 2);
+				neighbors[vertex] = Arrays.copyOf(neighbors[vertex], size * 2);
+			}
+			hubs[vertex][size] = hubRank;
+			distances[vertex][size] = distance;
+			neighbors[vertex][size] = neighbor;
+			sizes[vertex] = size + 1;
+		}
+
+		/**
+		 * 이미 추가된 허브들만으로 distance 이하의 거리를 알 수 있는지 확인한다.
+		 */
+		private boolean isCovered(int vertex, long[] hubDistances, long distance) {
+			for (int i = 0; i < sizes[vertex]; i++) {
+				long hubDistance = hubDistances[hubs[vertex][i]];
+				if (hubDistance != UNREACHABLE && hubDistance + distances[vertex][i] <= distance) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void spread(int vertex, long[] hubDistances) {
+			for (int i = 0; i < sizes[vertex]; i++) {
+				hubDistances[hubs[vertex][i]] = distances[vertex][i];
+			}
+		}
+
+		private void unspread(int vertex, long[] hubDistances) {
+			for (int i = 0; i < sizes[vertex]; i++) {
+				hubDistances[hubs[vertex][i]] = UNREACHABLE;
+			}
+		}
+
+		private Labels toLabels() {
+			int vertexCount = sizes.length;
+			int[] offsets = new int[vertexCount + 1];
+			for (int vertex = 0; vertex < vertexCount; vertex++) {
+				offsets[vertex + 1] = offsets[vertex] + sizes[vertex];
+			}
+
+			int[] flatHubs = new int[offsets[vertexCount]];
+			long[] flatDistances = new long[offsets[vertexCount]];
+			int[] flatNeighbors = new int[offsets[vertexCount]];
+			for (int vertex = 0; vertex < vertexCount; vertex++) {
+				if (sizes[vertex] > 0) {
+					System.arraycopy(hubs[vertex], 0, flatHubs, offsets[vertex], sizes[vertex]);
+					System.arraycopy(distances[vertex], 0, flatDistances, offsets[vertex], sizes[vertex]);
+					System.arraycopy(neighbors[vertex], 0, flatNeighbors, offsets[vertex], sizes[vertex]);
+				}
+			}
+			return new Labels(offsets, flatHubs, flatDistances, flatNeighbors);
+		}
+	}
+
+	/**
+	 * 정점별 레이블을 CSR 그래프와 같은 방식으로 이어붙인 배열. 정점 v의 레이블은 offsets[v] ~ offsets[v + 1] - 1 구간이다.
+	 */
+	private static final class Labels {
+		private final int[] offsets;
+		private final int[] hubs;
+		private final long[] distances;
+		private final int[] neighbors;
+
+		private Labels(int[] offsets, int[] hubs, long[] distances, int[] neighbors) {
+			this.offsets = offsets;
+			this.hubs = hubs;
+			this.distances = distances;
+			this.neighbors = neighbors;
+		}
+
+		private int size() {
+			return hubs.length;
+		}
+
+		private int maxLabelSize() {
+			int max = 0;
+			for (int vertex = 0; vertex + 1 < offsets.length; vertex++) {
+				max = Math.max(max, offsets[vertex + 1] - offsets[vertex]);
+			}
+			return max;
+		}
+
+		/**
+		 * 정점 레이블에서 허브 순위로 항목 위치를 이진 탐색한다.
+		 */
+		private int find(int vertex, int hubRank) {
+			return Arrays.binarySearch(hubs, offsets[vertex], offsets[vertex + 1], hubRank);
+		}
+
+		/**
+		 * 허브 탐색 트리에서 vertex의 이웃 정점. vertex가 허브 자신이라면 NO_VERTEX이다.
+		 */
+		private int neighborOf(int vertex, int hubRank) {
+			return neighbors[find(vertex, hubRank)];
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없이 int 값을 담는 가변 길이 리스트.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/15
+ */
+class IntList {
+
+	private int[] values;
+	private int size;
+
+	IntList() {
+		this(4);
+	}
+
+	IntList(int capacity) {
+		this.values = new int[Math.max(capacity, 1)];
+	}
+
+	void add(int value) {
+		if (size == values.length) {
+			values = Arrays.copyOf(values, size * 2);
+		}
+		values[size++] = value;
+	}
+
+	int get(int index) {
+		return values[index];
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	int removeLast() {
+		return values[--size];
+	}
+
+	void clear() {
+		size = 0;
+	}
+
+	int[] toArray() {
+		return Arrays.copyOf(values, size);
+	}
+}
@@ -0,0 +1,178 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.Arrays;
+
+/**
+ * ALT(A*, Landmarks, Triangle inequality) 탐색을 위한 랜드마크 거리표.
+ * <p>
+ * 몇 개의 랜드마크 정점 L을 골라 모든 정점 v에 대해 d(L, v)와 d(v, L)을 미리 계산해두면,
+ * 삼각 부등식에 의해 d(v, t) ≥ d(L, t) - d(L, v) 이고 d(v, t) ≥ d(v, L) - d(t, L) 이다.
+ * 이 하한 중 가장 큰 값을 A* 휴리스틱으로 사용하며, 하한은 항상 실제 거리 이하이고 간선 단위로 일관적(consistent)이므로
+ * 탐색 결과는 다익스트라와 같은 최단 경로가 된다.
+ * <p>
+ * 랜드마크는 이미 고른 랜드마크들로부터 가장 먼 정점을 차례로 고르는 farthest 방식으로 선택하며,
+ * 도달할 수 없는 정점이 있다면 그 정점을 우선 선택하여 연결되지 않은 영역에도 랜드마크가 놓이도록 한다.
+ * <p>
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 동시에 질의해도 안전하며, 질의는 스레드별 SearchWorkspace를 재사용하므로 배열을 새로 만들지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/16
+ */
+public class LandmarkIndex {
+
+	private static final long UNREACHABLE = ShortestPathTree.UNREACHABLE;
+
+	private final CompressedSparseRowGraph graph;
+	private final int[] landmarks;
+	private final long[][] distancesFromLandmarks;
+	private final long[][] distancesToLandmarks;
+	private final long preprocessingNanos;
+
+	private LandmarkIndex(CompressedSparseRowGraph graph, int[] landmarks, long[][] distancesFromLandmarks, long[][] distancesToLandmarks,
+		long preprocessingNanos) {
+		this.graph = graph;
+		this.landmarks = landmarks;
+		this.distancesFromLandmarks = distancesFromLandmarks;
+		this.distancesToLandmarks = distancesToLandmarks;
+		this.preprocessingNanos = preprocessingNanos;
+	}
+
+	public static LandmarkIndex build(CompressedSparseRowGraph graph, int landmarkCount) {
+		long startedAt = System.nanoTime();
+		CompressedSparseRowGraph reversed = graph.reversed();
+		int vertexCount = graph.vertexCount();
+		int maxLandmarkCount = Math.min(Math.max(landmarkCount, 0), vertexCount);
+
+		int[] landmarks = new int[maxLandmarkCount];
+		long[][] distancesFromLandmarks = new long[maxLandmarkCount][];
+		long[][] distancesToLandmarks = new long[maxLandmarkCount][];
+
+		long[] nearestLandmarkDistances = new long[vertexCount];
+		Arrays.fill(nearestLandmarkDistances, UNREACHABLE);
+
+		int selected = 0;
+		int candidate = 0;
+		while (selected < maxLandmarkCount) {
+			landmarks[selected] = candidate;
+			distancesFromLandmarks[selected] = distancesFrom(graph, candidate);
+			distancesToLandmarks[selected] = distancesFrom(reversed, candidate);
+			updateNearestLandmarkDistances(nearestLandmarkDistances, distancesFromLandmarks[selected], distancesToLandmarks[selected]);
+			selected++;
+
+			candidate = farthestVertex(nearestLandmarkDistances);
+			if (nearestLandmarkDistances[candidate] == 0L) {
+				break;
+			}
+		}
+
+		return new LandmarkIndex(graph, Arrays.copyOf(landmarks, selected), Arrays.copyOf(distancesFromLandmarks, selected),
+			Arrays.copyOf(distancesToLandmarks, selected), System.nanoTime() - startedAt);
+	}
+
+	public CompressedSparseRowGraph getGraph() {
+		return graph;
+	}
+
+	public int getLandmarkCount() {
+		return landmarks.length;
+	}
+
+	public long getPreprocessingNanos() {
+		return preprocessingNanos;
+	}
+
+	/**
+	 * 랜드마크 하한을 휴리스틱으로 하는 A* 탐색으로 source에서 target까지의 최단 경로를 찾는다.
+	 * 하한으로 target에 도달할 수 없음이 드러난 정점은 큐에 넣지 않는다.
+	 */
+	public RouteSearchResult findRoute(int source, int target) {
+		SearchWorkspace workspace = SearchWorkspace.begin(graph.vertexCount());
+		IndexedDaryHeap heap = workspace.heap();
+		workspace.update(source, 0L, CompressedSparseRowGraph.NO_VERTEX);
+		long sourceBound = lowerBound(source, target);
+		if (sourceBound != UNREACHABLE) {
+			heap.insertOrDecrease(source, sourceBound);
+		}
+
+		int settled = 0;
+		while (!heap.isEmpty()) {
+			int vertex = heap.poll();
+			settled++;
+			if (vertex == target) {
+				return RouteSearchResult.found(workspace.pathTo(graph, target), settled);
+			}
+
+			long vertexDistance = workspace.distanceOf(vertex);
+			for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+				int next = graph.target(edge);
+				long distance = vertexDistance + graph.weight(edge);
+				if (distance >= workspace.distanceOf(next)) {
+					continue;
+				}
+				long bound = lowerBound(next, target);
+				if (bound == UNREACHABLE) {
+					continue;
+				}
+				workspace.update(next, distance, vertex);
+				heap.insertOrDecrease(next, distance + bound);
+			}
+		}
+
+		return RouteSearchResult.notFound(settled);
+	}
+
+	/**
+	 * vertex에서 target까지 거리의 하한. target에 도달할 수 없음이 확실하면 UNREACHABLE을 반환한다.
+	 */
+	private long lowerBound(int vertex, int target) {
+		long bound = 0L;
+		for (int i = 0; i < landmarks.length; i++) {
+			long[] fromLandmark = distancesFromLandmarks[i];
+			long[] toLandmark = distancesToLandmarks[i];
+
+			if (fromLandmark[vertex] != UNREACHABLE) {
+				if (fromLandmark[target] == UNREACHABLE) {
+					return UNREACHABLE;
+				}
+				bound = Math.max(bound, fromLandmark[target] - fromLandmark[vertex]);
+			}
+			if (toLandmark[target] != UNREACHABLE) {
+				if (toLandmark[vertex] == UNREACHABLE) {
+					return UNREACHABLE;
+				}
+				bound = Math.max(bound, toLandmark[vertex] - toLandmark[target]);
+			}
+		}
+		return bound;
+	}
+
+	private static long[] distancesFrom(CompressedSparseRowGraph graph, int source) {
+		ShortestPathTree tree = DijkstraSearch.search(graph, source, CompressedSparseRowGraph.NO_VERTEX);
+		long[] distances = new long[graph.vertexCount()];
+		for (int vertex = 0; vertex < distances.length; vertex++) {
+			distances[vertex] = tree.distanceTo(vertex);
+		}
+		return distances;
+	}
+
+	/**
+	 * 정점마다 지금까지 고른 랜드마크까지의 가장 가까운 거리(어느 방향이든 도달 가능한 쪽)를 갱신한다.
+	 * 어떤 랜드마크와도 오갈 수 없는 정점은 UNREACHABLE로 남아 다음 랜드마크로 우선 선택된다.
+	 */
+	private static void updateNearestLandmarkDistances(long[] nearestLandmarkDistances, long[] fromLandmark, long[] toLandmark) {
+		for (int vertex = 0; vertex < nearestLandmarkDistances.length; vertex++) {
+			long closeness = Math.min(fromLandmark[vertex], toLandmark[vertex]);
+			nearestLandmarkDistances[vertex] = Math.min(nearestLandmarkDistances[vertex], closeness);
+		}
+	}
+
+	private static int farthestVertex(long[] nearestLandmarkDistances) {
+		int farthest = 0;
+		for (int vertex = 1; vertex < nearestLandmarkDistances.length; vertex++) {
+			if (nearestLandmarkDistances[vertex] > nearestLandmarkDistances[farthest]) {
+				farthest = vertex;
+			}
+		}
+		return farthest;
+	}
+}
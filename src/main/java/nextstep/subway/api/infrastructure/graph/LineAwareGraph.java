@@ -0,0 +1,250 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.LinePath;
+import nextstep.subway.api.domain.model.vo.PathLeg;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * (역, 노선) 쌍을 상태로 하는 노선 인지 그래프와, 그 위에서 환승 횟수를 먼저 거리를 나중에 최소화하는 탐색.
+ * <p>
+ * 같은 노선의 구간은 상태 사이의 승차 간선(거리만큼의 비용)이 되고, 같은 역의 다른 노선 상태로 옮겨가는 것이 환승(환승 1회의 비용)이다.
+ * 비용은 (환승 횟수, 거리)의 사전식 순서로 비교하며, 탐색 키에는 환승 횟수에 TRANSFER_WEIGHT를 곱해 거리와 합친 값을 쓴다.
+ * <p>
+ * 경로를 나열하지 않고 상태마다 가장 좋은 라벨 하나만 유지하며, 그보다 나쁜(지배되는) 라벨은 버린다.
+ * 한 역에서 처음 확정된 상태의 라벨은 그 역의 다른 모든 상태의 라벨을 지배하므로, 환승 간선은 역마다 처음 확정된 상태에서만 펼친다.
+ * 따라서 환승역에 노선이 k개 모여 있어도 환승 간선은 k^2개가 아니라 k개만 살펴본다.
+ * <p>
+ * 만든 뒤에는 변경하지 않으므로 여러 스레드에서 동시에 탐색해도 안전하며, 상태별 키/직전 상태/힙은 스레드별 SearchWorkspace를 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+public class LineAwareGraph {
+
+	/**
+	 * 탐색 키에서 환승 1회가 차지하는 값. 경로 거리의 합은 이 값보다 작다고 가정한다.
+	 */
+	static final long TRANSFER_WEIGHT = 1L << 40;
+
+	private final Map<Long, Integer> stationIndexes;
+	private final Station[] stations;
+	private final Long[] lineIds;
+	private final String[] lineNames;
+
+	private final int[] stateStations;
+	private final int[] stateLines;
+
+	private final int[] rideOffsets;
+	private final int[] rideTargets;
+	private final long[] rideWeights;
+
+	private final int[] stationStateOffsets;
+	private final int[] stationStates;
+
+	private LineAwareGraph(Builder builder) {
+		this.stationIndexes = builder.stationIndexes;
+		this.stations = builder.stations.toArray(new Station[0]);
+		this.lineIds = builder.lineIds.toArray(new Long[0]);
+		this.lineNames = builder.lineNames.toArray(new String[0]);
+
+		int stateCount = builder.stateStations.size();
+		this.stateStations = toArray(builder.stateStations);
+		this.stateLines = toArray(builder.stateLines);
+
+		int edgeCount = builder.edgeSources.size();
+		this.rideOffsets = new int[stateCount + 1];
+		this.rideTargets = new int[edgeCount];
+		this.rideWeights = new long[edgeCount];
+		for (int i = 0; i < edgeCount; i++) {
+			rideOffsets[builder.edgeSources.get(i) + 1]++;
+		}
+		for (int i = 0; i < stateCount; i++) {
+			rideOffsets[i + 1] += rideOffsets[i];
+		}
+		int[] nextEdge = Arrays.copyOf(rideOffsets, stateCount);
+		for (int i = 0; i < edgeCount; i++) {
+			int position = nextEdge[builder.edgeSources.get(i)]++;
+			rideTargets[position] = builder.edgeTargets.get(i);
+			rideWeights[position] = builder.edgeWeights[i];
+		}
+
+		this.stationStateOffsets = new int[stations.length + 1];
+		this.stationStates = new int[stateCount];
+		for (int state = 0; state < stateCount; state++) {
+			stationStateOffsets[stateStations[state] + 1]++;
+		}
+		for (int i = 0; i < stations.length; i++) {
+			stationStateOffsets[i + 1] += stationStateOffsets[i];
+		}
+		int[] nextState = Arrays.copyOf(stationStateOffsets, stations.length);
+		for (int state = 0; state < stateCount; state++) {
+			stationStates[nextState[stateStations[state]]++] = state;
+		}
+	}
+
+	/**
+	 * 노선망의 노선별 구간 목록으로 그래프를 만든다. 구간은 상행역에서 하행역 방향으로만 이동할 수 있다.
+	 */
+	public static LineAwareGraph from(SubwayNetwork network) {
+		int sectionCount = network.getSections().size();
+		Builder builder = new Builder(sectionCount);
+		network.getSectionsByLine().forEach((lineId, sections) -> {
+			int line = builder.addLine(lineId, network.findLineName(lineId).orElse(null));
+			for (Section section : sections) {
+				builder.addRide(section, line);
+			}
+		});
+		return new LineAwareGraph(builder);
+	}
+
+	public int stationCount() {
+		return stations.length;
+	}
+
+	public int stateCount() {
+		return stateStations.length;
+	}
+
+	/**
+	 * 환승 횟수가 가장 적고, 그중 거리가 가장 짧은 경로를 찾는다. 그래프에 없는 역이거나 도달할 수 없다면 null을 반환한다.
+	 */
+	public LinePath findRoute(Station sourceStation, Station targetStation) {
+		Integer source = stationIndexes.get(sourceStation.getId());
+		Integer target = stationIndexes.get(targetStation.getId());
+		if (source == null || target == null) {
+			return null;
+		}
+
+		SearchWorkspace workspace = SearchWorkspace.begin(stateCount());
+		IndexedDaryHeap heap = workspace.heap();
+		for (int i = stationStateOffsets[source]; i < stationStateOffsets[source + 1]; i++) {
+			workspace.update(stationStates[i], 0L, CompressedSparseRowGraph.NO_VERTEX);
+			heap.insertOrDecrease(stationStates[i], 0L);
+		}
+
+		while (!heap.isEmpty()) {
+			int state = heap.poll();
+			int station = stateStations[state];
+			if (station == target) {
+				return toLinePath(state, workspace);
+			}
+
+			long key = workspace.distanceOf(state);
+			for (int edge = rideOffsets[state]; edge < rideOffsets[state + 1]; edge++) {
+				relax(state, rideTargets[edge], key + rideWeights[edge], workspace);
+			}
+			// 역마다 환승 간선을 펼쳤는지는 작업 공간의 표시 배열에 역 번호로 남긴다. 역 수는 상태 수 이하이다.
+			if (workspace.markPending(station)) {
+				for (int i = stationStateOffsets[station]; i < stationStateOffsets[station + 1]; i++) {
+					relax(state, stationStates[i], key + TRANSFER_WEIGHT, workspace);
+				}
+			}
+		}
+		return null;
+	}
+
+	private static void relax(int from, int to, long key, SearchWorkspace workspace) {
+		if (key < workspace.distanceOf(to)) {
+			workspace.update(to, key, from);
+			workspace.heap().insertOrDecrease(to, key);
+		}
+	}
+
+	private LinePath toLinePath(int targetState, SearchWorkspace workspace) {
+		IntList reversed = new IntList();
+		for (int state = targetState; state != CompressedSparseRowGraph.NO_VERTEX; state = workspace.parentOf(state)) {
+			reversed.add(state);
+		}
+
+		List<Station> pathStations = new ArrayList<>();
+		List<PathLeg> legs = new ArrayList<>();
+		List<Station> legStations = new ArrayList<>();
+		int legStart = reversed.get(reversed.size() - 1);
+		int previous = legStart;
+		legStations.add(stations[stateStations[legStart]]);
+		pathStations.add(stations[stateStations[legStart]]);
+
+		for (int i = reversed.size() - 2; i >= 0; i--) {
+			int state = reversed.get(i);
+			if (stateLines[state] != stateLines[previous]) {
+				legs.add(toLeg(legStart, previous, legStations, workspace));
+				legStations = new ArrayList<>();
+				legStart = state;
+			} else {
+				pathStations.add(stations[stateStations[state]]);
+			}
+			legStations.add(stations[stateStations[state]]);
+			previous = state;
+		}
+		legs.add(toLeg(legStart, previous, legStations, workspace));
+
+		long key = workspace.distanceOf(targetState);
+		return LinePath.of(pathStations, key % TRANSFER_WEIGHT, (int)(key / TRANSFER_WEIGHT), legs);
+	}
+
+	private PathLeg toLeg(int firstState, int lastState, List<Station> legStations, SearchWorkspace workspace) {
+		int line = stateLines[firstState];
+		return PathLeg.of(lineIds[line], lineNames[line], legStations, workspace.distanceOf(lastState) - workspace.distanceOf(firstState));
+	}
+
+	private static int[] toArray(IntList list) {
+		int[] values = new int[list.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = list.get(i);
+		}
+		return values;
+	}
+
+	private static class Builder {
+		private final Map<Long, Integer> stationIndexes = new HashMap<>();
+		private final List<Station> stations = new ArrayList<>();
+		private final List<Long> lineIds = new ArrayList<>();
+		private final List<String> lineNames = new ArrayList<>();
+
+		private final Map<Long, Integer> stateIndexes = new HashMap<>();
+		private final IntList stateStations = new IntList();
+		private final IntList stateLines = new IntList();
+
+		private final IntList edgeSources = new IntList();
+		private final IntList edgeTargets = new IntList();
+		private final long[] edgeWeights;
+
+		Builder(int sectionCount) {
+			this.edgeWeights = new long[sectionCount];
+		}
+
+		int addLine(Long lineId, String lineName) {
+			lineIds.add(lineId);
+			lineNames.add(lineName);
+			return lineIds.size() - 1;
+		}
+
+		void addRide(Section section, int line) {
+			int from = stateOf(section.getUpStation(), line);
+			int to = stateOf(section.getDownStation(), line);
+			edgeWeights[edgeSources.size()] = section.getDistance();
+			edgeSources.add(from);
+			edgeTargets.add(to);
+		}
+
+		private int stateOf(Station station, int line) {
+			int stationIndex = stationIndexes.computeIfAbsent(station.getId(), id -> {
+				stations.add(station);
+				return stations.size() - 1;
+			});
+			return stateIndexes.computeIfAbsent(((long)stationIndex << 32) | line, key -> {
+				stateStations.add(stationIndex);
+				stateLines.add(line);
+				return stateStations.size() - 1;
+			});
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+
+/**
+ * 그래프 탐색 없이 정점 쌍의 최단 경로를 바로 복원할 수 있도록 미리 계산해둔 색인(전체 쌍 행렬, 허브 레이블).
+ * 색인마다 경로를 복원하는 방법만 다르므로, 역 단위의 조회는 기본 메서드로 함께 제공한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+public interface PathLookup {
+
+	CompressedSparseRowGraph getGraph();
+
+	/**
+	 * source에서 target까지의 최단 경로를 복원한다. 도달할 수 없는 쌍이라면 null을 반환한다.
+	 */
+	Path pathOf(int source, int target);
+
+	/**
+	 * 그래프에 없는 역이거나 도달할 수 없는 쌍이라면 비어있다.
+	 */
+	default Optional<Path> findPath(Station sourceStation, Station targetStation) {
+		int source = getGraph().indexOf(sourceStation);
+		int target = getGraph().indexOf(targetStation);
+		if (source == CompressedSparseRowGraph.NO_VERTEX || target == CompressedSparseRowGraph.NO_VERTEX) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(pathOf(source, target));
+	}
+
+	/**
+	 * 하나의 출발역에서 여러 도착역까지의 경로를 도착역 id를 키로 반환한다. 경로가 없는 도착역은 포함하지 않는다.
+	 */
+	default Map<Long, Path> findPaths(Station sourceStation, List<Station> targetStations) {
+		Map<Long, Path> paths = new LinkedHashMap<>();
+		int source = getGraph().indexOf(sourceStation);
+		if (source == CompressedSparseRowGraph.NO_VERTEX) {
+			return paths;
+		}
+		for (Station targetStation : targetStations) {
+			int target = getGraph().indexOf(targetStation);
+			Path path = target == CompressedSparseRowGraph.NO_VERTEX ? null : pathOf(source, target);
+			if (path != null) {
+				paths.put(targetStation.getId(), path);
+			}
+		}
+		return paths;
+	}
+}
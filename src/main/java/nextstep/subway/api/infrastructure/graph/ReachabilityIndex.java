@@ -0,0 +1,193 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.Arrays;
+
+/**
+ * 방향 그래프의 강한 연결 요소(SCC)와 이를 축약한 DAG(condensation) 위의 도달 가능성을 미리 계산해둔 색인.
+ * <p>
+ * 같은 강한 연결 요소에 속한 정점끼리는 항상 서로 도달할 수 있으므로, 정점 간 도달 가능성은 요소 간 도달 가능성으로 바뀐다.
+ * 요소 번호는 Tarjan 알고리즘이 요소를 완성한 순서로 부여하는데, 간선 c1 → c2 가 있다면 c2가 먼저 완성되므로 항상 c2 < c1 이다.
+ * 따라서 번호가 작은 요소부터 "자신 + 나가는 간선이 닿는 요소들의 도달 집합"을 비트셋으로 합치면 한 번의 훑기로 전이 폐포가 만들어지고,
+ * 질의는 비트 하나를 읽는 O(1) 연산이 된다.
+ * <p>
+ * 요소 수가 MAX_CLOSURE_COMPONENTS를 넘으면 비트셋이 차지하는 메모리(요소 수의 제곱 / 8 바이트)가 커지므로 전이 폐포를 만들지 않고,
+ * 위의 번호 순서만으로 판단한다. 이 경우 false는 확실히 도달할 수 없다는 뜻이지만 true는 도달할 수도 있다는 뜻이다.
+ * <p>
+ * 간선 하나의 삭제로도 강한 연결 요소가 쪼개질 수 있으므로 구간 변경분으로 부분 갱신하지 않고, 노선망 스냅샷마다 선형 시간에 다시 만든다.
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 동시에 읽어도 안전하다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+public class ReachabilityIndex {
+
+	static final int MAX_CLOSURE_COMPONENTS = 1 << 14;
+
+	private final CompressedSparseRowGraph graph;
+	private final int[] componentOf;
+	private final int componentCount;
+	private final int wordsPerComponent;
+	private final long[] closure;
+	private final long preprocessingNanos;
+
+	private ReachabilityIndex(CompressedSparseRowGraph graph, int[] componentOf, int componentCount, long[] closure, long preprocessingNanos) {
+		this.graph = graph;
+		this.componentOf = componentOf;
+		this.componentCount = componentCount;
+		this.wordsPerComponent = (componentCount + Long.SIZE - 1) / Long.SIZE;
+		this.closure = closure;
+		this.preprocessingNanos = preprocessingNanos;
+	}
+
+	public static ReachabilityIndex build(CompressedSparseRowGraph graph) {
+		long startedAt = System.nanoTime();
+		int[] componentOf = new int[graph.vertexCount()];
+		int componentCount = findStronglyConnectedComponents(graph, componentOf);
+		long[] closure = componentCount > MAX_CLOSURE_COMPONENTS ? null : buildClosure(graph, componentOf, componentCount);
+		return new ReachabilityIndex(graph, componentOf, componentCount, closure, System.nanoTime() - startedAt);
+	}
+
+	/**
+	 * source에서 target으로 가는 경로가 있을 수 있는지 판단한다. 그래프에 없는 정점이 주어지면 false를 반환한다.
+	 * 전이 폐포를 만든 색인(isExact)이라면 결과는 정확하다.
+	 */
+	public boolean isReachable(int source, int target) {
+		if (source == CompressedSparseRowGraph.NO_VERTEX || target == CompressedSparseRowGraph.NO_VERTEX) {
+			return false;
+		}
+
+		int sourceComponent = componentOf[source];
+		int targetComponent = componentOf[target];
+		if (sourceComponent == targetComponent) {
+			return true;
+		}
+		if (closure == null) {
+			return targetComponent < sourceComponent;
+		}
+		return (closure[sourceComponent * wordsPerComponent + targetComponent / Long.SIZE] & (1L << targetComponent)) != 0;
+	}
+
+	public boolean isExact() {
+		return closure != null;
+	}
+
+	public CompressedSparseRowGraph getGraph() {
+		return graph;
+	}
+
+	public int getComponentCount() {
+		return componentCount;
+	}
+
+	public long getClosureBytes() {
+		return closure == null ? 0L : (long)closure.length * Long.BYTES;
+	}
+
+	public long getPreprocessingNanos() {
+		return preprocessingNanos;
+	}
+
+	/**
+	 * 재귀 대신 명시적인 호출 스택으로 Tarjan 알고리즘을 수행하여 정점마다 요소 번호를 채우고, 요소 수를 반환한다.
+	 * 긴 노선은 깊이가 정점 수에 가까운 탐색이 되므로 재귀로는 스택 오버플로가 날 수 있다.
+	 */
+	private static int findStronglyConnectedComponents(CompressedSparseRowGraph graph, int[] componentOf) {
+		int vertexCount = graph.vertexCount();
+		int[] discovery = new int[vertexCount];
+		int[] lowLink = new int[vertexCount];
+		int[] nextEdge = new int[vertexCount];
+		boolean[] onStack = new boolean[vertexCount];
+		int[] componentStack = new int[vertexCount];
+		int[] callStack = new int[vertexCount];
+		Arrays.fill(discovery, -1);
+
+		int componentStackSize = 0;
+		int discovered = 0;
+		int componentCount = 0;
+		for (int root = 0; root < vertexCount; root++) {
+			if (discovery[root] != -1) {
+				continue;
+			}
+
+			int callStackSize = 0;
+			discovery[root] = lowLink[root] = discovered++;
+			nextEdge[root] = graph.firstEdge(root);
+			componentStack[componentStackSize++] = root;
+			onStack[root] = true;
+			callStack[callStackSize++] = root;
+
+			while (callStackSize > 0) {
+				int vertex = callStack[callStackSize - 1];
+				if (nextEdge[vertex] < graph.endEdge(vertex)) {
+					int next = graph.target(nextEdge[vertex]++);
+					if (discovery[next] == -1) {
+						discovery[next] = lowLink[next] = discovered++;
+						nextEdge[next] = graph.firstEdge(next);
+						componentStack[componentStackSize++] = next;
+						onStack[next] = true;
+						callStack[callStackSize++] = next;
+					} else if (onStack[next]) {
+						lowLink[vertex] = Math.min(lowLink[vertex], discovery[next]);
+					}
+					continue;
+				}
+
+				callStackSize--;
+				if (callStackSize > 0) {
+					int parent = callStack[callStackSize - 1];
+					lowLink[parent] = Math.min(lowLink[parent], lowLink[vertex]);
+				}
+				if (lowLink[vertex] == discovery[vertex]) {
+					int member;
+					do {
+						member = componentStack[--componentStackSize];
+						onStack[member] = false;
+						componentOf[member] = componentCount;
+					} while (member != vertex);
+					componentCount++;
+				}
+			}
+		}
+		return componentCount;
+	}
+
+	/**
+	 * 요소 c의 도달 집합을 closure[c * words] ~ closure[(c + 1) * words - 1] 비트셋에 채운다.
+	 * 나가는 간선이 닿는 요소는 항상 번호가 더 작으므로, 번호 오름차순으로 처리하면 필요한 집합이 이미 완성되어 있다.
+	 */
+	private static long[] buildClosure(CompressedSparseRowGraph graph, int[] componentOf, int componentCount) {
+		int words = (componentCount + Long.SIZE - 1) / Long.SIZE;
+		long[] closure = new long[componentCount * words];
+
+		int[] memberOffsets = new int[componentCount + 1];
+		for (int component : componentOf) {
+			memberOffsets[component + 1]++;
+		}
+		for (int component = 0; component < componentCount; component++) {
+			memberOffsets[component + 1] += memberOffsets[component];
+		}
+		int[] members = new int[componentOf.length];
+		int[] cursor = Arrays.copyOf(memberOffsets, componentCount);
+		for (int vertex = 0; vertex < componentOf.length; vertex++) {
+			members[cursor[componentOf[vertex]]++] = vertex;
+		}
+
+		for (int component = 0; component < componentCount; component++) {
+			int base = component * words;
+			closure[base + component / Long.SIZE] |= 1L << component;
+			for (int member = memberOffsets[component]; member < memberOffsets[component + 1]; member++) {
+				int vertex = members[member];
+				for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+					int reached = componentOf[graph.target(edge)];
+					if (reached != component && (closure[base + reached / Long.SIZE] & (1L << reached)) == 0) {
+						int reachedBase = reached * words;
+						for (int word = 0; word < words; word++) {
+							closure[base + word] |= closure[reachedBase + word];
+						}
+					}
+				}
+			}
+		}
+		return closure;
+	}
+}
@@ -0,0 +1,40 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import nextstep.subway.api.domain.model.vo.Path;
+
+/**
+ * 출발역-도착역 단일 경로 탐색 결과와, 탐색 중 확정(settle)한 정점 수.
+ * 경로가 없다면 path는 null이다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/15
+ */
+public class RouteSearchResult {
+	private final Path path;
+	private final int settledVertexCount;
+
+	private RouteSearchResult(Path path, int settledVertexCount) {
+		this.path = path;
+		this.settledVertexCount = settledVertexCount;
+	}
+
+	public static RouteSearchResult found(Path path, int settledVertexCount) {
+		return new RouteSearchResult(path, settledVertexCount);
+	}
+
+	public static RouteSearchResult notFound(int settledVertexCount) {
+		return new RouteSearchResult(null, settledVertexCount);
+	}
+
+	public boolean isFound() {
+		return path != null;
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	public int getSettledVertexCount() {
+		return settledVertexCount;
+	}
+}
@@ -0,0 +1,164 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+
+/**
+ * 다익스트라 탐색에 필요한 거리/직전 정점/힙 배열을 스레드마다 하나씩 두고 탐색마다 재사용하는 작업 공간.
+ * <p>
+ * 탐색을 시작할 때마다 배열을 UNREACHABLE로 채우는 O(V) 초기화 대신 세대(generation) 번호를 하나 올린다.
+ * 정점의 거리와 직전 정점은 그 정점의 stamp가 현재 세대와 같을 때만 유효하고, 그렇지 않으면 아직 방문하지 않은 정점으로 본다.
+ * 따라서 탐색 비용은 실제로 방문한 정점과 간선 수에만 비례하고, 탐색마다 배열을 새로 만들지 않으므로 GC 부담도 생기지 않는다.
+ * 세대 번호가 한 바퀴 돌아 0이 되는 경우에만 stamp 배열을 한 번 비운다.
+ * <p>
+ * 노선망이 바뀌어 더 큰 그래프가 들어오면 그때만 배열을 키운다.
+ * 작업 공간은 ThreadLocal로 스레드마다 따로 두므로 잠금 없이 사용할 수 있지만, 한 스레드 안에서도 다음 탐색을 시작하면 이전 탐색 결과는 덮어써진다.
+ * 양방향 탐색처럼 한 탐색에 작업 공간이 두 개 필요하거나, 스트림으로 소비하는 탐색처럼 호출이 끝난 뒤에도 작업 공간을 들고 있어야 한다면
+ * begin() 대신 acquire()로 빌리고 release()로 돌려준다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+final class SearchWorkspace {
+
+	private static final ThreadLocal<SearchWorkspace> WORKSPACES = ThreadLocal.withInitial(SearchWorkspace::new);
+	private static final ThreadLocal<SearchWorkspace> IDLE_WORKSPACES = new ThreadLocal<>();
+
+	private int[] stamps = new int[0];
+	private int[] targetStamps = new int[0];
+	private long[] distances = new long[0];
+	private int[] parents = new int[0];
+	private IndexedDaryHeap heap = new IndexedDaryHeap(0);
+	private int generation;
+	private int settledVertexCount;
+
+	private SearchWorkspace() {
+	}
+
+	/**
+	 * 현재 스레드의 작업 공간을 vertexCount개의 정점을 담을 수 있도록 준비하고, 새 세대를 시작한다.
+	 */
+	static SearchWorkspace begin(int vertexCount) {
+		SearchWorkspace workspace = WORKSPACES.get();
+		workspace.prepare(vertexCount);
+		return workspace;
+	}
+
+	/**
+	 * begin()의 작업 공간과 별개인 작업 공간을 빌려 새 세대를 시작한다.
+	 * 현재 스레드에 돌려받아 쉬고 있는 작업 공간이 있으면 그것을 빌려주고, 없다면 새로 만든다.
+	 * 돌려받지 못한 작업 공간은 다른 탐색과 공유되지 않고 GC가 거두므로, 중간에 버려진 스트림이 있어도 결과가 섞이지 않는다.
+	 */
+	static SearchWorkspace acquire(int vertexCount) {
+		SearchWorkspace workspace = IDLE_WORKSPACES.get();
+		if (workspace == null) {
+			workspace = new SearchWorkspace();
+		} else {
+			IDLE_WORKSPACES.remove();
+		}
+		workspace.prepare(vertexCount);
+		return workspace;
+	}
+
+	/**
+	 * acquire()로 빌린 작업 공간을 현재 스레드에 돌려주어 다음 acquire()가 재사용하도록 한다. 돌려준 뒤에는 사용하지 않는다.
+	 */
+	void release() {
+		IDLE_WORKSPACES.set(this);
+	}
+
+	int generation() {
+		return generation;
+	}
+
+	/**
+	 * 현재 세대의 탐색에서 확정(settle)한 정점 수.
+	 */
+	int settledVertexCount() {
+		return settledVertexCount;
+	}
+
+	void recordSettledVertexCount(int settledVertexCount) {
+		this.settledVertexCount = settledVertexCount;
+	}
+
+	IndexedDaryHeap heap() {
+		return heap;
+	}
+
+	boolean isVisited(int vertex) {
+		return stamps[vertex] == generation;
+	}
+
+	long distanceOf(int vertex) {
+		return stamps[vertex] == generation ? distances[vertex] : ShortestPathTree.UNREACHABLE;
+	}
+
+	int parentOf(int vertex) {
+		return stamps[vertex] == generation ? parents[vertex] : CompressedSparseRowGraph.NO_VERTEX;
+	}
+
+	void update(int vertex, long distance, int parent) {
+		stamps[vertex] = generation;
+		distances[vertex] = distance;
+		parents[vertex] = parent;
+	}
+
+	/**
+	 * 아직 확정되지 않은 도착 정점으로 표시한다. 이미 표시된 정점이면 false를 반환한다.
+	 */
+	boolean markPending(int vertex) {
+		if (targetStamps[vertex] == generation) {
+			return false;
+		}
+		targetStamps[vertex] = generation;
+		return true;
+	}
+
+	/**
+	 * 확정되지 않은 도착 정점이었다면 표시를 지우고 true를 반환한다.
+	 */
+	boolean settlePending(int vertex) {
+		if (targetStamps[vertex] != generation) {
+			return false;
+		}
+		targetStamps[vertex] = 0;
+		return true;
+	}
+
+	/**
+	 * 직전 정점을 따라 target까지의 경로를 복원한다. target은 현재 세대에 방문한 정점이어야 한다.
+	 */
+	Path pathTo(CompressedSparseRowGraph graph, int target) {
+		List<Station> stations = new ArrayList<>();
+		for (int current = target; current != CompressedSparseRowGraph.NO_VERTEX; current = parentOf(current)) {
+			stations.add(graph.stationAt(current));
+		}
+		Collections.reverse(stations);
+		return Path.of(stations, distanceOf(target));
+	}
+
+	private void prepare(int vertexCount) {
+		if (stamps.length < vertexCount) {
+			stamps = new int[vertexCount];
+			targetStamps = new int[vertexCount];
+			distances = new long[vertexCount];
+			parents = new int[vertexCount];
+			heap = new IndexedDaryHeap(vertexCount);
+			generation = 0;
+		}
+
+		heap.clear();
+		settledVertexCount = 0;
+		if (++generation == 0) {
+			Arrays.fill(stamps, 0);
+			Arrays.fill(targetStamps, 0);
+			generation = 1;
+		}
+	}
+}
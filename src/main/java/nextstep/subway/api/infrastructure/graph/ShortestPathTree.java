@@ -0,0 +1,72 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+
+/**
+ * 한 출발 정점에서 시작한 다익스트라 탐색의 결과(정점별 최단 거리와 직전 정점).
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/14
+ */
+public class ShortestPathTree {
+
+	public static final long UNREACHABLE = Long.MAX_VALUE;
+
+	private final CompressedSparseRowGraph graph;
+	private final int source;
+	private final long[] distances;
+	private final int[] parents;
+	private final int settledVertexCount;
+
+	ShortestPathTree(CompressedSparseRowGraph graph, int source, long[] distances, int[] parents, int settledVertexCount) {
+		this.graph = graph;
+		this.source = source;
+		this.distances = distances;
+		this.parents = parents;
+		this.settledVertexCount = settledVertexCount;
+	}
+
+	public int getSource() {
+		return source;
+	}
+
+	/**
+	 * 탐색 중 확정(settle)한 정점 수. 탐색 알고리즘 간 작업량 비교에 사용한다.
+	 */
+	public int getSettledVertexCount() {
+		return settledVertexCount;
+	}
+
+	public boolean isReachable(int vertex) {
+		return distances[vertex] != UNREACHABLE;
+	}
+
+	public long distanceTo(int vertex) {
+		return distances[vertex];
+	}
+
+	/**
+	 * 최단 경로상 vertex의 직전 정점. 출발 정점이거나 도달할 수 없다면 NO_VERTEX이다.
+	 */
+	public int parentOf(int vertex) {
+		return parents[vertex];
+	}
+
+	public List<Station> stationsTo(int vertex) {
+		List<Station> stations = new ArrayList<>();
+		for (int current = vertex; current != CompressedSparseRowGraph.NO_VERTEX; current = parents[current]) {
+			stations.add(graph.stationAt(current));
+		}
+		Collections.reverse(stations);
+		return stations;
+	}
+
+	public Path pathTo(int vertex) {
+		return Path.of(stationsTo(vertex), distances[vertex]);
+	}
+}
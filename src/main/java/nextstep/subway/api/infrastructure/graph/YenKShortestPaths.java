@@ -0,0 +1,261 @@
+package nextstep.subway.api.infrastructure.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+
+/**
+ * CompressedSparseRowGraph 위에서 같은 정점을 두 번 지나지 않는 최단 경로를 짧은 순서대로 k개까지 찾는 Yen 알고리즘.
+ * <p>
+ * 직전에 확정한 경로의 각 정점을 spur 정점으로 삼아, 그 앞부분(root)의 정점과 같은 root를 가진 기존 경로가 사용한 다음 정점을 막고
+ * spur 정점에서 도착 정점까지 다시 탐색하여 후보 경로를 만든다.
+ * 그래프를 복사하거나 간선을 지우는 대신 막힌 정점/다음 정점을 표시한 배열로 걸러낸다.
+ * spur 탐색의 거리/직전 정점 배열과 힙은 스레드별 SearchWorkspace를, 막힌 정점 표시는 스레드별 BlockedVertices를 재사용하며,
+ * 둘 다 세대 번호로 초기화를 대신하므로 질의마다 정점 수만큼의 배열을 만들지 않는다.
+ * <p>
+ * 같은 두 역 사이에 여러 구간이 있어도 가장 짧은 구간만 사용하므로, 역 순서가 같은 경로는 한 번만 나온다.
+ * 그래프 외에는 상태를 갖지 않으므로 노선망 스냅샷에 붙여 여러 스레드에서 함께 사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+public class YenKShortestPaths {
+
+	private final CompressedSparseRowGraph graph;
+
+	public YenKShortestPaths(CompressedSparseRowGraph graph) {
+		this.graph = graph;
+	}
+
+	public CompressedSparseRowGraph getGraph() {
+		return graph;
+	}
+
+	/**
+	 * source에서 target까지의 경로를 거리 오름차순으로 최대 k개 반환한다. 도달할 수 없다면 빈 목록을 반환한다.
+	 */
+	public List<Path> findPaths(int source, int target, int k) {
+		BlockedVertices blocked = BlockedVertices.begin(graph.vertexCount());
+		List<Route> accepted = new ArrayList<>();
+		Route shortest = searchSpur(source, target, blocked);
+		if (shortest == null) {
+			return new ArrayList<>();
+		}
+		accepted.add(shortest);
+
+		PriorityQueue<Route> candidates = new PriorityQueue<>(Comparator.comparingLong(Route::distance).thenComparingInt(Route::length));
+		Set<Route> known = new HashSet<>(accepted);
+		while (accepted.size() < k) {
+			Route previous = accepted.get(accepted.size() - 1);
+			for (int spurIndex = 0; spurIndex < previous.length() - 1; spurIndex++) {
+				Route candidate = searchDeviation(accepted, previous, spurIndex, target, blocked);
+				if (candidate != null && known.add(candidate)) {
+					candidates.add(candidate);
+				}
+			}
+			if (candidates.isEmpty()) {
+				break;
+			}
+			accepted.add(candidates.poll());
+		}
+
+		return accepted.stream().map(this::toPath).collect(Collectors.toList());
+	}
+
+	/**
+	 * 현재 스레드에서 마지막으로 실행한 findPaths의 spur 탐색들이 확정한 정점 수의 합.
+	 */
+	public int getSettledVertexCount() {
+		return BlockedVertices.current().settledVertexCount;
+	}
+
+	private Route searchDeviation(List<Route> accepted, Route previous, int spurIndex, int target, BlockedVertices blocked) {
+		blocked.nextDeviation();
+		for (int i = 0; i < spurIndex; i++) {
+			blocked.blockVertex(previous.vertices[i]);
+		}
+		for (Route route : accepted) {
+			if (route.length() > spurIndex + 1 && route.sharesRoot(previous, spurIndex)) {
+				blocked.blockNextVertex(route.vertices[spurIndex + 1]);
+			}
+		}
+
+		Route spurRoute = searchSpur(previous.vertices[spurIndex], target, blocked);
+		return spurRoute == null ? null : previous.rootTo(spurIndex).concat(spurRoute);
+	}
+
+	/**
+	 * 막힌 정점을 피해 from에서 target까지 다익스트라로 탐색한다. 막힌 다음 정점은 from에서 나가는 간선에만 적용한다.
+	 */
+	private Route searchSpur(int from, int target, BlockedVertices blocked) {
+		SearchWorkspace workspace = SearchWorkspace.begin(graph.vertexCount());
+		IndexedDaryHeap heap = workspace.heap();
+		workspace.update(from, 0L, CompressedSparseRowGraph.NO_VERTEX);
+		heap.insertOrDecrease(from, 0L);
+
+		while (!heap.isEmpty()) {
+			int vertex = heap.poll();
+			blocked.settledVertexCount++;
+			if (vertex == target) {
+				return traceRoute(target, workspace);
+			}
+
+			long vertexDistance = workspace.distanceOf(vertex);
+			for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+				int next = graph.target(edge);
+				if (blocked.isVertexBlocked(next) || (vertex == from && blocked.isNextVertexBlocked(next))) {
+					continue;
+				}
+				long distance = vertexDistance + graph.weight(edge);
+				if (distance < workspace.distanceOf(next)) {
+					workspace.update(next, distance, vertex);
+					heap.insertOrDecrease(next, distance);
+				}
+			}
+		}
+		return null;
+	}
+
+	private Route traceRoute(int target, SearchWorkspace workspace) {
+		IntList reversed = new IntList();
+		for (int current = target; current != CompressedSparseRowGraph.NO_VERTEX; current = workspace.parentOf(current)) {
+			reversed.add(current);
+		}
+
+		int[] vertices = new int[reversed.size()];
+		long[] prefixDistances = new long[reversed.size()];
+		for (int i = 0; i < vertices.length; i++) {
+			vertices[i] = reversed.get(vertices.length - 1 - i);
+			prefixDistances[i] = workspace.distanceOf(vertices[i]);
+		}
+		return new Route(vertices, prefixDistances);
+	}
+
+	private Path toPath(Route route) {
+		List<Station> stations = new ArrayList<>(route.length());
+		for (int vertex : route.vertices) {
+			stations.add(graph.stationAt(vertex));
+		}
+		return Path.of(stations, route.distance());
+	}
+
+	/**
+	 * spur 탐색에서 피할 정점과, spur 정점에서 바로 갈 수 없는 다음 정점을 표시하는 스레드별 작업 공간.
+	 * 편차(deviation)마다 세대 번호를 올려 이전 표시를 지우므로, 표시한 정점을 되돌리는 과정이 필요 없다.
+	 */
+	private static final class BlockedVertices {
+		private static final ThreadLocal<BlockedVertices> WORKSPACES = ThreadLocal.withInitial(BlockedVertices::new);
+
+		private int[] vertexStamps = new int[0];
+		private int[] nextVertexStamps = new int[0];
+		private int generation;
+		private int settledVertexCount;
+
+		private static BlockedVertices begin(int vertexCount) {
+			BlockedVertices blocked = WORKSPACES.get();
+			if (blocked.vertexStamps.length < vertexCount) {
+				blocked.vertexStamps = new int[vertexCount];
+				blocked.nextVertexStamps = new int[vertexCount];
+				blocked.generation = 0;
+			}
+			blocked.settledVertexCount = 0;
+			blocked.nextDeviation();
+			return blocked;
+		}
+
+		private static BlockedVertices current() {
+			return WORKSPACES.get();
+		}
+
+		private void nextDeviation() {
+			if (++generation == 0) {
+				Arrays.fill(vertexStamps, 0);
+				Arrays.fill(nextVertexStamps, 0);
+				generation = 1;
+			}
+		}
+
+		private void blockVertex(int vertex) {
+			vertexStamps[vertex] = generation;
+		}
+
+		private void blockNextVertex(int vertex) {
+			nextVertexStamps[vertex] = generation;
+		}
+
+		private boolean isVertexBlocked(int vertex) {
+			return vertexStamps[vertex] == generation;
+		}
+
+		private boolean isNextVertexBlocked(int vertex) {
+			return nextVertexStamps[vertex] == generation;
+		}
+	}
+
+	/**
+	 * 정점 순서와 출발 정점으로부터의 누적 거리. 정점 순서가 같으면 같은 경로로 본다.
+	 */
+	private static class Route {
+		private final int[] vertices;
+		private final long[] prefixDistances;
+
+		Route(int[] vertices, long[] prefixDistances) {
+			this.vertices = vertices;
+			this.prefixDistances = prefixDistances;
+		}
+
+		int length() {
+			return vertices.length;
+		}
+
+		long distance() {
+			return prefixDistances[prefixDistances.length - 1];
+		}
+
+		boolean sharesRoot(Route other, int spurIndex) {
+			return Arrays.equals(vertices, 0, spurIndex + 1, other.vertices, 0, spurIndex + 1);
+		}
+
+		Route rootTo(int spurIndex) {
+			return new Route(Arrays.copyOf(vertices, spurIndex + 1), Arrays.copyOf(prefixDistances, spurIndex + 1));
+		}
+
+		/**
+		 * 이 경로의 마지막 정점에서 시작하는 spur 경로를 이어 붙인다.
+		 */
+		Route concat(Route spur) {
+			int[] joinedVertices = Arrays.copyOf(vertices, vertices.length + spur.vertices.length - 1);
+			long[] joinedDistances = Arrays.copyOf(prefixDistances, joinedVertices.length);
+			long offset = distance();
+			for (int i = 1; i < spur.vertices.length; i++) {
+				joinedVertices[vertices.length - 1 + i] = spur.vertices[i];
+				joinedDistances[vertices.length - 1 + i] = offset + spur.prefixDistances[i];
+			}
+			return new Route(joinedVertices, joinedDistances);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			return Arrays.equals(vertices, ((Route)o).vertices);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(vertices);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.PathFinder;
+import nextstep.subway.api.infrastructure.graph.AllPairsShortestPaths;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * 모든 역 쌍의 최단 거리와 next hop 행렬을 미리 계산해두고, 질의는 행렬 조회와 경로 복원만으로 처리하는 PathFinder.
+ * <p>
+ * 행렬은 SnapshotIndexBuilder가 노선망 스냅샷마다 백그라운드 스레드에서 계산하여 스냅샷에 붙인다.
+ * 계산이 끝나기 전이나 역 수가 subway.path.matrix.max-stations 를 넘는 노선망이라면 행렬을 만들지 않고
+ * 양방향 다익스트라 탐색으로 응답한다.
+ * 행렬이 차지하는 메모리와 계산 시간은 PathFinderMetrics 와 로그로 남긴다.
+ * <p>
+ * subway.path.finder=matrix 설정으로 활성화한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/17
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "subway.path", name = "finder", havingValue = "matrix")
+public class AllPairsMatrixShortestPathFinder implements PathFinder {
+
+	private static final String FINDER_NAME = "matrix";
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	private final int maxStations;
+
+	private final BackgroundSnapshotIndex<AllPairsShortestPaths> matrices;
+
+	public AllPairsMatrixShortestPathFinder(PathFinderMetrics pathFinderMetrics, SnapshotIndexBuilder snapshotIndexBuilder,
+		@Value("${subway.path.matrix.max-stations:3000}") int maxStations) {
+		this.pathFinderMetrics = pathFinderMetrics;
+		this.maxStations = maxStations;
+		this.matrices = snapshotIndexBuilder.register(AllPairsShortestPaths.class, this::createMatrix);
+	}
+
+	@Override
+	public Path findShortestPath(Station sourceStation, Station targetStation, SubwayNetwork network) {
+		return matrices.query(network,
+			matrix -> findWithMatrix(matrix, sourceStation, targetStation),
+			() -> BidirectionalDijkstraShortestPathFinder.searchRoute(FINDER_NAME, pathFinderMetrics, sourceStation, targetStation, network));
+	}
+
+	@Override
+	public Map<Long, Path> findShortestPaths(Station sourceStation, List<Station> targetStations, SubwayNetwork network) {
+		return matrices.query(network,
+			matrix -> matrix.findPaths(sourceStation, targetStations),
+			() -> BidirectionalDijkstraShortestPathFinder.searchPaths(sourceStation, targetStations, network));
+	}
+
+	private Path findWithMatrix(AllPairsShortestPaths matrix, Station sourceStation, Station targetStation) {
+		long startedAt = System.nanoTime();
+		Path path = matrix.findPath(sourceStation, targetStation).orElse(null);
+		pathFinderMetrics.recordQuery(FINDER_NAME, System.nanoTime() - startedAt);
+
+		if (path == null) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+		return path;
+	}
+
+	/**
+	 * 역 수가 max-stations 를 넘으면 행렬을 만들지 않는다(null).
+	 */
+	private AllPairsShortestPaths createMatrix(SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+		if (graph.vertexCount() > maxStations) {
+			log.warn("all-pairs matrix disabled: version={}, stations={} exceeds max-stations={} (estimated {} bytes)",
+				network.getVersion(), graph.vertexCount(), maxStations, AllPairsShortestPaths.estimateBytes(graph.vertexCount()));
+			pathFinderMetrics.recordGauge(FINDER_NAME, "subway.path.matrix.bytes", 0L);
+			return null;
+		}
+
+		AllPairsShortestPaths matrix = AllPairsShortestPaths.build(graph);
+		pathFinderMetrics.recordPreprocessing(FINDER_NAME, matrix.getPreprocessingNanos());
+		pathFinderMetrics.recordGauge(FINDER_NAME, "subway.path.matrix.bytes", matrix.getMatrixBytes());
+		log.info("all-pairs matrix built: version={}, stations={}, bytes={}, elapsed={}ms",
+			network.getVersion(), graph.vertexCount(), matrix.getMatrixBytes(), TimeUnit.NANOSECONDS.toMillis(matrix.getPreprocessingNanos()));
+		return matrix;
+	}
+}
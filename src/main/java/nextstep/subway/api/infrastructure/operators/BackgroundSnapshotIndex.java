@@ -0,0 +1,141 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * 노선망 스냅샷마다 한 번씩 백그라운드 스레드에서 만들어 스냅샷에 붙이는 파생 색인.
+ * <p>
+ * 질의는 query()로 하며, 스냅샷에 색인이 붙어 있으면 색인으로, 아직 없으면 생성을 예약한 뒤 fallback으로 응답한다.
+ * 따라서 요청 스레드는 색인 생성을 기다리지 않고, 동시에 들어온 요청들이 같은 색인을 여러 번 만들지도 않는다.
+ * 같은 스냅샷에 대한 생성은 한 번만 예약하며, 이미 더 새로운 버전의 스냅샷을 예약했다면 이전 스냅샷의 색인은 만들지 않는다.
+ * <p>
+ * factory가 null을 반환하면(예: 노선망이 너무 커서 색인을 만들지 않기로 한 경우) 그 스냅샷에는 색인을 붙이지 않으므로 계속 fallback으로 응답한다.
+ * 인스턴스는 SnapshotIndexBuilder.register()로 만들며, 생성 작업은 SnapshotIndexBuilder의 빌더 스레드에서 실행된다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/17
+ */
+@Slf4j
+public final class BackgroundSnapshotIndex<T> {
+
+	private final Class<T> type;
+
+	private final Function<SubwayNetwork, T> factory;
+
+	private final Executor executor;
+
+	private final AtomicReference<Build<T>> latestBuild = new AtomicReference<>();
+
+	BackgroundSnapshotIndex(Class<T> type, Function<SubwayNetwork, T> factory, Executor executor) {
+		this.type = type;
+		this.factory = factory;
+		this.executor = executor;
+	}
+
+	/**
+	 * 스냅샷에 색인이 붙어 있으면 indexedQuery로, 아직 없다면 생성을 예약하고 fallback으로 응답한다.
+	 */
+	public <R> R query(SubwayNetwork network, Function<T, R> indexedQuery, Supplier<R> fallback) {
+		Optional<T> index = network.findAttached(type);
+		if (index.isPresent()) {
+			return indexedQuery.apply(index.get());
+		}
+		schedule(network);
+		return fallback.get();
+	}
+
+	/**
+	 * 스냅샷의 색인 생성을 예약한다. 이미 붙어 있거나 예약된 스냅샷이라면 아무것도 하지 않는다.
+	 */
+	public void schedule(SubwayNetwork network) {
+		if (network.findAttached(type).isEmpty()) {
+			buildOf(network);
+		}
+	}
+
+	/**
+	 * 스냅샷의 색인 생성이 끝날 때까지 기다린다. 색인을 만들지 않기로 했거나 생성에 실패했다면 비어있다.
+	 */
+	public Optional<T> await(SubwayNetwork network) {
+		Optional<T> attached = network.findAttached(type);
+		if (attached.isPresent()) {
+			return attached;
+		}
+
+		try {
+			return buildOf(network).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			log.warn("snapshot index build failed: type={}, version={}", type.getSimpleName(), network.getVersion(), e.getCause());
+		}
+		return network.findAttached(type);
+	}
+
+	/**
+	 * 호출한 스레드에서 바로 색인을 만들어 스냅샷에 붙인다. 이미 붙어 있다면 그 색인을 반환한다.
+	 */
+	Optional<T> build(SubwayNetwork network) {
+		Optional<T> attached = network.findAttached(type);
+		if (attached.isPresent()) {
+			return attached;
+		}
+
+		T index = factory.apply(network);
+		if (index == null) {
+			return Optional.empty();
+		}
+		return Optional.of(network.attach(type, it -> index));
+	}
+
+	private CompletableFuture<Optional<T>> buildOf(SubwayNetwork network) {
+		while (true) {
+			Build<T> current = latestBuild.get();
+			if (current != null && current.network == network) {
+				return current.result;
+			}
+			if (current != null && current.network.getVersion() > network.getVersion()) {
+				return CompletableFuture.completedFuture(network.findAttached(type));
+			}
+
+			Build<T> next = new Build<>(network);
+			if (latestBuild.compareAndSet(current, next)) {
+				submit(next);
+				return next.result;
+			}
+		}
+	}
+
+	private void submit(Build<T> pending) {
+		try {
+			executor.execute(() -> {
+				try {
+					pending.result.complete(build(pending.network));
+				} catch (RuntimeException e) {
+					pending.result.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			pending.result.complete(Optional.empty());
+		}
+	}
+
+	private static final class Build<T> {
+		private final SubwayNetwork network;
+		private final CompletableFuture<Optional<T>> result = new CompletableFuture<>();
+
+		private Build(SubwayNetwork network) {
+			this.network = network;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.PathFinder;
+import nextstep.subway.api.infrastructure.graph.BidirectionalDijkstraSearch;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.DijkstraSearch;
+import nextstep.subway.api.infrastructure.graph.RouteSearchResult;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * 정방향/역방향 CSR 그래프를 함께 두고 출발역과 도착역 양쪽에서 탐색하는 양방향 다익스트라 PathFinder.
+ * 두 그래프는 노선망 스냅샷마다 한 번만 만들어 스냅샷에 보관한다.
+ * 질의 시간과 확정(settle)한 정점 수는 PathFinderMetrics 로 기록하여 단방향 탐색(csr)과 비교할 수 있다.
+ * <p>
+ * subway.path.finder=bidirectional 설정으로 활성화한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/16
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "subway.path", name = "finder", havingValue = "bidirectional")
+public class BidirectionalDijkstraShortestPathFinder implements PathFinder {
+
+	private static final String FINDER_NAME = "bidirectional";
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	@Override
+	public Path findShortestPath(Station sourceStation, Station targetStation, SubwayNetwork network) {
+		return searchRoute(FINDER_NAME, pathFinderMetrics, sourceStation, targetStation, network);
+	}
+
+	/**
+	 * 도착역이 여러 개라면 만나는 지점을 정할 수 없으므로 정방향 그래프에서 한 번의 단방향 탐색으로 모든 도착역을 구한다.
+	 */
+	@Override
+	public Map<Long, Path> findShortestPaths(Station sourceStation, List<Station> targetStations, SubwayNetwork network) {
+		return searchPaths(sourceStation, targetStations, network);
+	}
+
+	/**
+	 * 양방향 다익스트라 탐색으로 최단 경로를 찾는다.
+	 * 색인을 백그라운드에서 만드는 다른 탐색기들도 색인이 준비되기 전에는 이 탐색으로 응답하며, 지표는 호출한 탐색기의 이름으로 남긴다.
+	 */
+	static Path searchRoute(String finderName, PathFinderMetrics pathFinderMetrics, Station sourceStation, Station targetStation, SubwayNetwork network) {
+		BidirectionalDijkstraSearch search = network.attach(BidirectionalDijkstraSearch.class, BidirectionalDijkstraShortestPathFinder::createSearch);
+		CompressedSparseRowGraph graph = search.getGraph();
+
+		int source = graph.indexOf(sourceStation);
+		int target = graph.indexOf(targetStation);
+		if (source == CompressedSparseRowGraph.NO_VERTEX || target == CompressedSparseRowGraph.NO_VERTEX) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+
+		long startedAt = System.nanoTime();
+		RouteSearchResult result = search.findRoute(source, target);
+		pathFinderMetrics.recordQuery(finderName, System.nanoTime() - startedAt, result.getSettledVertexCount());
+
+		if (!result.isFound()) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+
+		return result.getPath();
+	}
+
+	/**
+	 * 정방향 CSR 그래프에서 한 번의 단방향 탐색으로 여러 도착역까지의 최단 경로를 구한다.
+	 */
+	static Map<Long, Path> searchPaths(Station sourceStation, List<Station> targetStations, SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+		return DijkstraSearch.searchPaths(graph, sourceStation, targetStations);
+	}
+
+	static BidirectionalDijkstraSearch createSearch(SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+		return BidirectionalDijkstraSearch.from(graph);
+	}
+}
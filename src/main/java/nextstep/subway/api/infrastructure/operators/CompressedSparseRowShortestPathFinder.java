@@ -0,0 +1,65 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.PathFinder;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.DijkstraSearch;
+import nextstep.subway.api.infrastructure.graph.RouteSearchResult;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * 역 id를 조밀한 정점 번호로 바꾼 CSR 그래프 위에서 다익스트라 탐색을 수행하는 PathFinder.
+ * 결과는 JGraphT 기반 구현과 같은 Path 값 객체로 반환한다.
+ * 탐색용 배열과 힙은 스레드마다 재사용하므로, JGraphT 기반 구현과 달리 질의마다 힙/맵/간선 객체를 만들지 않고 결과 Path만 할당한다.
+ * 질의 시간과 확정(settle)한 정점 수는 PathFinderMetrics 로 기록하여, 다른 탐색 엔진과 비교하는 기준으로 사용한다.
+ * <p>
+ * subway.path.finder=csr 설정으로 활성화한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/14
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "subway.path", name = "finder", havingValue = "csr")
+public class CompressedSparseRowShortestPathFinder implements PathFinder {
+
+	private static final String FINDER_NAME = "csr";
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	@Override
+	public Path findShortestPath(Station sourceStation, Station targetStation, SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+
+		int source = graph.indexOf(sourceStation);
+		int target = graph.indexOf(targetStation);
+		if (source == CompressedSparseRowGraph.NO_VERTEX || target == CompressedSparseRowGraph.NO_VERTEX) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+
+		long startedAt = System.nanoTime();
+		RouteSearchResult result = DijkstraSearch.findRoute(graph, source, target);
+		pathFinderMetrics.recordQuery(FINDER_NAME, System.nanoTime() - startedAt, result.getSettledVertexCount());
+
+		if (!result.isFound()) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+
+		return result.getPath();
+	}
+
+	@Override
+	public Map<Long, Path> findShortestPaths(Station sourceStation, List<Station> targetStations, SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+		return DijkstraSearch.searchPaths(graph, sourceStation, targetStations);
+	}
+}
@@ -0,0 +1,64 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.ReachabilityChecker;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.ReachabilityIndex;
+
+/**
+ * 노선망 스냅샷마다 강한 연결 요소/축약 DAG 기반의 ReachabilityIndex를 만들어 붙여두고, 도달 가능성을 O(1)로 판단하는 ReachabilityChecker.
+ * <p>
+ * 색인은 SnapshotIndexBuilder가 백그라운드 스레드에서 새 노선망 스냅샷의 CSR 그래프로 만들어 스냅샷에 붙인다.
+ * 따라서 구간 쓰기 요청이나 노선망 교체 잠금이 색인 생성을 기다리지 않는다.
+ * 색인이 만들어지기 전에는 노선망에 있는 역끼리라면 도달할 수 있다고 답하여, 경로 탐색이 직접 판단하도록 한다.
+ * 색인 생성 시간과 전이 폐포가 차지하는 메모리는 PathFinderMetrics 와 로그로 남긴다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+@Slf4j
+@Component
+public class CondensationReachabilityChecker implements ReachabilityChecker {
+
+	private static final String FINDER_NAME = "reachability";
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	private final BackgroundSnapshotIndex<ReachabilityIndex> indexes;
+
+	public CondensationReachabilityChecker(PathFinderMetrics pathFinderMetrics, SnapshotIndexBuilder snapshotIndexBuilder) {
+		this.pathFinderMetrics = pathFinderMetrics;
+		this.indexes = snapshotIndexBuilder.register(ReachabilityIndex.class, this::createIndex);
+	}
+
+	@Override
+	public boolean isReachable(Station sourceStation, Station targetStation, SubwayNetwork network) {
+		return indexes.query(network,
+			index -> index.isReachable(index.getGraph().indexOf(sourceStation), index.getGraph().indexOf(targetStation)),
+			() -> isInNetwork(sourceStation, network) && isInNetwork(targetStation, network));
+	}
+
+	/**
+	 * 스냅샷이 이미 가지고 있는 CSR 그래프(구간 변경분으로 갱신된 그래프 포함)를 재사용하여 색인을 만든다.
+	 */
+	private ReachabilityIndex createIndex(SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+		ReachabilityIndex index = ReachabilityIndex.build(graph);
+		pathFinderMetrics.recordPreprocessing(FINDER_NAME, index.getPreprocessingNanos());
+		pathFinderMetrics.recordGauge(FINDER_NAME, "subway.path.reachability.bytes", index.getClosureBytes());
+		log.info("reachability index built: version={}, stations={}, components={}, bytes={}, elapsed={}ms",
+			network.getVersion(), graph.vertexCount(), index.getComponentCount(), index.getClosureBytes(),
+			TimeUnit.NANOSECONDS.toMillis(index.getPreprocessingNanos()));
+		return index;
+	}
+
+	private boolean isInNetwork(Station station, SubwayNetwork network) {
+		return station != null && network.findStation(station.getId()).isPresent();
+	}
+}
@@ -0,0 +1,95 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.PathFinder;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.ContractionHierarchy;
+import nextstep.subway.api.infrastructure.graph.RouteSearchResult;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * Contraction Hierarchies 인덱스로 최단 경로를 찾는 PathFinder.
+ * <p>
+ * 인덱스는 SnapshotIndexBuilder가 노선망 스냅샷마다 백그라운드 스레드에서 한 번만 전처리하여 스냅샷에 붙이고,
+ * 이후 질의는 양방향 upward 탐색만 수행한다. 인덱스가 붙기 전에는 양방향 다익스트라 탐색으로 응답한다.
+ * 전처리 시간과 지름길 수, 질의 시간과 확정한 정점 수는 PathFinderMetrics 로 기록한다.
+ * <p>
+ * subway.path.finder=ch 설정으로 활성화한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/15
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "subway.path", name = "finder", havingValue = "ch")
+public class ContractionHierarchyShortestPathFinder implements PathFinder {
+
+	private static final String FINDER_NAME = "ch";
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	private final BackgroundSnapshotIndex<ContractionHierarchy> hierarchies;
+
+	public ContractionHierarchyShortestPathFinder(PathFinderMetrics pathFinderMetrics, SnapshotIndexBuilder snapshotIndexBuilder) {
+		this.pathFinderMetrics = pathFinderMetrics;
+		this.hierarchies = snapshotIndexBuilder.register(ContractionHierarchy.class, this::buildHierarchy);
+	}
+
+	@Override
+	public Path findShortestPath(Station sourceStation, Station targetStation, SubwayNetwork network) {
+		return hierarchies.query(network,
+			hierarchy -> findWithHierarchy(hierarchy, sourceStation, targetStation),
+			() -> BidirectionalDijkstraShortestPathFinder.searchRoute(FINDER_NAME, pathFinderMetrics, sourceStation, targetStation, network));
+	}
+
+	/**
+	 * 출발역의 upward 탐색을 한 번만 하고 도착역마다 역방향 upward 탐색만 수행하여 여러 도착역까지의 경로를 구한다.
+	 */
+	@Override
+	public Map<Long, Path> findShortestPaths(Station sourceStation, List<Station> targetStations, SubwayNetwork network) {
+		return hierarchies.query(network,
+			hierarchy -> hierarchy.findPaths(sourceStation, targetStations),
+			() -> BidirectionalDijkstraShortestPathFinder.searchPaths(sourceStation, targetStations, network));
+	}
+
+	private Path findWithHierarchy(ContractionHierarchy hierarchy, Station sourceStation, Station targetStation) {
+		CompressedSparseRowGraph graph = hierarchy.getGraph();
+
+		int source = graph.indexOf(sourceStation);
+		int target = graph.indexOf(targetStation);
+		if (source == CompressedSparseRowGraph.NO_VERTEX || target == CompressedSparseRowGraph.NO_VERTEX) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+
+		long startedAt = System.nanoTime();
+		RouteSearchResult result = hierarchy.findRoute(source, target);
+		pathFinderMetrics.recordQuery(FINDER_NAME, System.nanoTime() - startedAt, result.getSettledVertexCount());
+
+		if (!result.isFound()) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+		return result.getPath();
+	}
+
+	private ContractionHierarchy buildHierarchy(SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+		ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+
+		pathFinderMetrics.recordPreprocessing(FINDER_NAME, hierarchy.getPreprocessingNanos());
+		pathFinderMetrics.recordGauge(FINDER_NAME, "subway.path.shortcuts", hierarchy.getShortcutCount());
+		log.info("contraction hierarchy built: version={}, stations={}, edges={}, shortcuts={}, elapsed={}ms",
+			network.getVersion(), graph.vertexCount(), graph.edgeCount(), hierarchy.getShortcutCount(),
+			TimeUnit.NANOSECONDS.toMillis(hierarchy.getPreprocessingNanos()));
+		return hierarchy;
+	}
+}
@@ -1,33 +1,48 @@
 package nextstep.subway.api.infrastructure.operators;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphPath;
 import org.jgrapht.Graphs;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.SimpleDirectedWeightedGraph;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import nextstep.subway.api.domain.model.entity.Section;
 import nextstep.subway.api.domain.model.entity.Station;
 import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
 import nextstep.subway.api.domain.operators.PathFinder;
 import nextstep.subway.common.exception.PathNotValidException;
 
 /**
+ * JGraphT의 DijkstraShortestPath를 이용하는 기본 PathFinder.
+ * subway.path.finder 설정이 없거나 jgrapht인 경우 활성화된다.
+ *
  * @author : Rene Choi
  * @since : 2024/02/09
  */
 
 @Component
+@ConditionalOnProperty(prefix = "subway.path", name = "finder", havingValue = "jgrapht", matchIfMissing = true)
 public class DijkstraBasedShortestPathFinder implements PathFinder {
 
+	/**
+	 * 그래프는 노선망 스냅샷마다 한 번만 생성하여 스냅샷에 보관하고, 이후의 탐색에서는 재사용한다.
+	 */
 	@Override
-	public Path findShortestPath(Station sourceStation, Station targetStation, List<Section> sections) {
-		Graph<Station, DefaultWeightedEdge> graph = createGraph(sections);
+	public Path findShortestPath(Station sourceStation, Station targetStation, SubwayNetwork network) {
+		Graph<Station, DefaultWeightedEdge> graph = network.attach(StationGraph.class, StationGraph::from).getGraph();
 
 		GraphPath<Station, DefaultWeightedEdge> shortestPath = calculateShortestPath(sourceStation, targetStation, graph).orElseThrow(
 			() -> new PathNotValidException("No path exists between the source and target stations."));
@@ -35,6 +50,26 @@ public class DijkstraBasedShortestPathFinder implements PathFinder {
 		return Path.of(fetchStationsInPath(shortestPath), calculateTotalDistance(graph, shortestPath));
 	}
 
+	/**
+	 * 출발역에서 한 번의 탐색으로 최단 경로 트리를 만들고, 각 도착역의 경로는 트리에서 꺼낸다.
+	 */
+	@Override
+	public Map<Long, Path> findShortestPaths(Station sourceStation, List<Station> targetStations, SubwayNetwork network) {
+		Graph<Station, DefaultWeightedEdge> graph = network.attach(StationGraph.class, StationGraph::from).getGraph();
+
+		Map<Long, Path> paths = new LinkedHashMap<>();
+		if (!graph.containsVertex(sourceStation)) {
+			return paths;
+		}
+
+		ShortestPathAlgorithm.SingleSourcePaths<Station, DefaultWeightedEdge> shortestPaths = new DijkstraShortestPath<>(graph).getPaths(sourceStation);
+		targetStations.stream()
+			.filter(graph::containsVertex)
+			.forEach(targetStation -> Optional.ofNullable(shortestPaths.getPath(targetStation))
+				.ifPresent(shortestPath -> paths.put(targetStation.getId(), Path.of(fetchStationsInPath(shortestPath), calculateTotalDistance(graph, shortestPath)))));
+		return paths;
+	}
+
 	private static Optional<GraphPath<Station, DefaultWeightedEdge>> calculateShortestPath(Station sourceStation, Station targetStation, Graph<Station, DefaultWeightedEdge> graph) {
 		try {
 			return Optional.ofNullable(new DijkstraShortestPath<>(graph).getPath(sourceStation, targetStation));
@@ -43,12 +78,20 @@ public class DijkstraBasedShortestPathFinder implements PathFinder {
 		}
 	}
 
-	private Graph<Station, DefaultWeightedEdge> createGraph(List<Section> sections) {
-		Graph<Station, DefaultWeightedEdge> graph = new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+	/**
+	 * SimpleDirectedWeightedGraph는 두 역 사이에 간선을 하나만 허용하므로, 여러 노선이 같은 상행역/하행역 구간을 가지면 처음 추가한 간선만 남는다.
+	 * 최단 경로에는 그중 가장 짧은 구간만 쓰이므로, 이미 간선이 있다면 더 짧은 거리로 가중치를 갱신한다.
+	 */
+	private static Graph<Station, DefaultWeightedEdge> createGraph(List<Section> sections) {
+		SimpleDirectedWeightedGraph<Station, DefaultWeightedEdge> graph = new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
 		sections.forEach(section -> {
-			graph.addVertex(section.getUpStation());
-			graph.addVertex(section.getDownStation());
-			Graphs.addEdgeWithVertices(graph, section.getUpStation(), section.getDownStation(), section.getDistance());
+			DefaultWeightedEdge edge = Graphs.addEdgeWithVertices(graph, section.getUpStation(), section.getDownStation(), section.getDistance());
+			if (edge == null) {
+				DefaultWeightedEdge existingEdge = graph.getEdge(section.getUpStation(), section.getDownStation());
+				if (section.getDistance() < graph.getEdgeWeight(existingEdge)) {
+					graph.setEdgeWeight(existingEdge, section.getDistance());
+				}
+			}
 		});
 		return graph;
 	}
@@ -63,4 +106,14 @@ public class DijkstraBasedShortestPathFinder implements PathFinder {
 		return shortestPath.getVertexList();
 	}
 
+	@Getter
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	private static class StationGraph {
+		private final Graph<Station, DefaultWeightedEdge> graph;
+
+		private static StationGraph from(SubwayNetwork network) {
+			return new StationGraph(createGraph(network.getSections()));
+		}
+	}
+
 }
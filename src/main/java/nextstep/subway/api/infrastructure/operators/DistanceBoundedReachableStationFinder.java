@@ -0,0 +1,49 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.stereotype.Component;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.ReachableStation;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.ReachableStationFinder;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.DistanceBoundedSweep;
+
+/**
+ * 노선망 스냅샷의 CSR 그래프 위에서 거리 예산 이내의 역을 한 번의 다익스트라 탐색으로 찾는 ReachableStationFinder.
+ * 탐색은 스트림이 소비될 때 한 역씩 진행되므로, 결과를 모두 모은 뒤 응답하지 않고 바로 흘려보낼 수 있다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Component
+public class DistanceBoundedReachableStationFinder implements ReachableStationFinder {
+
+	@Override
+	public Stream<ReachableStation> findReachableStations(Station sourceStation, long maxDistance, SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+
+		int source = graph.indexOf(sourceStation);
+		if (source == CompressedSparseRowGraph.NO_VERTEX) {
+			return Stream.empty();
+		}
+
+		DistanceBoundedSweep sweep = new DistanceBoundedSweep(graph, source, maxDistance);
+		return StreamSupport.stream(new Spliterators.AbstractSpliterator<ReachableStation>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+			@Override
+			public boolean tryAdvance(Consumer<? super ReachableStation> action) {
+				if (!sweep.advance()) {
+					return false;
+				}
+				action.accept(ReachableStation.of(graph.stationAt(sweep.vertex()), sweep.distance()));
+				return true;
+			}
+		}, false).skip(1);
+	}
+}
@@ -0,0 +1,86 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.PathFinder;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.HubLabelIndex;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * 2-hop 허브 레이블 색인으로 최단 경로를 찾는 PathFinder.
+ * <p>
+ * 질의는 출발역의 정방향 레이블과 도착역의 역방향 레이블을 한 번 병합하는 것으로 거리를 구하고,
+ * 레이블에 함께 저장된 탐색 트리 이웃을 따라 경로를 복원하므로 그래프 탐색을 하지 않는다.
+ * 색인은 SnapshotIndexBuilder가 노선망 스냅샷마다 백그라운드 스레드에서 만들어 스냅샷에 붙이며,
+ * 만들어지기 전에는 양방향 다익스트라 탐색으로 응답한다.
+ * 색인 생성 시간과 레이블 크기는 PathFinderMetrics 와 로그로 남긴다.
+ * <p>
+ * subway.path.finder=hub-label 설정으로 활성화한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "subway.path", name = "finder", havingValue = "hub-label")
+public class HubLabelShortestPathFinder implements PathFinder {
+
+	private static final String FINDER_NAME = "hub-label";
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	private final BackgroundSnapshotIndex<HubLabelIndex> labels;
+
+	public HubLabelShortestPathFinder(PathFinderMetrics pathFinderMetrics, SnapshotIndexBuilder snapshotIndexBuilder) {
+		this.pathFinderMetrics = pathFinderMetrics;
+		this.labels = snapshotIndexBuilder.register(HubLabelIndex.class, this::createLabels);
+	}
+
+	@Override
+	public Path findShortestPath(Station sourceStation, Station targetStation, SubwayNetwork network) {
+		return labels.query(network,
+			index -> findWithLabels(index, sourceStation, targetStation),
+			() -> BidirectionalDijkstraShortestPathFinder.searchRoute(FINDER_NAME, pathFinderMetrics, sourceStation, targetStation, network));
+	}
+
+	@Override
+	public Map<Long, Path> findShortestPaths(Station sourceStation, List<Station> targetStations, SubwayNetwork network) {
+		return labels.query(network,
+			index -> index.findPaths(sourceStation, targetStations),
+			() -> BidirectionalDijkstraShortestPathFinder.searchPaths(sourceStation, targetStations, network));
+	}
+
+	private Path findWithLabels(HubLabelIndex index, Station sourceStation, Station targetStation) {
+		long startedAt = System.nanoTime();
+		Path path = index.findPath(sourceStation, targetStation).orElse(null);
+		pathFinderMetrics.recordQuery(FINDER_NAME, System.nanoTime() - startedAt);
+
+		if (path == null) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+		return path;
+	}
+
+	private HubLabelIndex createLabels(SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+		HubLabelIndex index = HubLabelIndex.build(graph);
+		pathFinderMetrics.recordPreprocessing(FINDER_NAME, index.getPreprocessingNanos());
+		pathFinderMetrics.recordGauge(FINDER_NAME, "subway.path.hub-label.entries", index.getLabelEntryCount());
+		pathFinderMetrics.recordGauge(FINDER_NAME, "subway.path.hub-label.max-size", index.getMaxLabelSize());
+		pathFinderMetrics.recordGauge(FINDER_NAME, "subway.path.hub-label.bytes", index.getLabelBytes());
+		log.info("hub labels built: version={}, stations={}, entries={}, avgLabelSize={}, maxLabelSize={}, bytes={}, elapsed={}ms",
+			network.getVersion(), graph.vertexCount(), index.getLabelEntryCount(), String.format("%.1f", index.getAverageLabelSize()),
+			index.getMaxLabelSize(), index.getLabelBytes(), TimeUnit.NANOSECONDS.toMillis(index.getPreprocessingNanos()));
+		return index;
+	}
+}
@@ -0,0 +1,70 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.PathCacheKey;
+import nextstep.subway.api.domain.operators.PathCache;
+
+/**
+ * 최단 경로를 (출발역, 도착역, 노선망 버전) 키로 보관하는 크기 제한 캐시.
+ * 여러 요청이 같은 항목을 함께 읽으므로 변경할 수 없는 Path만 보관하고, 응답 객체는 호출하는 쪽에서 요청마다 만든다.
+ * <p>
+ * 노선망이 변경되면 버전이 올라가므로 이전 버전의 항목은 더 이상 조회되지 않고, 크기 제한을 넘으면 Caffeine의 W-TinyLFU 정책에 따라 밀려난다.
+ * 조회는 잠금 없이 동시에 처리되며 접근 기록과 제거는 Caffeine이 요청 스레드 밖에서 모아 처리하므로, 적중한 요청끼리 하나의 모니터를 두고 경쟁하지 않는다.
+ * 경로 계산은 캐시 밖에서 수행하므로 같은 키에 대한 최초 요청이 동시에 들어오면 중복 계산될 수 있지만,
+ * 결과는 같은 노선망 버전에 대한 것이므로 어느 값이 남아도 무방하다.
+ * <p>
+ * 적중/실패/제거 횟수와 현재 크기는 subway.path.cache.* 지표로 노출한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/17
+ */
+@Component
+public class InMemoryPathCache implements PathCache {
+
+	private final Cache<PathCacheKey, Path> entries;
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter evictions;
+
+	public InMemoryPathCache(MeterRegistry meterRegistry, @Value("${subway.path.cache.max-size:10000}") int maxSize) {
+		this.hits = Counter.builder("subway.path.cache.requests").tag("result", "hit").register(meterRegistry);
+		this.misses = Counter.builder("subway.path.cache.requests").tag("result", "miss").register(meterRegistry);
+		this.evictions = Counter.builder("subway.path.cache.evictions").register(meterRegistry);
+		this.entries = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.removalListener((PathCacheKey key, Path path, RemovalCause cause) -> {
+				if (cause.wasEvicted()) {
+					evictions.increment();
+				}
+			})
+			.build();
+		meterRegistry.gauge("subway.path.cache.size", Tags.empty(), entries, Cache::estimatedSize);
+	}
+
+	@Override
+	public Path fetchOrCompute(PathCacheKey key, Supplier<Path> loader) {
+		Path cached = entries.getIfPresent(key);
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+
+		misses.increment();
+		Path loaded = loader.get();
+		entries.put(key, loaded);
+		return loaded;
+	}
+}
@@ -0,0 +1,128 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nextstep.subway.api.domain.dto.outport.NetworkSectionInfo;
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.event.SubwayNetworkChangedEvent;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.LineResolver;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+
+/**
+ * 노선망을 한 번 읽어 메모리에 유지하고, 노선망 변경 이벤트가 커밋된 이후에 다음 버전의 노선망으로 교체한다.
+ * <p>
+ * 노선망 스냅샷은 불변이며 AtomicReference 하나로 공개한다. 조회 요청은 잠금 없이 현재 스냅샷을 읽어 끝까지 그 스냅샷만 사용하므로,
+ * 한 요청 안에서 서로 다른 버전의 노선망이 섞이지 않는다.
+ * 변경 이벤트를 받으면 이전 스냅샷을 버리지 않고 다음 스냅샷을 먼저 만든 뒤 교체하므로, 교체 중에도 조회 요청은 이전 스냅샷으로 응답한다.
+ * 잠금은 다음 스냅샷을 만드는 쪽끼리만 사용하며, 조회 요청이 기다리는 경우는 노선망을 처음 읽을 때뿐이다.
+ * <p>
+ * 변경 이벤트를 트랜잭션 커밋 이후에 처리하는 이유는, 커밋 전에 다음 스냅샷을 만들면 아직 커밋되지 않은(즉, 변경 전) 노선망을 읽을 수 있기 때문이다.
+ * 커밋된 트랜잭션에 참여하지 않도록 다음 스냅샷은 새 읽기 전용 트랜잭션에서 읽는다.
+ * 변경 이벤트를 받아 새 노선망을 미리 준비하는 다른 리스너들이 교체 이후에 실행되도록 가장 먼저 처리한다.
+ * <p>
+ * 구간 추가/삭제처럼 이벤트에 구간 변경분이 담겨 있다면, 노선망을 다시 읽는 대신 변경분만 반영한 다음 버전의 노선망으로 교체한다.
+ * 변경분을 반영할 수 없다면 노선망 전체를 다시 읽는다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/13
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemorySubwayNetworkResolver implements SubwayNetworkResolver {
+
+	private final LineResolver lineResolver;
+
+	private final AtomicLong version = new AtomicLong();
+	private final Object writeLock = new Object();
+
+	private final AtomicReference<SubwayNetwork> network = new AtomicReference<>();
+
+	@Override
+	@Transactional(readOnly = true)
+	public SubwayNetwork fetchNetwork() {
+		SubwayNetwork current = network.get();
+		if (current != null) {
+			return current;
+		}
+		return loadInitialNetwork();
+	}
+
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+	public void onNetworkChanged(SubwayNetworkChangedEvent event) {
+		synchronized (writeLock) {
+			SubwayNetwork current = network.get();
+			if (current == null) {
+				return;
+			}
+
+			long nextVersion = version.incrementAndGet();
+			if (event.hasSectionChanges()) {
+				SubwayNetwork patched = current.patch(nextVersion, event.getLineId(), event.getSectionChanges()).orElse(null);
+				if (patched != null) {
+					network.set(patched);
+					return;
+				}
+			}
+			network.set(reload(nextVersion));
+		}
+	}
+
+	private SubwayNetwork loadInitialNetwork() {
+		synchronized (writeLock) {
+			SubwayNetwork current = network.get();
+			if (current != null) {
+				return current;
+			}
+
+			SubwayNetwork loaded = toNetwork(version.get(), lineResolver.fetchNetworkSections());
+			network.set(loaded);
+			return loaded;
+		}
+	}
+
+	/**
+	 * 다음 스냅샷을 읽지 못했다면 이전 스냅샷을 계속 사용하지 않도록 비워두고, 다음 조회 요청에서 다시 읽게 한다.
+	 */
+	private SubwayNetwork reload(long nextVersion) {
+		try {
+			return toNetwork(nextVersion, lineResolver.fetchNetworkSections());
+		} catch (RuntimeException e) {
+			log.warn("failed to reload subway network: version={}", nextVersion, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 노선망 로딩 쿼리 결과를 노선별 구간 목록으로 묶는다. 노선 엔티티와 지연 로딩 컬렉션을 거치지 않으므로 추가 쿼리가 발생하지 않는다.
+	 */
+	private SubwayNetwork toNetwork(long loadingVersion, List<NetworkSectionInfo> networkSections) {
+		Map<Long, List<Section>> sectionsByLine = new LinkedHashMap<>();
+		Map<Long, String> lineNamesById = new HashMap<>();
+		Map<Long, Station> stationsById = new HashMap<>();
+		networkSections.forEach(networkSection -> {
+			lineNamesById.putIfAbsent(networkSection.getLineId(), networkSection.getLineName());
+			sectionsByLine.computeIfAbsent(networkSection.getLineId(), lineId -> new ArrayList<>()).add(networkSection.toSection(stationsById));
+		});
+		return SubwayNetwork.of(loadingVersion, sectionsByLine, lineNamesById);
+	}
+}
@@ -0,0 +1,99 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.PathFinder;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.LandmarkIndex;
+import nextstep.subway.api.infrastructure.graph.RouteSearchResult;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * 랜드마크 거리표를 하한으로 사용하는 ALT(A*) 탐색으로 최단 경로를 찾는 PathFinder.
+ * <p>
+ * 거리표는 SnapshotIndexBuilder가 노선망 스냅샷마다 백그라운드 스레드에서 한 번 계산하여 스냅샷에 붙이며,
+ * 붙기 전에는 양방향 다익스트라 탐색으로 응답한다.
+ * 질의마다 확정한 정점 수를 PathFinderMetrics 로 기록하므로, 같은 지표를 기록하는 csr 엔진(일반 다익스트라)과 탐색량을 비교할 수 있다.
+ * <p>
+ * subway.path.finder=alt 설정으로 활성화하며, 랜드마크 수는 subway.path.alt.landmark-count 로 조정한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/16
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "subway.path", name = "finder", havingValue = "alt")
+public class LandmarkBasedShortestPathFinder implements PathFinder {
+
+	private static final String FINDER_NAME = "alt";
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	private final int landmarkCount;
+
+	private final BackgroundSnapshotIndex<LandmarkIndex> landmarkIndexes;
+
+	public LandmarkBasedShortestPathFinder(PathFinderMetrics pathFinderMetrics, SnapshotIndexBuilder snapshotIndexBuilder,
+		@Value("${subway.path.alt.landmark-count:8}") int landmarkCount) {
+		this.pathFinderMetrics = pathFinderMetrics;
+		this.landmarkCount = landmarkCount;
+		this.landmarkIndexes = snapshotIndexBuilder.register(LandmarkIndex.class, this::buildLandmarkIndex);
+	}
+
+	@Override
+	public Path findShortestPath(Station sourceStation, Station targetStation, SubwayNetwork network) {
+		return landmarkIndexes.query(network,
+			landmarkIndex -> findWithLandmarks(landmarkIndex, sourceStation, targetStation),
+			() -> BidirectionalDijkstraShortestPathFinder.searchRoute(FINDER_NAME, pathFinderMetrics, sourceStation, targetStation, network));
+	}
+
+	/**
+	 * 랜드마크 하한은 도착역마다 달라 여러 도착역에 함께 쓸 수 없으므로, 도착역마다 A* 탐색을 반복하지 않고
+	 * 정방향 CSR 그래프에서 한 번의 다익스트라 탐색으로 모든 도착역을 구한다.
+	 */
+	@Override
+	public Map<Long, Path> findShortestPaths(Station sourceStation, List<Station> targetStations, SubwayNetwork network) {
+		return BidirectionalDijkstraShortestPathFinder.searchPaths(sourceStation, targetStations, network);
+	}
+
+	private Path findWithLandmarks(LandmarkIndex landmarkIndex, Station sourceStation, Station targetStation) {
+		CompressedSparseRowGraph graph = landmarkIndex.getGraph();
+
+		int source = graph.indexOf(sourceStation);
+		int target = graph.indexOf(targetStation);
+		if (source == CompressedSparseRowGraph.NO_VERTEX || target == CompressedSparseRowGraph.NO_VERTEX) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+
+		long startedAt = System.nanoTime();
+		RouteSearchResult result = landmarkIndex.findRoute(source, target);
+		pathFinderMetrics.recordQuery(FINDER_NAME, System.nanoTime() - startedAt, result.getSettledVertexCount());
+
+		if (!result.isFound()) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+		return result.getPath();
+	}
+
+	private LandmarkIndex buildLandmarkIndex(SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+		LandmarkIndex landmarkIndex = LandmarkIndex.build(graph, landmarkCount);
+
+		pathFinderMetrics.recordPreprocessing(FINDER_NAME, landmarkIndex.getPreprocessingNanos());
+		pathFinderMetrics.recordGauge(FINDER_NAME, "subway.path.landmarks", landmarkIndex.getLandmarkCount());
+		log.info("landmark index built: version={}, stations={}, landmarks={}, elapsed={}ms",
+			network.getVersion(), graph.vertexCount(), landmarkIndex.getLandmarkCount(),
+			TimeUnit.NANOSECONDS.toMillis(landmarkIndex.getPreprocessingNanos()));
+		return landmarkIndex;
+	}
+}
@@ -0,0 +1,41 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.LinePath;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.TransferMinimizingPathFinder;
+import nextstep.subway.api.infrastructure.graph.LineAwareGraph;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * 노선망 스냅샷의 노선별 구간으로 만든 LineAwareGraph 위에서 최소 환승 경로를 찾는 TransferMinimizingPathFinder.
+ * 그래프는 노선망 스냅샷마다 한 번만 만들어 스냅샷에 붙여 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Component
+@RequiredArgsConstructor
+public class LineAwareTransferMinimizingPathFinder implements TransferMinimizingPathFinder {
+
+	private static final String FINDER_NAME = "transfer";
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	@Override
+	public LinePath findLeastTransferPath(Station sourceStation, Station targetStation, SubwayNetwork network) {
+		LineAwareGraph graph = network.attach(LineAwareGraph.class, LineAwareGraph::from);
+
+		long startedAt = System.nanoTime();
+		LinePath path = graph.findRoute(sourceStation, targetStation);
+		pathFinderMetrics.recordQuery(FINDER_NAME, System.nanoTime() - startedAt);
+
+		if (path == null) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+		return path;
+	}
+}
@@ -0,0 +1,73 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import nextstep.subway.api.domain.model.vo.DistanceMatrix;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.DistanceMatrixFinder;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.DistanceTable;
+
+/**
+ * 노선망 스냅샷에 붙은 CSR 그래프 하나를 모든 행이 함께 읽으면서, 출발역별 행을 전용 ForkJoinPool에서 병렬로 계산하는 DistanceMatrixFinder.
+ * <p>
+ * 출발역 한 곳의 행은 한 번의 one-to-many 다익스트라 탐색으로 채워지고 행끼리는 공유하는 쓰기 상태가 없으므로,
+ * 출발역이 코어 수보다 충분히 많다면 처리량은 코어 수에 거의 비례한다.
+ * 공용 ForkJoinPool을 쓰면 다른 병렬 스트림과 스레드를 나눠 쓰게 되므로 풀은 따로 두며,
+ * 크기는 subway.path.distance-matrix.parallelism 으로 정하고 지정하지 않으면 코어 수로 한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+@Component
+public class ParallelDistanceMatrixFinder implements DistanceMatrixFinder {
+
+	private static final String FINDER_NAME = "distance-matrix";
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	private final ForkJoinPool pool;
+
+	public ParallelDistanceMatrixFinder(PathFinderMetrics pathFinderMetrics,
+		@Value("${subway.path.distance-matrix.parallelism:0}") int parallelism) {
+		this.pathFinderMetrics = pathFinderMetrics;
+		this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+	}
+
+	@Override
+	public DistanceMatrix findDistanceMatrix(List<Long> sourceIds, List<Long> targetIds, SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+		int[] sources = sourceIds.stream().mapToInt(graph::indexOf).toArray();
+		int[] targets = targetIds.stream().mapToInt(graph::indexOf).toArray();
+
+		long startedAt = System.nanoTime();
+		DistanceTable table = DistanceTable.compute(graph, sources, targets, pool);
+		pathFinderMetrics.recordQuery(FINDER_NAME, System.nanoTime() - startedAt, (int)Math.min(Integer.MAX_VALUE, table.getSettledVertexCount()));
+
+		return DistanceMatrix.of(sourceIds, targetIds, toDistances(table));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	private List<List<Long>> toDistances(DistanceTable table) {
+		List<List<Long>> distances = new ArrayList<>(table.rowCount());
+		for (int row = 0; row < table.rowCount(); row++) {
+			List<Long> distanceRow = new ArrayList<>(table.columnCount(row));
+			for (int column = 0; column < table.columnCount(row); column++) {
+				distanceRow.add(table.isReachable(row, column) ? table.distance(row, column) : null);
+			}
+			distances.add(distanceRow);
+		}
+		return distances;
+	}
+}
@@ -0,0 +1,90 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경로 탐색 엔진별 질의 시간, 확정(settle)한 정점 수, 전처리 통계를 Micrometer 지표로 기록한다.
+ * 모든 지표에는 엔진 이름이 finder 태그로 붙으며, /actuator/metrics 에서 조회할 수 있다.
+ * <p>
+ * 질의 지표는 요청마다 기록되므로 엔진별 Timer와 DistributionSummary를 처음 기록할 때 한 번만 등록해두고,
+ * 이후에는 빌더 생성이나 레지스트리 조회 없이 record만 호출한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/15
+ */
+@Component
+@RequiredArgsConstructor
+public class PathFinderMetrics {
+
+	private static final String FINDER_TAG = "finder";
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, AtomicLong> gauges = new ConcurrentHashMap<>();
+
+	private final Map<String, QueryMeters> queryMeters = new ConcurrentHashMap<>();
+
+	public void recordQuery(String finder, long elapsedNanos, int settledVertexCount) {
+		QueryMeters meters = queryMetersOf(finder);
+		meters.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		meters.settled.record(settledVertexCount);
+	}
+
+	/**
+	 * 정점을 확정하는 탐색 없이 미리 계산한 표를 조회하는 엔진의 질의 시간만 기록한다.
+	 * 확정한 정점 수 분포에 0을 섞으면 탐색 기반 엔진과 비교할 수 없게 되므로 subway.path.query.settled 는 기록하지 않는다.
+	 */
+	public void recordQuery(String finder, long elapsedNanos) {
+		queryMetersOf(finder).timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordPreprocessing(String finder, long elapsedNanos) {
+		Timer.builder("subway.path.preprocessing")
+			.tag(FINDER_TAG, finder)
+			.register(meterRegistry)
+			.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 가장 최근에 기록한 값을 보여주는 게이지. 같은 이름과 엔진으로 다시 기록하면 값을 덮어쓴다.
+	 */
+	public void recordGauge(String finder, String name, long value) {
+		gauges.computeIfAbsent(finder + ":" + name, key -> meterRegistry.gauge(name, Tags.of(FINDER_TAG, finder), new AtomicLong()))
+			.set(value);
+	}
+
+	private QueryMeters queryMetersOf(String finder) {
+		QueryMeters meters = queryMeters.get(finder);
+		if (meters == null) {
+			meters = queryMeters.computeIfAbsent(finder, this::registerQueryMeters);
+		}
+		return meters;
+	}
+
+	private QueryMeters registerQueryMeters(String finder) {
+		Timer timer = Timer.builder("subway.path.query")
+			.tag(FINDER_TAG, finder)
+			.register(meterRegistry);
+		DistributionSummary settled = DistributionSummary.builder("subway.path.query.settled")
+			.tag(FINDER_TAG, finder)
+			.register(meterRegistry);
+		return new QueryMeters(timer, settled);
+	}
+
+	@RequiredArgsConstructor
+	private static class QueryMeters {
+		private final Timer timer;
+		private final DistributionSummary settled;
+	}
+}
@@ -0,0 +1,98 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.PathFinder;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * 애플리케이션이 트래픽을 받기 전에 노선망과 탐색 그래프를 미리 만들고, 경로 탐색 코드를 JIT 컴파일되도록 데워둔다.
+ * <p>
+ * 배포 직후에는 노선망이 메모리에 없고, 그래프도 만들어지지 않았으며, 탐색 코드도 인터프리터로 실행되므로 첫 요청들이 크게 느리다.
+ * 따라서 ApplicationReadyEvent를 받으면 노선망을 불러오고, SnapshotIndexBuilder가 이 스냅샷의 색인(행렬, 허브 레이블, CH, 랜드마크, 도달 가능성)을
+ * 모두 붙일 때까지 기다린 뒤 노선망의 역 중 임의의 쌍으로 subway.path.warm-up.queries 번 경로를 탐색한다.
+ * 색인을 기다리지 않으면 워밍업 탐색이 색인이 없을 때의 대체 탐색으로만 실행되어, 실제로 트래픽을 처리할 코드는 데워지지 않는다.
+ * 임의의 쌍은 고정된 시드로 고르므로 배포마다 같은 워밍업이 실행된다.
+ * <p>
+ * 이 리스너는 ApplicationReadyEvent를 발행한 스레드에서 실행되고, 스프링 부트는 리스너가 모두 끝난 뒤에 readiness 상태를 ACCEPTING_TRAFFIC으로 바꾼다.
+ * 따라서 /actuator/health/readiness 는 워밍업이 끝난 뒤에야 UP이 된다.
+ * 워밍업 시간과 실행한 탐색 수는 로그와 PathFinderMetrics 게이지로 남긴다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/20
+ */
+@Slf4j
+@Component
+public class PathFinderWarmUp {
+
+	private static final String FINDER_NAME = "warm-up";
+	private static final long RANDOM_SEED = 20240220L;
+
+	private final SubwayNetworkResolver subwayNetworkResolver;
+
+	private final PathFinder pathFinder;
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	private final SnapshotIndexBuilder snapshotIndexBuilder;
+
+	private final int queryCount;
+
+	public PathFinderWarmUp(SubwayNetworkResolver subwayNetworkResolver, PathFinder pathFinder, PathFinderMetrics pathFinderMetrics,
+		SnapshotIndexBuilder snapshotIndexBuilder, @Value("${subway.path.warm-up.queries:2000}") int queryCount) {
+		this.subwayNetworkResolver = subwayNetworkResolver;
+		this.pathFinder = pathFinder;
+		this.pathFinderMetrics = pathFinderMetrics;
+		this.snapshotIndexBuilder = snapshotIndexBuilder;
+		this.queryCount = queryCount;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		warmUp();
+	}
+
+	/**
+	 * 노선망을 불러와 색인이 모두 붙을 때까지 기다린 뒤 워밍업 탐색을 실행하고, 실행한 탐색 수를 반환한다.
+	 * 경로가 없는 쌍도 탐색 코드를 실행한 것이므로 실행한 탐색 수에 포함한다.
+	 */
+	int warmUp() {
+		long startedAt = System.nanoTime();
+		SubwayNetwork network = subwayNetworkResolver.fetchNetwork();
+		snapshotIndexBuilder.awaitAll(network);
+		List<Station> stations = network.getStations();
+
+		int executedQueries = 0;
+		int unreachableQueries = 0;
+		if (stations.size() > 1) {
+			Random random = new Random(RANDOM_SEED);
+			for (; executedQueries < queryCount; executedQueries++) {
+				int source = random.nextInt(stations.size());
+				int target = (source + 1 + random.nextInt(stations.size() - 1)) % stations.size();
+				try {
+					pathFinder.findShortestPath(stations.get(source), stations.get(target), network);
+				} catch (PathNotValidException e) {
+					unreachableQueries++;
+				}
+			}
+		}
+
+		long elapsedNanos = System.nanoTime() - startedAt;
+		pathFinderMetrics.recordGauge(FINDER_NAME, "subway.path.warm-up.duration.ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+		pathFinderMetrics.recordGauge(FINDER_NAME, "subway.path.warm-up.queries", executedQueries);
+		log.info("path finder warm-up finished: version={}, stations={}, queries={}, unreachable={}, elapsed={}ms",
+			network.getVersion(), stations.size(), executedQueries, unreachableQueries, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+		return executedQueries;
+	}
+}
@@ -6,9 +6,11 @@ import java.util.Optional;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import nextstep.subway.api.domain.dto.outport.NetworkSectionInfo;
 import nextstep.subway.api.domain.model.entity.Line;
 import nextstep.subway.api.domain.operators.LineResolver;
 import nextstep.subway.api.infrastructure.persistence.LineRepository;
+import nextstep.subway.api.infrastructure.persistence.SectionRepository;
 
 /**
  * @author : Rene Choi
@@ -18,6 +20,7 @@ import nextstep.subway.api.infrastructure.persistence.LineRepository;
 @RequiredArgsConstructor
 public class SimpleLineResolver implements LineResolver {
 	private final LineRepository lineRepository;
+	private final SectionRepository sectionRepository;
 
 	@Override
 	public List<Line> fetchAll() {
@@ -29,4 +32,14 @@ public class SimpleLineResolver implements LineResolver {
 		return lineRepository.findById(id);
 	}
 
+	@Override
+	public List<Line> fetchAllWithSectionsByIds(List<Long> ids) {
+		return lineRepository.findAllWithSectionsByIdIn(ids);
+	}
+
+	@Override
+	public List<NetworkSectionInfo> fetchNetworkSections() {
+		return sectionRepository.findAllNetworkSections();
+	}
+
 }
@@ -1,5 +1,9 @@
 package nextstep.subway.api.infrastructure.operators;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +32,17 @@ public class SimpleSectionFactory implements SectionFactory {
 		return sectionRepository.save(section);
 	}
 
+	/**
+	 * 구간 id는 시퀀스에서 미리 할당받으므로 saveAll 시점에는 insert가 실행되지 않고, flush 시점에 배치 insert로 한 번에 실행된다.
+	 */
+	@Override
+	public List<Section> createSections(List<SectionCreateCommand> commands, Map<Long, Station> stationsById) {
+		List<Section> sections = commands.stream()
+			.map(command -> Section.of(stationsById.get(command.getUpStationId()), stationsById.get(command.getDownStationId()), command.getDistance()))
+			.collect(Collectors.toList());
+		return sectionRepository.saveAll(sections);
+	}
+
 	@Override
 	public Section createSection(LineCreateCommand createCommand) {
 		Station upStation = stationRepository.findById(createCommand.getUpStationId()).orElseThrow();
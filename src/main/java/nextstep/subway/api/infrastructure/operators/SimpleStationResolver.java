@@ -29,4 +29,9 @@ public class SimpleStationResolver implements StationResolver {
 	public Optional<Station> fetchOptional(Long id) {
 		return stationRepository.findById(id);
 	}
+
+	@Override
+	public List<Station> fetchAllByIds(List<Long> ids) {
+		return stationRepository.findByIdIn(ids);
+	}
 }
@@ -0,0 +1,80 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import nextstep.subway.api.domain.model.event.SubwayNetworkChangedEvent;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+
+/**
+ * 경로 탐색기들이 노선망 스냅샷마다 만드는 색인(전체 쌍 행렬, 허브 레이블, CH, 랜드마크 거리표, 도달 가능성 색인)을
+ * 하나의 백그라운드 스레드에서 만드는 빌더.
+ * <p>
+ * 탐색기는 register()로 색인 타입과 생성 함수만 등록하고, 받은 BackgroundSnapshotIndex로 질의한다.
+ * 노선망 변경이 커밋되면 등록된 모든 색인의 생성을 새 스냅샷에 대해 예약하므로, 변경 직후의 첫 요청도 색인 생성을 기다리지 않는다.
+ * 색인 생성은 CPU를 많이 쓰므로 요청 처리 스레드와 경쟁하지 않도록 스레드 하나에서 차례로 실행한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/17
+ */
+@Component
+public class SnapshotIndexBuilder {
+
+	private final SubwayNetworkResolver subwayNetworkResolver;
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "snapshot-index-builder");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final List<BackgroundSnapshotIndex<?>> indexes = new CopyOnWriteArrayList<>();
+
+	public SnapshotIndexBuilder(SubwayNetworkResolver subwayNetworkResolver) {
+		this.subwayNetworkResolver = subwayNetworkResolver;
+	}
+
+	/**
+	 * 스냅샷마다 factory로 만들 색인을 등록한다. factory가 null을 반환한 스냅샷에는 색인을 붙이지 않는다.
+	 */
+	public <T> BackgroundSnapshotIndex<T> register(Class<T> type, Function<SubwayNetwork, T> factory) {
+		BackgroundSnapshotIndex<T> index = new BackgroundSnapshotIndex<>(type, factory, executor);
+		indexes.add(index);
+		return index;
+	}
+
+	/**
+	 * 노선망 변경이 커밋되면 새 노선망을 읽어 등록된 색인의 생성을 예약한다.
+	 * 노선망 리졸버는 같은 이벤트를 가장 먼저(@Order(HIGHEST_PRECEDENCE)) 받아 다음 버전의 스냅샷으로 교체하고,
+	 * 이 리스너는 그 뒤에 실행되어 스냅샷을 빌더 스레드에서 다시 읽으므로 교체된 새 버전의 노선망을 대상으로 예약하게 된다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNetworkChanged(SubwayNetworkChangedEvent event) {
+		executor.execute(() -> {
+			SubwayNetwork network = subwayNetworkResolver.fetchNetwork();
+			indexes.forEach(index -> index.schedule(network));
+		});
+	}
+
+	/**
+	 * 등록된 모든 색인이 주어진 스냅샷에 대해 만들어질 때까지 기다린다.
+	 */
+	public void awaitAll(SubwayNetwork network) {
+		indexes.forEach(index -> index.schedule(network));
+		indexes.forEach(index -> index.await(network));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
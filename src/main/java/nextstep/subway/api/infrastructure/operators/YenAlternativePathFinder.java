@@ -0,0 +1,52 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.AlternativePathFinder;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.YenKShortestPaths;
+
+/**
+ * 노선망 스냅샷에 붙은 CSR 그래프 위에서 Yen 알고리즘으로 대안 경로를 찾는 AlternativePathFinder.
+ * 그래프와 탐색기는 노선망 스냅샷마다 한 번만 만들어 스냅샷에 붙이고, spur 탐색은 요청 스레드의 작업 공간을 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Component
+@RequiredArgsConstructor
+public class YenAlternativePathFinder implements AlternativePathFinder {
+
+	private static final String FINDER_NAME = "yen";
+
+	private final PathFinderMetrics pathFinderMetrics;
+
+	@Override
+	public List<Path> findAlternativePaths(Station sourceStation, Station targetStation, int k, SubwayNetwork network) {
+		YenKShortestPaths search = network.attach(YenKShortestPaths.class, YenAlternativePathFinder::createSearch);
+		CompressedSparseRowGraph graph = search.getGraph();
+
+		int source = graph.indexOf(sourceStation);
+		int target = graph.indexOf(targetStation);
+		if (source == CompressedSparseRowGraph.NO_VERTEX || target == CompressedSparseRowGraph.NO_VERTEX) {
+			return new ArrayList<>();
+		}
+
+		long startedAt = System.nanoTime();
+		List<Path> paths = search.findPaths(source, target, k);
+		pathFinderMetrics.recordQuery(FINDER_NAME, System.nanoTime() - startedAt, search.getSettledVertexCount());
+		return paths;
+	}
+
+	private static YenKShortestPaths createSearch(SubwayNetwork network) {
+		CompressedSparseRowGraph graph = network.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+		return new YenKShortestPaths(graph);
+	}
+}
@@ -1,6 +1,11 @@
 package nextstep.subway.api.infrastructure.persistence;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import nextstep.subway.api.domain.model.entity.Line;
 
@@ -9,4 +14,15 @@ import nextstep.subway.api.domain.model.entity.Line;
  * @since : 2024/01/27
  */
 public interface LineRepository extends JpaRepository<Line, Long> {
+
+	/**
+	 * 노선 목록을 구간과 구간의 상행/하행역까지 한 번의 fetch join 쿼리로 읽는다.
+	 * 노선마다 Sections를, 구간마다 상행/하행 Station을 따로 읽는 N+1 조회를 피하기 위해 사용한다.
+	 * @param ids
+	 * @return 노선 id 오름차순
+	 */
+	@Query("select distinct l from Line l "
+		+ "left join fetch l.sectionCollection.sections s left join fetch s.upStation left join fetch s.downStation "
+		+ "where l.id in :ids order by l.id")
+	List<Line> findAllWithSectionsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,7 +1,11 @@
 package nextstep.subway.api.infrastructure.persistence;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import nextstep.subway.api.domain.dto.outport.NetworkSectionInfo;
 import nextstep.subway.api.domain.model.entity.Section;
 
 /**
@@ -9,4 +13,16 @@ import nextstep.subway.api.domain.model.entity.Section;
  * @since : 2024/01/27
  */
 public interface SectionRepository extends JpaRepository<Section, Long> {
+
+	/**
+	 * 경로 탐색용 노선망 로딩 쿼리.
+	 * 노선마다 Sections를, 구간마다 상행/하행 Station을 따로 읽는 N+1 조회 대신
+	 * 모든 구간을 노선 id와 상행/하행역 정보와 함께 한 번의 조인 쿼리로 읽어 프로젝션으로 반환한다.
+	 * @return
+	 */
+	@Query("select new nextstep.subway.api.domain.dto.outport.NetworkSectionInfo("
+		+ "l.id, l.name, s.id, up.id, up.name, down.id, down.name, s.distance) "
+		+ "from Line l join l.sectionCollection.sections s join s.upStation up join s.downStation down "
+		+ "order by l.id, s.id")
+	List<NetworkSectionInfo> findAllNetworkSections();
 }
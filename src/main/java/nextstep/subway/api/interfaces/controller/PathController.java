@@ -1,14 +1,40 @@
 package nextstep.subway.api.interfaces.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
+import nextstep.subway.api.domain.dto.inport.PathQueryCommand;
+import nextstep.subway.api.domain.model.vo.PathType;
 import nextstep.subway.api.domain.service.PathService;
+import nextstep.subway.api.interfaces.dto.request.PathBatchRequest;
+import nextstep.subway.api.interfaces.dto.request.PathMatrixRequest;
+import nextstep.subway.api.interfaces.dto.response.PathAlternativesResponse;
+import nextstep.subway.api.interfaces.dto.response.PathBatchResponse;
+import nextstep.subway.api.interfaces.dto.response.PathMatrixResponse;
 import nextstep.subway.api.interfaces.dto.response.PathResponse;
+import nextstep.subway.api.interfaces.dto.response.ReachableStationResponse;
+import nextstep.subway.common.exception.PathNotValidException;
 
 /**
  * @author : Rene Choi
@@ -21,9 +47,65 @@ public class PathController {
 
 	private final PathService pathService;
 
+	private final ObjectMapper objectMapper;
+
 	@GetMapping
-	public ResponseEntity<PathResponse> findShortestPath(@RequestParam Long source, @RequestParam Long target) {
-		PathResponse pathResponse = pathService.findShortestPath(source, target);
+	public ResponseEntity<PathResponse> findShortestPath(@RequestParam Long source, @RequestParam Long target,
+		@RequestParam(defaultValue = "DISTANCE") PathType type, @RequestParam(required = false) List<Long> via) {
+		if (via != null && !via.isEmpty()) {
+			if (type == PathType.TRANSFER) {
+				throw new PathNotValidException("Waypoints are only supported for shortest distance paths.");
+			}
+			return ResponseEntity.ok(pathService.findShortestPathVia(source, target, via));
+		}
+
+		PathResponse pathResponse = type == PathType.TRANSFER
+			? pathService.findLeastTransferPath(source, target)
+			: pathService.findShortestPath(source, target);
 		return ResponseEntity.ok(pathResponse);
 	}
+
+	@PostMapping("/batch")
+	public ResponseEntity<PathBatchResponse> findShortestPaths(@RequestBody PathBatchRequest batchRequest) {
+		List<PathQueryCommand> queries = Optional.ofNullable(batchRequest.getPaths()).orElseGet(Collections::emptyList).stream()
+			.map(PathQueryCommand::from)
+			.collect(Collectors.toList());
+		return ResponseEntity.ok(pathService.findShortestPaths(queries));
+	}
+
+	@PostMapping("/matrix")
+	public ResponseEntity<PathMatrixResponse> findDistanceMatrix(@RequestBody PathMatrixRequest matrixRequest) {
+		return ResponseEntity.ok(pathService.findDistanceMatrix(matrixRequest.getSources(), matrixRequest.getTargets()));
+	}
+
+	@GetMapping("/alternatives")
+	public ResponseEntity<PathAlternativesResponse> findAlternativePaths(@RequestParam Long source, @RequestParam Long target,
+		@RequestParam(defaultValue = "3") int k) {
+		return ResponseEntity.ok(pathService.findAlternativePaths(source, target, k));
+	}
+
+	/**
+	 * 도달 가능한 역이 많을 수 있으므로 응답을 메모리에 모으지 않고, 탐색으로 역이 확정되는 대로 ReachableStationsResponse 형태로 바로 써 보낸다.
+	 */
+	@GetMapping("/from/{source}")
+	public ResponseEntity<StreamingResponseBody> findReachableStations(@PathVariable Long source, @RequestParam(required = false) Long maxDistance) {
+		Stream<ReachableStationResponse> stations = pathService.findReachableStations(source, maxDistance);
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(outputStream -> writeReachableStations(source, maxDistance, stations, outputStream));
+	}
+
+	private void writeReachableStations(Long source, Long maxDistance, Stream<ReachableStationResponse> stations, OutputStream outputStream) throws IOException {
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+			generator.writeStartObject();
+			generator.writeObjectField("source", source);
+			generator.writeObjectField("maxDistance", maxDistance);
+			generator.writeArrayFieldStart("stations");
+			for (ReachableStationResponse station : (Iterable<ReachableStationResponse>)stations::iterator) {
+				objectMapper.writeValue(generator, station);
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+		}
+	}
 }
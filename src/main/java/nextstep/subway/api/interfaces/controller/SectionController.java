@@ -1,6 +1,10 @@
 package nextstep.subway.api.interfaces.controller;
 
 import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -8,12 +12,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import nextstep.subway.api.domain.dto.inport.SectionCreateCommand;
 import nextstep.subway.api.domain.dto.outport.SectionInfo;
 import nextstep.subway.api.domain.service.SectionService;
+import nextstep.subway.api.interfaces.dto.request.SectionBatchCreateRequest;
 import nextstep.subway.api.interfaces.dto.request.SectionCreateRequest;
 
 /**
@@ -33,9 +39,24 @@ public class SectionController {
 		return ResponseEntity.created(URI.create("/lines/" + lineId + "/sections/" + sectionInfo.getId())).body(sectionInfo);
 	}
 
+	@PostMapping("/{lineId}/sections/batch")
+	public ResponseEntity<List<SectionInfo>> createNewSections(@PathVariable Long lineId, @RequestBody SectionBatchCreateRequest batchRequest) {
+		List<SectionCreateCommand> createCommands = Optional.ofNullable(batchRequest.getSections()).orElseGet(Collections::emptyList).stream()
+			.map(SectionCreateCommand::from)
+			.collect(Collectors.toList());
+		List<SectionInfo> sectionInfos = sectionService.addSections(lineId, createCommands);
+		return ResponseEntity.created(URI.create("/lines/" + lineId + "/sections")).body(sectionInfos);
+	}
+
 	@DeleteMapping("/{lineId}/sections/{stationId}")
 	public ResponseEntity<Void> deleteSection(@PathVariable Long lineId, @PathVariable Long stationId) {
 		sectionService.deleteSection(lineId, stationId);
 		return ResponseEntity.noContent().build();
 	}
+
+	@DeleteMapping("/{lineId}/sections")
+	public ResponseEntity<Void> deleteSections(@PathVariable Long lineId, @RequestParam List<Long> stationIds) {
+		sectionService.deleteSections(lineId, stationIds);
+		return ResponseEntity.noContent().build();
+	}
 }
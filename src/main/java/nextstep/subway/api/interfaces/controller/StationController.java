@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import nextstep.subway.api.domain.dto.inport.StationCreateCommand;
 import nextstep.subway.api.domain.service.impl.StationService;
 import nextstep.subway.api.interfaces.dto.request.StationCreateRequest;
+import nextstep.subway.api.interfaces.dto.response.LineResponse;
 import nextstep.subway.api.interfaces.dto.response.StationResponse;
 
 @RestController
@@ -28,6 +29,11 @@ public class StationController {
         return ResponseEntity.ok().body(stationService.findAllStations());
     }
 
+    @GetMapping("/stations/{id}/lines")
+    public ResponseEntity<List<LineResponse>> showLinesOfStation(@PathVariable Long id) {
+        return ResponseEntity.ok().body(stationService.findLinesByStationId(id));
+    }
+
     @DeleteMapping("/stations/{id}")
     public ResponseEntity<Void> deleteStation(@PathVariable Long id) {
         stationService.deleteStationById(id);
@@ -0,0 +1,37 @@
+package nextstep.subway.api.interfaces.dto.response;
+
+import java.util.Collections;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일괄 경로 조회에서 출발역/도착역 한 쌍에 대한 결과. 경로를 찾지 못했다면 stations는 비어 있고 error에 사유가 담긴다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathBatchItemResponse {
+	private Long source;
+	private Long target;
+	private List<StationResponse> stations;
+	private Long distance;
+	private String error;
+
+	public static PathBatchItemResponse succeeded(Long source, Long target, PathResponse pathResponse) {
+		return of(source, target, pathResponse.getStations(), pathResponse.getDistance(), null);
+	}
+
+	public static PathBatchItemResponse failed(Long source, Long target, String error) {
+		return of(source, target, Collections.emptyList(), null, error);
+	}
+}
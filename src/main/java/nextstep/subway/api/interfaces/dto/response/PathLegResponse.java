@@ -0,0 +1,25 @@
+package nextstep.subway.api.interfaces.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathLegResponse {
+	private Long lineId;
+	private String lineName;
+	private List<StationResponse> stations;
+	private Long distance;
+}
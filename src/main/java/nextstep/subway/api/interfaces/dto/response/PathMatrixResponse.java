@@ -0,0 +1,35 @@
+package nextstep.subway.api.interfaces.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.subway.api.domain.model.vo.DistanceMatrix;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathMatrixResponse {
+	private List<Long> sources;
+	private List<Long> targets;
+
+	/**
+	 * i행 j열은 sources[i]에서 targets[j]까지의 최단 거리이며, 도달할 수 없다면 null이다.
+	 */
+	private List<List<Long>> distances;
+
+	private Long networkVersion;
+
+	public static PathMatrixResponse from(DistanceMatrix matrix, long networkVersion) {
+		return PathMatrixResponse.of(matrix.getSourceIds(), matrix.getTargetIds(), matrix.getDistances(), networkVersion);
+	}
+}
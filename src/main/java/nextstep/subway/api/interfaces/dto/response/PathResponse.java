@@ -2,11 +2,14 @@ package nextstep.subway.api.interfaces.dto.response;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import nextstep.subway.api.domain.model.vo.LinePath;
 import nextstep.subway.api.domain.model.vo.Path;
 import nextstep.subway.common.mapper.ModelMapperBasedObjectMapper;
 
@@ -23,7 +26,38 @@ public class PathResponse {
 	private List<StationResponse> stations;
 	private Long distance;
 
+	/**
+	 * 최소 환승 경로 조회에서만 채워지며, 최단 거리 경로 조회 응답에는 포함하지 않는다.
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Integer transferCount;
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private List<PathLegResponse> legs;
+
+	/**
+	 * 경로를 계산한 노선망 스냅샷의 버전. 같은 요청의 응답이 달라졌을 때 어느 노선망으로 계산되었는지 확인하는 용도이다.
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long networkVersion;
+
 	public static PathResponse from(Path path) {
 		return ModelMapperBasedObjectMapper.convert(path, PathResponse.class);
 	}
+
+	public static PathResponse from(LinePath path) {
+		return ModelMapperBasedObjectMapper.convert(path, PathResponse.class);
+	}
+
+	public static PathResponse from(Path path, long networkVersion) {
+		PathResponse response = from(path);
+		response.setNetworkVersion(networkVersion);
+		return response;
+	}
+
+	public static PathResponse from(LinePath path, long networkVersion) {
+		PathResponse response = from(path);
+		response.setNetworkVersion(networkVersion);
+		return response;
+	}
 }
@@ -0,0 +1,27 @@
+package nextstep.subway.api.interfaces.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.subway.api.domain.model.vo.ReachableStation;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class ReachableStationResponse {
+	private Long id;
+	private String name;
+	private Long distance;
+
+	public static ReachableStationResponse from(ReachableStation reachableStation) {
+		return of(reachableStation.getStation().getId(), reachableStation.getStation().getName(), reachableStation.getDistance());
+	}
+}
@@ -0,0 +1,26 @@
+package nextstep.subway.api.interfaces.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * GET /paths/from/{source} 응답 형태. 컨트롤러는 이 형태를 그대로 스트리밍하여 쓴다.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class ReachableStationsResponse {
+	private Long source;
+	private Long maxDistance;
+	private List<ReachableStationResponse> stations;
+}
@@ -8,10 +8,12 @@ import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import nextstep.subway.common.exception.SectionDeletionNotValidException;
 import nextstep.subway.common.exception.SectionInsertionNotValidException;
 
 /**
@@ -306,4 +308,178 @@ class SectionsTest {
 		assertTrue(sections.isDownEndStation(4L));
 	}
 
+	@Test
+	@DisplayName("구간 연속 편집 - 구간이 많은 노선에서 삽입과 삭제를 반복해도 역 포함 여부와 구간 연결이 올바르게 유지된다")
+	void editManySections_Success() {
+		// given
+		List<Station> stations = LongStream.rangeClosed(1, 301)
+			.mapToObj(id -> new Station(id, "역" + id))
+			.collect(Collectors.toList());
+		Sections sections = new Sections();
+		sections.addSection(Section.of(stations.get(0), stations.get(1), 10L));
+		for (int i = 2; i < stations.size(); i++) {
+			sections.insertSection(Section.of(stations.get(i - 1), stations.get(i), 10L));
+		}
+
+		// when
+		for (int i = 1; i < stations.size() - 1; i += 2) {
+			sections.removeStation(stations.get(i).getId());
+		}
+
+		// then
+		List<Section> result = sections.parseSections();
+		assertThat(result).hasSize(150);
+		assertThat(result).allMatch(section -> section.getDistance() == 20L);
+		for (int i = 1; i < result.size(); i++) {
+			assertThat(result.get(i).getUpStation()).isEqualTo(result.get(i - 1).getDownStation());
+		}
+		assertThat(sections.isContainsAnyStation(2L)).isFalse();
+		assertThat(sections.isContainsAnyStation(3L)).isTrue();
+		assertThat(sections.isContainsAnyStation(301L)).isTrue();
+		assertThrows(SectionInsertionNotValidException.class, () -> sections.insertSection(Section.of(stations.get(2), stations.get(4), 20L)));
+	}
+
+	@Test
+	@DisplayName("구간 컬렉션 교체 - 구간 컬렉션이 교체되면 역 검색도 교체된 구간을 기준으로 한다")
+	void replaceSections_Success() {
+		// given
+		Station station1 = new Station(1L, "강남역");
+		Station station2 = new Station(2L, "역삼역");
+		Station station3 = new Station(3L, "선릉역");
+		Sections sections = new Sections();
+		sections.addSection(new Section(1L, station1, station2, 10L));
+		assertThat(sections.isContainsAnyStation(1L)).isTrue();
+
+		// when
+		sections.setSections(new TreeSet<>(Set.of(new Section(2L, station2, station3, 10L))));
+
+		// then
+		assertThat(sections.isContainsAnyStation(1L)).isFalse();
+		assertThat(sections.isContainsAnyStation(3L)).isTrue();
+	}
+
+	@Test
+	@DisplayName("구간으로부터 역 목록 파싱 - 역 id 순서가 아니라 상행 종점부터 타고 가는 순서로 반환하고, 구간이 변경되기 전까지 같은 목록을 반환한다")
+	void parseStationsInTravelOrder_Success() {
+		// given
+		Station stationY = new Station(1L, "Y역");
+		Station stationZ = new Station(2L, "Z역");
+		Station stationX = new Station(3L, "X역");
+		Station stationW = new Station(4L, "W역");
+		Sections sections = new Sections();
+		sections.addSection(new Section(1L, stationY, stationZ, 10L));
+		sections.insertSection(new Section(2L, stationX, stationY, 5L));
+
+		// when
+		List<Station> result = sections.parseStations();
+
+		// then
+		assertThat(result).containsExactly(stationX, stationY, stationZ);
+		assertThat(sections.parseStations()).isSameAs(result);
+
+		// when
+		sections.addSection(new Section(3L, stationZ, stationW, 7L));
+
+		// then
+		assertThat(sections.parseStations()).containsExactly(stationX, stationY, stationZ, stationW);
+	}
+
+	@Test
+	@DisplayName("여러 역 제거 - 제거된 역에 닿은 구간만 삭제하고, 남는 역 사이마다 거리를 합친 구간 하나만 추가한다")
+	void removeStations_Success() {
+		// given
+		List<Station> stations = LongStream.rangeClosed(1, 6)
+			.mapToObj(id -> new Station(id, "역" + id))
+			.collect(Collectors.toList());
+		List<Section> originalSections = LongStream.rangeClosed(1, 5)
+			.mapToObj(id -> new Section(id, stations.get((int)id - 1), stations.get((int)id), id))
+			.collect(Collectors.toList());
+		Sections sections = new Sections(new TreeSet<>(originalSections));
+
+		// when
+		sections.removeStations(Set.of(3L, 4L));
+
+		// then
+		List<Section> result = sections.parseSections();
+		assertThat(result).hasSize(3);
+		assertThat(result.get(0)).isSameAs(originalSections.get(0));
+		assertThat(result.get(1).getUpStation()).isEqualTo(stations.get(1));
+		assertThat(result.get(1).getDownStation()).isEqualTo(stations.get(4));
+		assertThat(result.get(1).getDistance()).isEqualTo(2L + 3L + 4L);
+		assertThat(result.get(2)).isSameAs(originalSections.get(4));
+		assertThat(sections.parseStations()).extracting("id").containsExactly(1L, 2L, 5L, 6L);
+	}
+
+	@Test
+	@DisplayName("여러 역 제거 - 종점 쪽 역들을 제거하면 구간을 합치지 않고 삭제만 한다")
+	void removeStations_Success_EndStations() {
+		// given
+		List<Station> stations = LongStream.rangeClosed(1, 5)
+			.mapToObj(id -> new Station(id, "역" + id))
+			.collect(Collectors.toList());
+		Sections sections = new Sections(new TreeSet<>(LongStream.rangeClosed(1, 4)
+			.mapToObj(id -> new Section(id, stations.get((int)id - 1), stations.get((int)id), 10L))
+			.collect(Collectors.toList())));
+
+		// when
+		sections.removeStations(Set.of(1L, 4L, 5L));
+
+		// then
+		assertThat(sections.parseSections()).extracting("id").containsExactly(2L);
+		assertThat(sections.parseStations()).extracting("id").containsExactly(2L, 3L);
+	}
+
+	@Test
+	@DisplayName("여러 역 제거 - 노선에 없는 역이 있거나 구간이 하나도 남지 않으면 예외가 발생한다")
+	void removeStations_Fail() {
+		// given
+		Station station1 = new Station(1L, "강남역");
+		Station station2 = new Station(2L, "역삼역");
+		Station station3 = new Station(3L, "선릉역");
+		Sections sections = new Sections(new TreeSet<>(Set.of(new Section(1L, station1, station2, 10L), new Section(2L, station2, station3, 10L))));
+
+		// when & then
+		assertThrows(SectionDeletionNotValidException.class, () -> sections.removeStations(Set.of(2L, 99L)));
+		assertThrows(SectionDeletionNotValidException.class, () -> sections.removeStations(Set.of(1L, 2L)));
+		assertThat(sections.parseSections()).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("구간 일괄 추가 - 이어진 구간들을 하행 종점 뒤와 상행 종점 앞에 한 번에 덧붙인다")
+	void insertSections_Success() {
+		// given
+		List<Station> stations = LongStream.rangeClosed(1, 6)
+			.mapToObj(id -> new Station(id, "역" + id))
+			.collect(Collectors.toList());
+		Sections sections = new Sections();
+		sections.addSection(new Section(1L, stations.get(2), stations.get(3), 10L));
+
+		// when
+		sections.insertSections(List.of(Section.of(stations.get(3), stations.get(4), 10L), Section.of(stations.get(4), stations.get(5), 10L)));
+		sections.insertSections(List.of(Section.of(stations.get(0), stations.get(1), 10L), Section.of(stations.get(1), stations.get(2), 10L)));
+
+		// then
+		assertThat(sections.parseSections()).hasSize(5);
+		assertThat(sections.parseStations()).extracting("id").containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+	}
+
+	@Test
+	@DisplayName("구간 일괄 추가 - 구간들이 이어져 있지 않거나, 종점에 닿지 않거나, 노선의 다른 역을 다시 지나면 어떤 구간도 추가하지 않는다")
+	void insertSections_Fail() {
+		// given
+		List<Station> stations = LongStream.rangeClosed(1, 5)
+			.mapToObj(id -> new Station(id, "역" + id))
+			.collect(Collectors.toList());
+		Sections sections = new Sections(new TreeSet<>(Set.of(new Section(1L, stations.get(0), stations.get(1), 10L), new Section(2L, stations.get(1), stations.get(2), 10L))));
+
+		// when & then
+		assertThrows(SectionInsertionNotValidException.class,
+			() -> sections.insertSections(List.of(Section.of(stations.get(2), stations.get(3), 10L), Section.of(stations.get(0), stations.get(4), 10L))));
+		assertThrows(SectionInsertionNotValidException.class,
+			() -> sections.insertSections(List.of(Section.of(stations.get(1), stations.get(3), 10L))));
+		assertThrows(SectionInsertionNotValidException.class,
+			() -> sections.insertSections(List.of(Section.of(stations.get(2), stations.get(3), 10L), Section.of(stations.get(3), stations.get(0), 10L))));
+		assertThat(sections.parseStations()).extracting("id").containsExactly(1L, 2L, 3L);
+	}
+
 }
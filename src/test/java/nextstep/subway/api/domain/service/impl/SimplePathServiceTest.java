@@ -1,11 +1,16 @@
 package nextstep.subway.api.domain.service.impl;
 
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,12 +19,33 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.api.domain.dto.inport.PathQueryCommand;
 import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.DistanceMatrix;
+import nextstep.subway.api.domain.model.vo.LinePath;
 import nextstep.subway.api.domain.model.vo.Path;
-import nextstep.subway.api.domain.operators.LineResolver;
+import nextstep.subway.api.domain.model.vo.PathCacheKey;
+import nextstep.subway.api.domain.model.vo.PathLeg;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.AlternativePathFinder;
+import nextstep.subway.api.domain.operators.DistanceMatrixFinder;
+import nextstep.subway.api.domain.operators.PathCache;
 import nextstep.subway.api.domain.operators.PathFinder;
-import nextstep.subway.api.domain.operators.StationResolver;
+import nextstep.subway.api.domain.operators.ReachabilityChecker;
+import nextstep.subway.api.domain.operators.ReachableStationFinder;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+import nextstep.subway.api.domain.operators.TransferMinimizingPathFinder;
+import nextstep.subway.api.infrastructure.operators.BidirectionalDijkstraShortestPathFinder;
+import nextstep.subway.api.infrastructure.operators.CondensationReachabilityChecker;
+import nextstep.subway.api.infrastructure.operators.DistanceBoundedReachableStationFinder;
+import nextstep.subway.api.infrastructure.operators.InMemoryPathCache;
+import nextstep.subway.api.infrastructure.operators.PathFinderMetrics;
+import nextstep.subway.api.infrastructure.operators.SnapshotIndexBuilder;
+import nextstep.subway.api.interfaces.dto.response.PathBatchResponse;
+import nextstep.subway.api.interfaces.dto.response.PathMatrixResponse;
 import nextstep.subway.api.interfaces.dto.response.PathResponse;
+import nextstep.subway.api.interfaces.dto.response.ReachableStationResponse;
 import nextstep.subway.common.exception.PathNotValidException;
 
 /**
@@ -34,13 +60,28 @@ class SimplePathServiceTest {
 	private SimplePathService simplePathService;
 
 	@Mock
-	private StationResolver stationResolver;
+	private PathFinder pathFinder;
 
 	@Mock
-	private PathFinder pathFinder;
+	private SubwayNetworkResolver subwayNetworkResolver;
+
+	@Mock
+	private PathCache pathCache;
+
+	@Mock
+	private ReachableStationFinder reachableStationFinder;
+
+	@Mock
+	private AlternativePathFinder alternativePathFinder;
+
+	@Mock
+	private TransferMinimizingPathFinder transferMinimizingPathFinder;
 
 	@Mock
-	private LineResolver lineResolver;
+	private DistanceMatrixFinder distanceMatrixFinder;
+
+	@Mock
+	private ReachabilityChecker reachabilityChecker;
 
 	@Test
 	@DisplayName("최단 경로 조회 성공 - 단순 mock으로 성공 케이스")
@@ -48,11 +89,12 @@ class SimplePathServiceTest {
 		// given
 		Station sourceStation = new Station(1L, "SourceStation");
 		Station targetStation = new Station(2L, "TargetStation");
+		SubwayNetwork network = SubwayNetwork.from(List.of(createSectionWithIdRandom(sourceStation, targetStation, 10L)));
 
-		given(stationResolver.fetchOptional(1L)).willReturn(Optional.of(sourceStation));
-		given(stationResolver.fetchOptional(2L)).willReturn(Optional.of(targetStation));
-		given(lineResolver.fetchAll()).willReturn(new ArrayList<>());
-		given(pathFinder.findShortestPath(eq(sourceStation), eq(targetStation), anyList())).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), 10L));
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(pathFinder.findShortestPath(eq(sourceStation), eq(targetStation), eq(network))).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), 10L));
+		given(pathCache.fetchOrCompute(eq(PathCacheKey.of(1L, 2L, network.getVersion())), any())).willAnswer(invocation -> invocation.<Supplier<Path>>getArgument(1).get());
+		given(reachabilityChecker.isReachable(sourceStation, targetStation, network)).willReturn(true);
 
 		// when
 		PathResponse result = simplePathService.findShortestPath(1L, 2L);
@@ -60,6 +102,131 @@ class SimplePathServiceTest {
 		// then
 		assertThat(result.getStations()).hasSize(2);
 		assertThat(result.getDistance()).isEqualTo(10);
+		assertThat(result.getNetworkVersion()).isEqualTo(network.getVersion());
+	}
+
+	@Test
+	@DisplayName("최단 경로 조회 성공 - 양방향 다익스트라 엔진으로 여러 경로 중 최단 경로를 찾는다")
+	void findShortestPath_Success_BidirectionalDijkstra() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Station station5 = new Station(5L, "Station5");
+		SubwayNetwork network = SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 15L),
+			createSectionWithIdRandom(station3, station4, 20L),
+			createSectionWithIdRandom(station2, station5, 5L),
+			createSectionWithIdRandom(station5, station4, 10L)));
+
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+
+		PathFinder bidirectionalPathFinder = new BidirectionalDijkstraShortestPathFinder(new PathFinderMetrics(new SimpleMeterRegistry()));
+		SimplePathService bidirectionalPathService = new SimplePathService(bidirectionalPathFinder, subwayNetworkResolver,
+			new InMemoryPathCache(new SimpleMeterRegistry(), 100), reachableStationFinder, alternativePathFinder, transferMinimizingPathFinder, distanceMatrixFinder,
+			new CondensationReachabilityChecker(new PathFinderMetrics(new SimpleMeterRegistry()), new SnapshotIndexBuilder(subwayNetworkResolver)));
+
+		// when
+		PathResponse result = bidirectionalPathService.findShortestPath(1L, 4L);
+
+		// then
+		assertThat(result.getStations()).extracting("id").containsExactly(1L, 2L, 5L, 4L);
+		assertThat(result.getDistance()).isEqualTo(25);
+	}
+
+	@Test
+	@DisplayName("최단 경로 조회 성공 - 같은 노선망 버전에서 반복된 요청은 캐시된 응답을 반환한다")
+	void findShortestPath_Success_CachedInSameNetworkVersion() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		SubwayNetwork network = SubwayNetwork.of(3L, Map.of(1L, List.of(createSectionWithIdRandom(sourceStation, targetStation, 10L))));
+
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(pathFinder.findShortestPath(eq(sourceStation), eq(targetStation), eq(network))).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), 10L));
+		given(reachabilityChecker.isReachable(sourceStation, targetStation, network)).willReturn(true);
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		SimplePathService cachingPathService = new SimplePathService(pathFinder, subwayNetworkResolver,
+			new InMemoryPathCache(meterRegistry, 100), reachableStationFinder, alternativePathFinder, transferMinimizingPathFinder, distanceMatrixFinder,
+			reachabilityChecker);
+
+		// when
+		PathResponse first = cachingPathService.findShortestPath(1L, 2L);
+		PathResponse second = cachingPathService.findShortestPath(1L, 2L);
+
+		// then
+		assertThat(second.getStations()).extracting("id").containsExactly(1L, 2L);
+		assertThat(second.getDistance()).isEqualTo(10);
+		then(pathFinder).should(times(1)).findShortestPath(any(), any(), any(SubwayNetwork.class));
+		assertThat(meterRegistry.get("subway.path.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("subway.path.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("최단 경로 조회 성공 - 노선망 버전이 바뀌면 캐시된 응답 대신 경로를 다시 계산한다")
+	void findShortestPath_Success_RecomputedAfterNetworkVersionChanged() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		SubwayNetwork before = SubwayNetwork.of(3L, Map.of(1L, List.of(createSectionWithIdRandom(sourceStation, targetStation, 10L))));
+		SubwayNetwork after = SubwayNetwork.of(4L, Map.of(1L, List.of(createSectionWithIdRandom(sourceStation, targetStation, 7L))));
+
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(before).willReturn(after);
+		given(pathFinder.findShortestPath(eq(sourceStation), eq(targetStation), eq(before))).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), 10L));
+		given(pathFinder.findShortestPath(eq(sourceStation), eq(targetStation), eq(after))).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), 7L));
+		given(reachabilityChecker.isReachable(eq(sourceStation), eq(targetStation), any())).willReturn(true);
+
+		SimplePathService cachingPathService = new SimplePathService(pathFinder, subwayNetworkResolver,
+			new InMemoryPathCache(new SimpleMeterRegistry(), 100), reachableStationFinder, alternativePathFinder, transferMinimizingPathFinder, distanceMatrixFinder,
+			reachabilityChecker);
+
+		// when
+		PathResponse first = cachingPathService.findShortestPath(1L, 2L);
+		PathResponse second = cachingPathService.findShortestPath(1L, 2L);
+
+		// then
+		assertThat(first.getDistance()).isEqualTo(10);
+		assertThat(second.getDistance()).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("일괄 최단 경로 조회 성공 - 출발역별로 한 번씩만 탐색하고 결과는 요청 순서대로 반환한다")
+	void findShortestPaths_Success_GroupedBySource() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		SubwayNetwork network = SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 20L)));
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(pathFinder.findShortestPaths(eq(station1), eq(List.of(station3, station2)), eq(network))).willReturn(Map.of(
+			3L, Path.of(Arrays.asList(station1, station2, station3), 30L),
+			2L, Path.of(Arrays.asList(station1, station2), 10L)));
+		given(pathFinder.findShortestPaths(eq(station2), eq(List.of(station1)), eq(network))).willReturn(Map.of());
+		given(reachabilityChecker.isReachable(any(), any(), eq(network))).willReturn(true);
+
+		List<PathQueryCommand> queries = List.of(
+			new PathQueryCommand(1L, 3L),
+			new PathQueryCommand(2L, 1L),
+			new PathQueryCommand(1L, 2L),
+			new PathQueryCommand(1L, 1L));
+
+		// when
+		PathBatchResponse result = simplePathService.findShortestPaths(queries);
+
+		// then
+		assertThat(result.getPaths()).extracting("source", "target", "distance").containsExactly(
+			tuple(1L, 3L, 30L),
+			tuple(2L, 1L, null),
+			tuple(1L, 2L, 10L),
+			tuple(1L, 1L, null));
+		assertThat(result.getPaths().get(1).getError()).isEqualTo("No path exists between the source and target stations.");
+		assertThat(result.getPaths().get(3).getError()).isEqualTo("Source and target stations cannot be the same.");
+		then(pathFinder).should(times(2)).findShortestPaths(any(), anyList(), any());
 	}
 
 	@Test
@@ -73,4 +240,251 @@ class SimplePathServiceTest {
 			.isInstanceOf(PathNotValidException.class)
 			.hasMessageContaining("Source and target stations cannot be the same.");
 	}
+
+	@Test
+	@DisplayName("출발역이나 도착역이 없을 때 최단 경로, 최소 환승 경로, 대안 경로 조회 실패")
+	void findPath_Failure_MissingSourceOrTarget() {
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findShortestPath(null, 2L))
+			.isInstanceOf(PathNotValidException.class)
+			.hasMessageContaining("Source and target stations are required.");
+		assertThatThrownBy(() -> simplePathService.findLeastTransferPath(1L, null))
+			.isInstanceOf(PathNotValidException.class)
+			.hasMessageContaining("Source and target stations are required.");
+		assertThatThrownBy(() -> simplePathService.findAlternativePaths(null, 2L, 3))
+			.isInstanceOf(PathNotValidException.class)
+			.hasMessageContaining("Source and target stations are required.");
+		then(subwayNetworkResolver).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("최단 경로 조회 실패 - 노선망에 없는 역이면 DB를 조회하지 않고 예외가 발생한다")
+	void findShortestPath_Failure_StationNotInNetwork() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		SubwayNetwork network = SubwayNetwork.from(List.of(createSectionWithIdRandom(sourceStation, targetStation, 10L)));
+
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(pathCache.fetchOrCompute(eq(PathCacheKey.of(1L, 99L, network.getVersion())), any())).willAnswer(invocation -> invocation.<Supplier<Path>>getArgument(1).get());
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findShortestPath(1L, 99L))
+			.isInstanceOf(PathNotValidException.class);
+		then(pathFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("최단 경로 조회 성공 - 캐시된 경로로 만든 응답을 고쳐도 다음 요청의 응답은 바뀌지 않는다")
+	void findShortestPath_Success_CachedResponseNotShared() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		SubwayNetwork network = SubwayNetwork.from(List.of(createSectionWithIdRandom(sourceStation, targetStation, 10L)));
+
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(pathFinder.findShortestPath(eq(sourceStation), eq(targetStation), eq(network))).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), 10L));
+		given(reachabilityChecker.isReachable(sourceStation, targetStation, network)).willReturn(true);
+
+		SimplePathService cachingPathService = new SimplePathService(pathFinder, subwayNetworkResolver,
+			new InMemoryPathCache(new SimpleMeterRegistry(), 100), reachableStationFinder, alternativePathFinder, transferMinimizingPathFinder, distanceMatrixFinder,
+			reachabilityChecker);
+
+		// when
+		PathResponse first = cachingPathService.findShortestPath(1L, 2L);
+		first.setDistance(0L);
+		first.setStations(new ArrayList<>());
+		PathResponse second = cachingPathService.findShortestPath(1L, 2L);
+
+		// then
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getDistance()).isEqualTo(10);
+		assertThat(second.getStations()).extracting("id").containsExactly(1L, 2L);
+		then(pathFinder).should(times(1)).findShortestPath(any(), any(), any(SubwayNetwork.class));
+	}
+
+	@Test
+	@DisplayName("도달 가능한 역 조회 성공 - 거리 예산 이내의 역만 가까운 순서대로 반환한다")
+	void findReachableStations_Success() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		SubwayNetwork network = SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 15L),
+			createSectionWithIdRandom(station1, station4, 30L)));
+
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+
+		SimplePathService reachablePathService = new SimplePathService(pathFinder, subwayNetworkResolver, pathCache,
+			new DistanceBoundedReachableStationFinder(), alternativePathFinder, transferMinimizingPathFinder, distanceMatrixFinder,
+			reachabilityChecker);
+
+		// when
+		List<ReachableStationResponse> result = reachablePathService.findReachableStations(1L, 25L).collect(Collectors.toList());
+
+		// then
+		assertThat(result).extracting("id", "distance").containsExactly(tuple(2L, 10L), tuple(3L, 25L));
+	}
+
+	@Test
+	@DisplayName("도달 가능한 역 조회 실패 - 거리 예산이 음수이면 예외가 발생한다")
+	void findReachableStations_Failure_NegativeMaxDistance() {
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findReachableStations(1L, -1L))
+			.isInstanceOf(PathNotValidException.class);
+	}
+
+	@Test
+	@DisplayName("대안 경로 조회 실패 - 요청한 경로 수가 허용 범위를 벗어나면 예외가 발생한다")
+	void findAlternativePaths_Failure_InvalidK() {
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findAlternativePaths(1L, 2L, 0))
+			.isInstanceOf(PathNotValidException.class);
+		assertThatThrownBy(() -> simplePathService.findAlternativePaths(1L, 2L, 11))
+			.isInstanceOf(PathNotValidException.class);
+	}
+
+	@Test
+	@DisplayName("대안 경로 조회 실패 - 출발역과 도착역 사이에 경로가 없으면 예외가 발생한다")
+	void findAlternativePaths_Failure_NoPath() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		SubwayNetwork network = SubwayNetwork.from(List.of(createSectionWithIdRandom(sourceStation, targetStation, 10L)));
+
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(alternativePathFinder.findAlternativePaths(sourceStation, targetStation, 3, network)).willReturn(List.of());
+		given(reachabilityChecker.isReachable(sourceStation, targetStation, network)).willReturn(true);
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findAlternativePaths(1L, 2L, 3))
+			.isInstanceOf(PathNotValidException.class);
+	}
+
+	@Test
+	@DisplayName("최소 환승 경로 조회 성공 - 노선별 이동 구간과 환승 횟수를 함께 반환한다")
+	void findLeastTransferPath_Success() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station transferStation = new Station(2L, "TransferStation");
+		Station targetStation = new Station(3L, "TargetStation");
+		SubwayNetwork network = SubwayNetwork.from(List.of(
+			createSectionWithIdRandom(sourceStation, transferStation, 10L),
+			createSectionWithIdRandom(transferStation, targetStation, 5L)));
+
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(reachabilityChecker.isReachable(sourceStation, targetStation, network)).willReturn(true);
+		given(transferMinimizingPathFinder.findLeastTransferPath(sourceStation, targetStation, network)).willReturn(LinePath.of(
+			List.of(sourceStation, transferStation, targetStation), 15L, 1, List.of(
+				PathLeg.of(1L, "2호선", List.of(sourceStation, transferStation), 10L),
+				PathLeg.of(2L, "3호선", List.of(transferStation, targetStation), 5L))));
+
+		// when
+		PathResponse result = simplePathService.findLeastTransferPath(1L, 3L);
+
+		// then
+		assertThat(result.getDistance()).isEqualTo(15L);
+		assertThat(result.getTransferCount()).isEqualTo(1);
+		assertThat(result.getLegs()).extracting("lineName", "distance").containsExactly(tuple("2호선", 10L), tuple("3호선", 5L));
+		assertThat(result.getLegs().get(1).getStations()).extracting("id").containsExactly(2L, 3L);
+	}
+
+	@Test
+	@DisplayName("최단 경로 조회 실패 - 도달 가능성 색인상 갈 수 없는 역이면 경로를 탐색하지 않고 예외가 발생한다")
+	void findShortestPath_Failure_Unreachable() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		SubwayNetwork network = SubwayNetwork.from(List.of(createSectionWithIdRandom(targetStation, sourceStation, 10L)));
+
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(pathCache.fetchOrCompute(eq(PathCacheKey.of(1L, 2L, network.getVersion())), any())).willAnswer(invocation -> invocation.<Supplier<Path>>getArgument(1).get());
+		given(reachabilityChecker.isReachable(sourceStation, targetStation, network)).willReturn(false);
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findShortestPath(1L, 2L))
+			.isInstanceOf(PathNotValidException.class);
+		then(pathFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("경유 최단 경로 조회 성공 - 하나의 노선망 스냅샷으로 구간별 최단 경로를 찾아 이어붙인다")
+	void findShortestPathVia_Success() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		SubwayNetwork network = SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 20L),
+			createSectionWithIdRandom(station1, station3, 5L)));
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(reachabilityChecker.isReachable(any(), any(), eq(network))).willReturn(true);
+		given(pathFinder.findShortestPath(station1, station2, network)).willReturn(Path.of(Arrays.asList(station1, station2), 10L));
+		given(pathFinder.findShortestPath(station2, station3, network)).willReturn(Path.of(Arrays.asList(station2, station3), 20L));
+
+		// when
+		PathResponse result = simplePathService.findShortestPathVia(1L, 3L, List.of(2L));
+
+		// then
+		assertThat(result.getStations()).extracting("id").containsExactly(1L, 2L, 3L);
+		assertThat(result.getDistance()).isEqualTo(30L);
+		assertThat(result.getNetworkVersion()).isEqualTo(network.getVersion());
+		then(subwayNetworkResolver).should(times(1)).fetchNetwork();
+	}
+
+	@Test
+	@DisplayName("경유 최단 경로 조회 실패 - 연속한 두 역이 같거나 경유역이 너무 많으면 예외가 발생한다")
+	void findShortestPathVia_Failure_InvalidRoute() {
+		// given
+		List<Long> elevenWaypoints = LongStream.rangeClosed(2, 12).boxed().collect(Collectors.toList());
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findShortestPathVia(1L, 3L, List.of(2L, 2L)))
+			.isInstanceOf(PathNotValidException.class)
+			.hasMessageContaining("Consecutive stations on a route cannot be the same.");
+		assertThatThrownBy(() -> simplePathService.findShortestPathVia(1L, 13L, elevenWaypoints))
+			.isInstanceOf(PathNotValidException.class);
+		then(pathFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("거리 행렬 조회 성공 - 하나의 노선망 스냅샷으로 계산한 행렬과 노선망 버전을 반환한다")
+	void findDistanceMatrix_Success() {
+		// given
+		SubwayNetwork network = SubwayNetwork.from(new ArrayList<>());
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(distanceMatrixFinder.findDistanceMatrix(List.of(1L, 2L), List.of(3L), network))
+			.willReturn(DistanceMatrix.of(List.of(1L, 2L), List.of(3L), List.of(Arrays.asList(15L), Arrays.asList((Long)null))));
+
+		// when
+		PathMatrixResponse result = simplePathService.findDistanceMatrix(List.of(1L, 2L), List.of(3L));
+
+		// then
+		assertThat(result.getSources()).containsExactly(1L, 2L);
+		assertThat(result.getTargets()).containsExactly(3L);
+		assertThat(result.getDistances()).containsExactly(Arrays.asList(15L), Arrays.asList((Long)null));
+		assertThat(result.getNetworkVersion()).isEqualTo(network.getVersion());
+		then(subwayNetworkResolver).should(times(1)).fetchNetwork();
+	}
+
+	@Test
+	@DisplayName("거리 행렬 조회 실패 - 출발역이나 도착역 목록이 비어있거나 행렬이 너무 크면 예외가 발생한다")
+	void findDistanceMatrix_Failure_InvalidRequest() {
+		// given
+		List<Long> thousandOneStations = LongStream.rangeClosed(1, 1001).boxed().collect(Collectors.toList());
+		List<Long> thousandStations = LongStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findDistanceMatrix(List.of(), List.of(1L)))
+			.isInstanceOf(PathNotValidException.class);
+		assertThatThrownBy(() -> simplePathService.findDistanceMatrix(Arrays.asList(1L, null), List.of(1L)))
+			.isInstanceOf(PathNotValidException.class);
+		assertThatThrownBy(() -> simplePathService.findDistanceMatrix(thousandOneStations, thousandStations))
+			.isInstanceOf(PathNotValidException.class);
+		then(distanceMatrixFinder).shouldHaveNoInteractions();
+	}
 }
@@ -0,0 +1,134 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+import nextstep.subway.api.infrastructure.graph.AllPairsShortestPaths;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/17
+ */
+@ExtendWith(MockitoExtension.class)
+class AllPairsMatrixShortestPathFinderTest {
+
+	@Mock
+	private SubwayNetworkResolver subwayNetworkResolver;
+
+	private SnapshotIndexBuilder snapshotIndexBuilder;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final Station station1 = new Station(1L, "Station1");
+	private final Station station2 = new Station(2L, "Station2");
+	private final Station station3 = new Station(3L, "Station3");
+	private final Station station4 = new Station(4L, "Station4");
+	private final Station station5 = new Station(5L, "Station5");
+
+	@BeforeEach
+	void setUp() {
+		snapshotIndexBuilder = new SnapshotIndexBuilder(subwayNetworkResolver);
+	}
+
+	@AfterEach
+	void tearDown() {
+		snapshotIndexBuilder.shutdown();
+	}
+
+	/**
+	 * Station1 --10--> Station2 --15--> Station3 --20--> Station4
+	 *                     |                                ^
+	 *                     5                                |
+	 *                     v                                |
+	 *                  Station5 -----------------------> 10
+	 */
+	private SubwayNetwork createNetwork() {
+		return SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 15L),
+			createSectionWithIdRandom(station3, station4, 20L),
+			createSectionWithIdRandom(station2, station5, 5L),
+			createSectionWithIdRandom(station5, station4, 10L)));
+	}
+
+	@Test
+	@DisplayName("행렬 최단 경로 조회 1: 행렬을 계산한 뒤에는 행렬 조회만으로 최단 경로와 거리를 반환한다")
+	void findShortestPathTest_1() {
+		// Given
+		AllPairsMatrixShortestPathFinder finder = new AllPairsMatrixShortestPathFinder(new PathFinderMetrics(meterRegistry), snapshotIndexBuilder, 10);
+		SubwayNetwork network = createNetwork();
+		snapshotIndexBuilder.awaitAll(network);
+
+		// When
+		Path result = finder.findShortestPath(station1, station4, network);
+
+		// Then
+		assertThat(network.findAttached(AllPairsShortestPaths.class)).isPresent();
+		assertThat(result.getStations()).containsExactly(station1, station2, station5, station4);
+		assertThat(result.getDistance()).isEqualTo(25);
+		assertThat(meterRegistry.find("subway.path.matrix.bytes").tag("finder", "matrix").gauge().value())
+			.isEqualTo(AllPairsShortestPaths.estimateBytes(5));
+		assertThat(meterRegistry.find("subway.path.query").tag("finder", "matrix").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.find("subway.path.query.settled").tag("finder", "matrix").summary().count()).isZero();
+	}
+
+	@Test
+	@DisplayName("행렬 최단 경로 조회 2: 행렬이 준비되기 전에도 탐색으로 같은 최단 경로를 반환한다")
+	void findShortestPathTest_2() {
+		// Given
+		AllPairsMatrixShortestPathFinder finder = new AllPairsMatrixShortestPathFinder(new PathFinderMetrics(meterRegistry), snapshotIndexBuilder, 10);
+		SubwayNetwork network = createNetwork();
+
+		// When
+		Path result = finder.findShortestPath(station1, station4, network);
+
+		// Then
+		assertThat(result.getStations()).containsExactly(station1, station2, station5, station4);
+		assertThat(result.getDistance()).isEqualTo(25);
+	}
+
+	@Test
+	@DisplayName("행렬 최단 경로 조회 3: 역 수가 설정한 최대 역 수를 넘으면 행렬을 만들지 않고 탐색으로 응답한다")
+	void findShortestPathTest_3() {
+		// Given
+		AllPairsMatrixShortestPathFinder finder = new AllPairsMatrixShortestPathFinder(new PathFinderMetrics(meterRegistry), snapshotIndexBuilder, 4);
+		SubwayNetwork network = createNetwork();
+
+		// When
+		snapshotIndexBuilder.awaitAll(network);
+		Path result = finder.findShortestPath(station1, station4, network);
+
+		// Then
+		assertThat(network.findAttached(AllPairsShortestPaths.class)).isEmpty();
+		assertThat(result.getDistance()).isEqualTo(25);
+	}
+
+	@Test
+	@DisplayName("행렬 최단 경로 조회 실패: 구간 방향상 도달할 수 없는 역이면 예외가 발생한다")
+	void findShortestPath_Failure_Unreachable() {
+		// Given
+		AllPairsMatrixShortestPathFinder finder = new AllPairsMatrixShortestPathFinder(new PathFinderMetrics(meterRegistry), snapshotIndexBuilder, 10);
+		SubwayNetwork network = createNetwork();
+		snapshotIndexBuilder.awaitAll(network);
+
+		// When & Then
+		assertThatThrownBy(() -> finder.findShortestPath(station4, station1, network))
+			.isInstanceOf(PathNotValidException.class);
+	}
+}
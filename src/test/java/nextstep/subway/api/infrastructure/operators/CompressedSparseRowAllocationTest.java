@@ -0,0 +1,76 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.DijkstraSearch;
+
+/**
+ * 스레드별 할당 바이트 수를 제공하는 JVM(HotSpot)에서만 실행되는 CSR 탐색의 메모리 할당 테스트.
+ *
+ * @author : Rene Choi
+ * @since : 2024/02/14
+ */
+class CompressedSparseRowAllocationTest {
+
+	@Test
+	@DisplayName("CSR 거리 탐색: 작업 공간을 재사용하므로 반복 질의에서 메모리를 할당하지 않는다")
+	void searchDistances_DoesNotAllocateInSteadyState() {
+		// Given
+		Optional<ThreadMXBean> allocationCounter = findAllocationCounter();
+		assumeTrue(allocationCounter.isPresent());
+
+		CompressedSparseRowGraph graph = CompressedSparseRowGraph.from(createChainSections(1, 1000));
+		int[] targets = {graph.indexOf(1000L), graph.indexOf(500L)};
+		long[] distances = new long[targets.length];
+		for (int i = 0; i < 20_000; i++) {
+			DijkstraSearch.searchDistances(graph, i % 1000, targets, distances);
+		}
+
+		// When
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = allocationCounter.get().getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 1000; i++) {
+			DijkstraSearch.searchDistances(graph, i % 1000, targets, distances);
+		}
+		long allocatedBytes = allocationCounter.get().getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		// Then
+		assertThat(allocatedBytes).isLessThan(1024L);
+	}
+
+	/**
+	 * 스레드별 할당 바이트 수를 측정할 수 있는 ThreadMXBean을 찾는다. 지원하지 않거나 꺼져 있다면 비어있다.
+	 */
+	private static Optional<ThreadMXBean> findAllocationCounter() {
+		return Optional.of(ManagementFactory.getThreadMXBean())
+			.filter(ThreadMXBean.class::isInstance)
+			.map(ThreadMXBean.class::cast)
+			.filter(bean -> bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+	}
+
+	private static List<Section> createChainSections(int firstStationId, int lastStationId) {
+		List<Section> sections = new ArrayList<>();
+		for (int id = firstStationId; id < lastStationId; id++) {
+			sections.add(createSectionWithIdRandom(stationOf(id), stationOf(id + 1), 1L));
+		}
+		return sections;
+	}
+
+	private static Station stationOf(long id) {
+		return new Station(id, "Station" + id);
+	}
+}
@@ -0,0 +1,186 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.DijkstraSearch;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/14
+ */
+@ExtendWith(MockitoExtension.class)
+class CompressedSparseRowShortestPathFinderTest {
+
+	@InjectMocks
+	private CompressedSparseRowShortestPathFinder compressedSparseRowShortestPathFinder;
+
+	@Mock
+	private PathFinderMetrics pathFinderMetrics;
+
+	@Test
+	@DisplayName("CSR 최단 경로 조회 1: 주어진 구간에 대해 최단 경로와 거리를 정확히 계산한다")
+	void findShortestPathTest_1() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Section section1 = createSectionWithIdRandom(station1, station2, 10L);
+		Section section2 = createSectionWithIdRandom(station2, station3, 20L);
+
+		List<Section> sections = Arrays.asList(section1, section2);
+
+		// When
+		Path result = compressedSparseRowShortestPathFinder.findShortestPath(station1, station3, sections);
+
+		// Then
+		assertEquals(Arrays.asList(station1, station2, station3), result.getStations());
+		assertEquals(30, result.getDistance());
+	}
+
+	/**
+	 * Station1 --5--> Station2 --10--> Station3 --3--> Station4 --4--> Station5
+	 *                     |                               ^
+	 *                     2                               |
+	 *                     v                               |
+	 *                Station6 --------------------------> 8
+	 *                     ^
+	 *                     1
+	 *                     |
+	 *                 Station5
+	 */
+	@Test
+	@DisplayName("CSR 최단 경로 조회 2: 여러 경로 중 JGraphT 구현과 같은 최단 경로와 거리를 계산한다")
+	void findShortestPathTest_2() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Station station5 = new Station(5L, "Station5");
+		Station station6 = new Station(6L, "Station6");
+		List<Section> sections = Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 5L),
+			createSectionWithIdRandom(station2, station3, 10L),
+			createSectionWithIdRandom(station3, station4, 3L),
+			createSectionWithIdRandom(station4, station5, 4L),
+			createSectionWithIdRandom(station2, station6, 2L),
+			createSectionWithIdRandom(station6, station4, 8L),
+			createSectionWithIdRandom(station5, station6, 1L));
+
+		// When
+		Path result = compressedSparseRowShortestPathFinder.findShortestPath(station1, station5, sections);
+		Path expected = new DijkstraBasedShortestPathFinder().findShortestPath(station1, station5, sections);
+
+		// Then
+		assertEquals(Arrays.asList(station1, station2, station6, station4, station5), result.getStations());
+		assertEquals(19, result.getDistance());
+		assertEquals(expected, result);
+	}
+
+	@Test
+	@DisplayName("CSR 최단 경로 조회 실패: 구간 방향상 도달할 수 없는 역이면 예외가 발생한다")
+	void findShortestPath_Failure_Unreachable() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		List<Section> sections = Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station3, station2, 10L));
+
+		// When & Then
+		assertThatThrownBy(() -> compressedSparseRowShortestPathFinder.findShortestPath(station1, station3, sections))
+			.isInstanceOf(PathNotValidException.class);
+	}
+
+	@Test
+	@DisplayName("CSR 최단 경로 조회 실패: 노선망에 없는 역이면 예외가 발생한다")
+	void findShortestPath_Failure_UnknownStation() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station unknown = new Station(99L, "Unknown");
+		List<Section> sections = List.of(createSectionWithIdRandom(station1, station2, 10L));
+
+		// When & Then
+		assertThatThrownBy(() -> compressedSparseRowShortestPathFinder.findShortestPath(station1, unknown, sections))
+			.isInstanceOf(PathNotValidException.class);
+	}
+
+	@Test
+	@DisplayName("CSR 최단 경로 조회 3: 탐색 작업 공간을 재사용해도 크기가 다른 노선망을 번갈아 조회한 결과가 섞이지 않는다")
+	void findShortestPathTest_3() {
+		// Given
+		List<Section> largeSections = createChainSections(1, 100);
+		List<Section> smallSections = createChainSections(1, 3);
+
+		// When
+		Path largeFirst = compressedSparseRowShortestPathFinder.findShortestPath(stationOf(1), stationOf(100), largeSections);
+		Path small = compressedSparseRowShortestPathFinder.findShortestPath(stationOf(1), stationOf(3), smallSections);
+		Path largeSecond = compressedSparseRowShortestPathFinder.findShortestPath(stationOf(50), stationOf(100), largeSections);
+
+		// Then
+		assertEquals(99, largeFirst.getDistance());
+		assertEquals(2, small.getDistance());
+		assertThat(small.getStations()).extracting("id").containsExactly(1L, 2L, 3L);
+		assertEquals(50, largeSecond.getDistance());
+		assertThat(largeSecond.getStations()).hasSize(51);
+	}
+
+	@Test
+	@DisplayName("CSR 그래프 변경분 반영: 변경분을 반영한 그래프를 만들어도 이전 그래프는 그대로이며, 같은 그래프에서 여러 번 만들어도 서로 섞이지 않는다")
+	void patch_KeepsPreviousGraphs() {
+		// Given
+		CompressedSparseRowGraph graph = CompressedSparseRowGraph.from(createChainSections(1, 100));
+		List<Section> removed = List.of(createSectionWithIdRandom(stationOf(50), stationOf(51), 1L));
+		List<Section> split = List.of(createSectionWithIdRandom(stationOf(50), stationOf(101), 4L), createSectionWithIdRandom(stationOf(101), stationOf(51), 5L));
+		List<Section> shortcut = List.of(createSectionWithIdRandom(stationOf(1), stationOf(100), 1L));
+
+		// When
+		CompressedSparseRowGraph splitGraph = graph.patch(removed, split);
+		CompressedSparseRowGraph shortcutGraph = graph.patch(List.of(), shortcut);
+
+		// Then
+		assertEquals(99, distanceBetween(graph, 1L, 100L));
+		assertEquals(CompressedSparseRowGraph.NO_VERTEX, graph.indexOf(101L));
+		assertEquals(107, distanceBetween(splitGraph, 1L, 100L));
+		assertEquals(100, splitGraph.edgeCount());
+		assertEquals(101L, splitGraph.stationAt(splitGraph.indexOf(101L)).getId());
+		assertEquals(1, distanceBetween(shortcutGraph, 1L, 100L));
+		assertEquals(CompressedSparseRowGraph.NO_VERTEX, shortcutGraph.indexOf(101L));
+	}
+
+	private static long distanceBetween(CompressedSparseRowGraph graph, long sourceId, long targetId) {
+		return DijkstraSearch.search(graph, graph.indexOf(sourceId), graph.indexOf(targetId)).distanceTo(graph.indexOf(targetId));
+	}
+
+	private static List<Section> createChainSections(int firstStationId, int lastStationId) {
+		List<Section> sections = new ArrayList<>();
+		for (int id = firstStationId; id < lastStationId; id++) {
+			sections.add(createSectionWithIdRandom(stationOf(id), stationOf(id + 1), 1L));
+		}
+		return sections;
+	}
+
+	private static Station stationOf(long id) {
+		return new Station(id, "Station" + id);
+	}
+}
@@ -0,0 +1,126 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.SectionChanges;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+import nextstep.subway.api.infrastructure.graph.ReachabilityIndex;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+class CondensationReachabilityCheckerTest {
+
+	private final SnapshotIndexBuilder snapshotIndexBuilder = new SnapshotIndexBuilder(mock(SubwayNetworkResolver.class));
+
+	private final CondensationReachabilityChecker checker = new CondensationReachabilityChecker(new PathFinderMetrics(new SimpleMeterRegistry()), snapshotIndexBuilder);
+
+	private final Station station1 = new Station(1L, "Station1");
+	private final Station station2 = new Station(2L, "Station2");
+	private final Station station3 = new Station(3L, "Station3");
+	private final Station station4 = new Station(4L, "Station4");
+	private final Station station5 = new Station(5L, "Station5");
+
+	@AfterEach
+	void tearDown() {
+		snapshotIndexBuilder.shutdown();
+	}
+
+	/**
+	 * Station1 --> Station2 <--> Station3 --> Station4
+	 * <p>
+	 * Station5 --> Station4
+	 * <p>
+	 * Station2와 Station3은 순환하므로 하나의 강한 연결 요소로 묶인다.
+	 */
+	private SubwayNetwork createNetwork() {
+		return SubwayNetwork.of(1L, Map.of(1L, List.of(
+			new Section(1L, station1, station2, 10L),
+			new Section(2L, station2, station3, 10L),
+			new Section(3L, station3, station2, 10L),
+			new Section(4L, station3, station4, 10L),
+			new Section(5L, station5, station4, 10L))));
+	}
+
+	@Test
+	@DisplayName("도달 가능성 조회 1: 구간 방향을 따라 갈 수 있는 역만 도달 가능하다")
+	void isReachableTest_1() {
+		// Given
+		SubwayNetwork network = createNetwork();
+		snapshotIndexBuilder.awaitAll(network);
+
+		// When & Then
+		assertThat(checker.isReachable(station1, station4, network)).isTrue();
+		assertThat(checker.isReachable(station2, station3, network)).isTrue();
+		assertThat(checker.isReachable(station3, station2, network)).isTrue();
+		assertThat(checker.isReachable(station4, station1, network)).isFalse();
+		assertThat(checker.isReachable(station1, station5, network)).isFalse();
+		assertThat(checker.isReachable(station5, station2, network)).isFalse();
+	}
+
+	@Test
+	@DisplayName("도달 가능성 조회 2: 노선망에 없는 역은 도달할 수 없다")
+	void isReachableTest_2() {
+		// Given
+		Station unknown = new Station(99L, "Unknown");
+		SubwayNetwork network = createNetwork();
+		snapshotIndexBuilder.awaitAll(network);
+
+		// When & Then
+		assertThat(checker.isReachable(station1, unknown, network)).isFalse();
+		assertThat(checker.isReachable(unknown, station1, network)).isFalse();
+	}
+
+	@Test
+	@DisplayName("도달 가능성 조회 3: 색인이 만들어지기 전에는 노선망에 있는 역끼리만 도달 가능하다고 답한다")
+	void isReachableTest_3() {
+		// Given
+		SubwayNetwork network = createNetwork();
+		Station unknown = new Station(99L, "Unknown");
+
+		// When & Then
+		assertThat(network.findAttached(ReachabilityIndex.class)).isEmpty();
+		assertThat(checker.isReachable(station4, station1, network)).isTrue();
+		assertThat(checker.isReachable(station1, unknown, network)).isFalse();
+		assertThat(checker.isReachable(null, station1, network)).isFalse();
+	}
+
+	@Test
+	@DisplayName("도달 가능성 조회 4: 구간 변경분으로 만든 다음 노선망의 색인은 노선망 교체 시점이 아니라 이후에 갱신된 그래프로 만든다")
+	void isReachableTest_4() {
+		// Given
+		SubwayNetwork network = createNetwork();
+		snapshotIndexBuilder.awaitAll(network);
+		SectionChanges changes = SectionChanges.of(List.of(), List.of(new Section(6L, station4, station1, 10L)));
+
+		// When
+		SubwayNetwork patched = network.patch(2L, 1L, changes).orElseThrow();
+
+		// Then
+		assertThat(patched.findAttached(ReachabilityIndex.class)).isEmpty();
+		CompressedSparseRowGraph patchedGraph = patched.findAttached(CompressedSparseRowGraph.class).orElseThrow();
+
+		snapshotIndexBuilder.awaitAll(patched);
+		ReachabilityIndex index = patched.findAttached(ReachabilityIndex.class).orElseThrow();
+		assertThat(index.getGraph()).isSameAs(patchedGraph);
+		assertThat(index.isExact()).isTrue();
+		assertThat(checker.isReachable(station5, station1, patched)).isTrue();
+		assertThat(checker.isReachable(station4, station3, patched)).isTrue();
+		assertThat(checker.isReachable(station1, station5, patched)).isFalse();
+		assertThat(checker.isReachable(station5, station1, network)).isFalse();
+	}
+}
@@ -0,0 +1,195 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+import nextstep.subway.api.infrastructure.graph.ContractionHierarchy;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/15
+ */
+class ContractionHierarchyShortestPathFinderTest {
+
+	private final SnapshotIndexBuilder snapshotIndexBuilder = new SnapshotIndexBuilder(mock(SubwayNetworkResolver.class));
+
+	private final ContractionHierarchyShortestPathFinder contractionHierarchyShortestPathFinder =
+		new ContractionHierarchyShortestPathFinder(new PathFinderMetrics(new SimpleMeterRegistry()), snapshotIndexBuilder);
+
+	@AfterEach
+	void tearDown() {
+		snapshotIndexBuilder.shutdown();
+	}
+
+	@Test
+	@DisplayName("CH 최단 경로 조회 1: 주어진 구간에 대해 최단 경로와 거리를 정확히 계산한다")
+	void findShortestPathTest_1() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Section section1 = createSectionWithIdRandom(station1, station2, 10L);
+		Section section2 = createSectionWithIdRandom(station2, station3, 20L);
+
+		List<Section> sections = Arrays.asList(section1, section2);
+
+		// When
+		Path result = contractionHierarchyShortestPathFinder.findShortestPath(station1, station3, sections);
+
+		// Then
+		assertEquals(Arrays.asList(station1, station2, station3), result.getStations());
+		assertEquals(30, result.getDistance());
+	}
+
+	/**
+	 * Station1 --5--> Station2 --10--> Station3 --3--> Station4 --4--> Station5
+	 *                     |                               ^
+	 *                     2                               |
+	 *                     v                               |
+	 *                Station6 --------------------------> 8
+	 *                     ^
+	 *                     1
+	 *                     |
+	 *                 Station5
+	 */
+	@Test
+	@DisplayName("CH 최단 경로 조회 2: 여러 경로 중 JGraphT 구현과 같은 최단 경로와 거리를 계산한다")
+	void findShortestPathTest_2() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Station station5 = new Station(5L, "Station5");
+		Station station6 = new Station(6L, "Station6");
+		List<Section> sections = Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 5L),
+			createSectionWithIdRandom(station2, station3, 10L),
+			createSectionWithIdRandom(station3, station4, 3L),
+			createSectionWithIdRandom(station4, station5, 4L),
+			createSectionWithIdRandom(station2, station6, 2L),
+			createSectionWithIdRandom(station6, station4, 8L),
+			createSectionWithIdRandom(station5, station6, 1L));
+
+		// When
+		Path result = contractionHierarchyShortestPathFinder.findShortestPath(station1, station5, sections);
+		Path expected = new DijkstraBasedShortestPathFinder().findShortestPath(station1, station5, sections);
+
+		// Then
+		assertEquals(Arrays.asList(station1, station2, station6, station4, station5), result.getStations());
+		assertEquals(19, result.getDistance());
+		assertEquals(expected, result);
+	}
+
+	@Test
+	@DisplayName("CH 최단 경로 조회 3: 백그라운드에서 만든 계층은 스냅샷에 한 번만 붙고, 붙기 전후의 결과가 같다")
+	void findShortestPathTest_3() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		SubwayNetwork network = SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 4L),
+			createSectionWithIdRandom(station2, station3, 4L),
+			createSectionWithIdRandom(station1, station3, 10L),
+			createSectionWithIdRandom(station3, station4, 1L)));
+
+		// When
+		Path first = contractionHierarchyShortestPathFinder.findShortestPath(station1, station4, network);
+		snapshotIndexBuilder.awaitAll(network);
+		ContractionHierarchy hierarchy = network.findAttached(ContractionHierarchy.class).orElse(null);
+		Path second = contractionHierarchyShortestPathFinder.findShortestPath(station1, station4, network);
+		snapshotIndexBuilder.awaitAll(network);
+
+		// Then
+		assertNotNull(hierarchy);
+		assertSame(hierarchy, network.findAttached(ContractionHierarchy.class).orElse(null));
+		assertEquals(Arrays.asList(station1, station2, station3, station4), first.getStations());
+		assertEquals(9, first.getDistance());
+		assertEquals(first, second);
+	}
+
+	@Test
+	@DisplayName("CH 다중 도착역 조회: 출발역 탐색을 공유하여 도착역마다 다익스트라와 같은 경로를 반환하고, 도달할 수 없거나 없는 역은 제외한다")
+	void findShortestPathsTest() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Station station5 = new Station(5L, "Station5");
+		Station station6 = new Station(6L, "Station6");
+		Station unknown = new Station(99L, "Unknown");
+		List<Section> sections = Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 5L),
+			createSectionWithIdRandom(station2, station3, 10L),
+			createSectionWithIdRandom(station3, station4, 3L),
+			createSectionWithIdRandom(station4, station5, 4L),
+			createSectionWithIdRandom(station2, station6, 2L),
+			createSectionWithIdRandom(station6, station4, 8L),
+			createSectionWithIdRandom(station5, station6, 1L));
+		SubwayNetwork network = SubwayNetwork.from(sections);
+		snapshotIndexBuilder.awaitAll(network);
+
+		// When
+		Map<Long, Path> result = contractionHierarchyShortestPathFinder.findShortestPaths(station2,
+			Arrays.asList(station2, station3, station5, station1, unknown), network);
+
+		// Then
+		DijkstraBasedShortestPathFinder dijkstra = new DijkstraBasedShortestPathFinder();
+		assertThat(result).containsOnlyKeys(2L, 3L, 5L);
+		assertEquals(dijkstra.findShortestPath(station2, station3, sections), result.get(3L));
+		assertEquals(dijkstra.findShortestPath(station2, station5, sections), result.get(5L));
+		assertEquals(List.of(station2), result.get(2L).getStations());
+		assertEquals(0, result.get(2L).getDistance());
+	}
+
+	@Test
+	@DisplayName("CH 최단 경로 조회 실패: 구간 방향상 도달할 수 없는 역이면 예외가 발생한다")
+	void findShortestPath_Failure_Unreachable() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		List<Section> sections = Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station3, station2, 10L));
+
+		// When & Then
+		assertThatThrownBy(() -> contractionHierarchyShortestPathFinder.findShortestPath(station1, station3, sections))
+			.isInstanceOf(PathNotValidException.class);
+	}
+
+	@Test
+	@DisplayName("CH 최단 경로 조회 실패: 노선망에 없는 역이면 예외가 발생한다")
+	void findShortestPath_Failure_UnknownStation() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station unknown = new Station(99L, "Unknown");
+		List<Section> sections = List.of(createSectionWithIdRandom(station1, station2, 10L));
+
+		// When & Then
+		assertThatThrownBy(() -> contractionHierarchyShortestPathFinder.findShortestPath(station1, unknown, sections))
+			.isInstanceOf(PathNotValidException.class);
+	}
+}
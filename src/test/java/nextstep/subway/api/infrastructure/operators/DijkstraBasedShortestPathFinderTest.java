@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import jdk.jfr.Description;
 import nextstep.subway.api.domain.model.entity.Section;
 import nextstep.subway.api.domain.model.entity.Station;
 import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
 
 /**
  * @author : Rene Choi
@@ -126,4 +128,29 @@ class DijkstraBasedShortestPathFinderTest {
 		assertEquals(19, result.getDistance());
 	}
 
+	/**
+	 * 1호선: Station1 --10--> Station2 --4--> Station3
+	 * 2호선: Station1 --3--> Station2 --12--> Station3
+	 */
+	@Test
+	@DisplayName("지하철 최단 경로 조회 4: 여러 노선이 같은 두 역 사이의 구간을 가지면 더 짧은 구간으로 거리를 계산한다")
+	@Description("두 노선이 같은 역 쌍을 잇는 구간을 가질 때, 노선망에서 구간을 읽는 순서와 관계없이 역 쌍마다 더 짧은 구간을 사용한다.")
+	void findShortestPathTest_4() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		SubwayNetwork network = SubwayNetwork.of(1L, Map.of(
+			1L, List.of(createSectionWithIdRandom(station1, station2, 10L), createSectionWithIdRandom(station2, station3, 4L)),
+			2L, List.of(createSectionWithIdRandom(station1, station2, 3L), createSectionWithIdRandom(station2, station3, 12L))));
+
+		// When
+		Path result = dijkstraBasedShortestPathFinder.findShortestPath(station1, station3, network);
+
+		// Then
+		assertNotNull(result);
+		assertEquals(Arrays.asList(station1, station2, station3), result.getStations());
+		assertEquals(7, result.getDistance());
+	}
+
 }
@@ -0,0 +1,82 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.ReachableStation;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+class DistanceBoundedReachableStationFinderTest {
+
+	private final DistanceBoundedReachableStationFinder finder = new DistanceBoundedReachableStationFinder();
+
+	private final Station station1 = new Station(1L, "Station1");
+	private final Station station2 = new Station(2L, "Station2");
+	private final Station station3 = new Station(3L, "Station3");
+	private final Station station4 = new Station(4L, "Station4");
+	private final Station station5 = new Station(5L, "Station5");
+
+	/**
+	 * Station1 --10--> Station2 --15--> Station3 --20--> Station4
+	 *                     |                                ^
+	 *                     5                                |
+	 *                     v                                |
+	 *                  Station5 -----------------------> 10
+	 */
+	private SubwayNetwork createNetwork() {
+		return SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 15L),
+			createSectionWithIdRandom(station3, station4, 20L),
+			createSectionWithIdRandom(station2, station5, 5L),
+			createSectionWithIdRandom(station5, station4, 10L)));
+	}
+
+	@Test
+	@DisplayName("도달 가능한 역 조회 1: 거리 예산 이내의 역을 출발역을 제외하고 가까운 순서대로 반환한다")
+	void findReachableStationsTest_1() {
+		// When
+		List<ReachableStation> result = finder.findReachableStations(station1, 25L, createNetwork()).collect(Collectors.toList());
+
+		// Then
+		assertThat(result).extracting("distance").containsExactly(10L, 15L, 25L, 25L);
+		assertThat(result).extracting("station", "distance").containsExactlyInAnyOrder(
+			tuple(station2, 10L),
+			tuple(station5, 15L),
+			tuple(station3, 25L),
+			tuple(station4, 25L));
+	}
+
+	@Test
+	@DisplayName("도달 가능한 역 조회 2: 거리 예산을 넘는 역은 반환하지 않는다")
+	void findReachableStationsTest_2() {
+		// When
+		List<ReachableStation> result = finder.findReachableStations(station1, 14L, createNetwork()).collect(Collectors.toList());
+
+		// Then
+		assertThat(result).extracting("station").containsExactly(station2);
+	}
+
+	@Test
+	@DisplayName("도달 가능한 역 조회 3: 구간 방향상 더 갈 수 없거나 노선망에 없는 출발역이면 빈 결과를 반환한다")
+	void findReachableStationsTest_3() {
+		// Given
+		SubwayNetwork network = createNetwork();
+
+		// When & Then
+		assertThat(finder.findReachableStations(station4, Long.MAX_VALUE, network)).isEmpty();
+		assertThat(finder.findReachableStations(new Station(6L, "Station6"), Long.MAX_VALUE, network)).isEmpty();
+	}
+}
@@ -0,0 +1,138 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+import nextstep.subway.api.infrastructure.graph.HubLabelIndex;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+@ExtendWith(MockitoExtension.class)
+class HubLabelShortestPathFinderTest {
+
+	@Mock
+	private SubwayNetworkResolver subwayNetworkResolver;
+
+	private SnapshotIndexBuilder snapshotIndexBuilder;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final Station station1 = new Station(1L, "Station1");
+	private final Station station2 = new Station(2L, "Station2");
+	private final Station station3 = new Station(3L, "Station3");
+	private final Station station4 = new Station(4L, "Station4");
+	private final Station station5 = new Station(5L, "Station5");
+
+	@BeforeEach
+	void setUp() {
+		snapshotIndexBuilder = new SnapshotIndexBuilder(subwayNetworkResolver);
+	}
+
+	@AfterEach
+	void tearDown() {
+		snapshotIndexBuilder.shutdown();
+	}
+
+	/**
+	 * Station1 --10--> Station2 --15--> Station3 --20--> Station4
+	 *                     |                                ^
+	 *                     5                                |
+	 *                     v                                |
+	 *                  Station5 -----------------------> 10
+	 */
+	private SubwayNetwork createNetwork() {
+		return SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 15L),
+			createSectionWithIdRandom(station3, station4, 20L),
+			createSectionWithIdRandom(station2, station5, 5L),
+			createSectionWithIdRandom(station5, station4, 10L)));
+	}
+
+	@Test
+	@DisplayName("허브 레이블 최단 경로 조회 1: 색인을 만든 뒤에는 레이블 병합만으로 최단 경로와 거리를 반환한다")
+	void findShortestPathTest_1() {
+		// Given
+		HubLabelShortestPathFinder finder = new HubLabelShortestPathFinder(new PathFinderMetrics(meterRegistry), snapshotIndexBuilder);
+		SubwayNetwork network = createNetwork();
+		snapshotIndexBuilder.awaitAll(network);
+
+		// When
+		Path result = finder.findShortestPath(station1, station4, network);
+
+		// Then
+		HubLabelIndex index = network.findAttached(HubLabelIndex.class).orElseThrow();
+		assertThat(result.getStations()).containsExactly(station1, station2, station5, station4);
+		assertThat(result.getDistance()).isEqualTo(25);
+		assertThat(meterRegistry.find("subway.path.hub-label.entries").tag("finder", "hub-label").gauge().value())
+			.isEqualTo(index.getLabelEntryCount());
+		assertThat(meterRegistry.find("subway.path.hub-label.bytes").tag("finder", "hub-label").gauge().value())
+			.isEqualTo(index.getLabelBytes());
+	}
+
+	@Test
+	@DisplayName("허브 레이블 최단 경로 조회 2: 색인이 준비되기 전에도 탐색으로 같은 최단 경로를 반환한다")
+	void findShortestPathTest_2() {
+		// Given
+		HubLabelShortestPathFinder finder = new HubLabelShortestPathFinder(new PathFinderMetrics(meterRegistry), snapshotIndexBuilder);
+		SubwayNetwork network = createNetwork();
+
+		// When
+		Path result = finder.findShortestPath(station1, station4, network);
+
+		// Then
+		assertThat(result.getStations()).containsExactly(station1, station2, station5, station4);
+		assertThat(result.getDistance()).isEqualTo(25);
+	}
+
+	@Test
+	@DisplayName("허브 레이블 최단 경로 조회 3: 한 출발역에서 여러 도착역으로의 경로를 레이블로 찾고, 도달할 수 없는 역은 제외한다")
+	void findShortestPathsTest() {
+		// Given
+		HubLabelShortestPathFinder finder = new HubLabelShortestPathFinder(new PathFinderMetrics(meterRegistry), snapshotIndexBuilder);
+		SubwayNetwork network = createNetwork();
+		snapshotIndexBuilder.awaitAll(network);
+
+		// When
+		Map<Long, Path> result = finder.findShortestPaths(station2, List.of(station1, station3, station4), network);
+
+		// Then
+		assertThat(result).containsOnlyKeys(3L, 4L);
+		assertThat(result.get(3L).getDistance()).isEqualTo(15);
+		assertThat(result.get(4L).getStations()).containsExactly(station2, station5, station4);
+		assertThat(result.get(4L).getDistance()).isEqualTo(15);
+	}
+
+	@Test
+	@DisplayName("허브 레이블 최단 경로 조회 실패: 구간 방향상 도달할 수 없는 역이면 예외가 발생한다")
+	void findShortestPath_Failure_Unreachable() {
+		// Given
+		HubLabelShortestPathFinder finder = new HubLabelShortestPathFinder(new PathFinderMetrics(meterRegistry), snapshotIndexBuilder);
+		SubwayNetwork network = createNetwork();
+		snapshotIndexBuilder.awaitAll(network);
+
+		// When & Then
+		assertThatThrownBy(() -> finder.findShortestPath(station4, station1, network))
+			.isInstanceOf(PathNotValidException.class);
+	}
+}
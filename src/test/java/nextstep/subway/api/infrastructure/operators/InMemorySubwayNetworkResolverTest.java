@@ -0,0 +1,214 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import nextstep.subway.api.domain.dto.outport.NetworkSectionInfo;
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.event.SubwayNetworkChangedEvent;
+import nextstep.subway.api.domain.model.vo.SectionChanges;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.LineResolver;
+import nextstep.subway.api.infrastructure.graph.CompressedSparseRowGraph;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/13
+ */
+@ExtendWith(MockitoExtension.class)
+class InMemorySubwayNetworkResolverTest {
+
+	@InjectMocks
+	private InMemorySubwayNetworkResolver inMemorySubwayNetworkResolver;
+
+	@Mock
+	private LineResolver lineResolver;
+
+	@Test
+	@DisplayName("노선망 조회 - 한 번 읽은 노선망은 변경 전까지 재사용한다")
+	void fetchNetwork_ReusesLoadedNetwork() {
+		// given
+		NetworkSectionInfo section = createNetworkSection(1L, 1L, "강남역", 2L, "역삼역", 10L);
+		given(lineResolver.fetchNetworkSections()).willReturn(List.of(section));
+
+		// when
+		SubwayNetwork first = inMemorySubwayNetworkResolver.fetchNetwork();
+		SubwayNetwork second = inMemorySubwayNetworkResolver.fetchNetwork();
+
+		// then
+		assertThat(second).isSameAs(first);
+		assertThat(first.getSections()).extracting("id").containsExactly(1L);
+		assertThat(first.findLineName(1L)).contains("2호선");
+		then(lineResolver).should(times(1)).fetchNetworkSections();
+	}
+
+	@Test
+	@DisplayName("노선망 조회 - 노선망 변경 이벤트 이후에는 새 버전의 노선망을 다시 읽는다")
+	void fetchNetwork_ReloadsAfterNetworkChanged() {
+		// given
+		NetworkSectionInfo section = createNetworkSection(1L, 1L, "강남역", 2L, "역삼역", 10L);
+		NetworkSectionInfo newSection = createNetworkSection(2L, 2L, "역삼역", 3L, "선릉역", 5L);
+		given(lineResolver.fetchNetworkSections())
+			.willReturn(List.of(section))
+			.willReturn(List.of(section, newSection));
+		SubwayNetwork before = inMemorySubwayNetworkResolver.fetchNetwork();
+
+		// when
+		inMemorySubwayNetworkResolver.onNetworkChanged(SubwayNetworkChangedEvent.of(1L));
+		SubwayNetwork after = inMemorySubwayNetworkResolver.fetchNetwork();
+
+		// then
+		assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+		assertThat(after.getSections()).extracting("id").containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("노선망 조회 - 구간 변경분이 담긴 이벤트는 노선망을 다시 읽지 않고 변경분만 반영한 새 버전으로 교체한다")
+	void fetchNetwork_PatchesWithSectionChanges() {
+		// given
+		given(lineResolver.fetchNetworkSections()).willReturn(List.of(createNetworkSection(1L, 1L, "강남역", 2L, "역삼역", 10L)));
+		SubwayNetwork before = inMemorySubwayNetworkResolver.fetchNetwork();
+		CompressedSparseRowGraph graphBefore = before.attach(CompressedSparseRowGraph.class, it -> CompressedSparseRowGraph.from(it.getSections()));
+
+		Station gangnam = new Station(1L, "강남역");
+		Station yeoksam = new Station(2L, "역삼역");
+		Station newStation = new Station(3L, "신논현역");
+		SectionChanges changes = SectionChanges.of(
+			List.of(new Section(1L, gangnam, yeoksam, 10L)),
+			List.of(new Section(2L, gangnam, newStation, 4L), new Section(3L, newStation, yeoksam, 6L)));
+
+		// when
+		inMemorySubwayNetworkResolver.onNetworkChanged(SubwayNetworkChangedEvent.of(1L, changes));
+		SubwayNetwork after = inMemorySubwayNetworkResolver.fetchNetwork();
+
+		// then
+		then(lineResolver).should(times(1)).fetchNetworkSections();
+		assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+		assertThat(after.getSections()).extracting("id").containsExactlyInAnyOrder(2L, 3L);
+		assertThat(after.findStation(3L)).isPresent();
+		assertThat(after.findStation(1L)).containsSame(before.findStation(1L).orElseThrow());
+		CompressedSparseRowGraph graphAfter = after.findAttached(CompressedSparseRowGraph.class).orElseThrow();
+		assertThat(graphAfter).isNotSameAs(graphBefore);
+		assertThat(graphAfter.edgeCount()).isEqualTo(2);
+		assertThat(before.getSections()).extracting("id").containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("노선망 조회 - 변경분을 반영한 새 버전은 변경되지 않은 노선의 구간 목록을 공유하고, 변경된 역의 노선 색인만 갱신한다")
+	void fetchNetwork_PatchSharesUnchangedLines() {
+		// given
+		given(lineResolver.fetchNetworkSections()).willReturn(List.of(
+			createNetworkSection(1L, 1L, "강남역", 2L, "역삼역", 10L),
+			new NetworkSectionInfo(2L, "3호선", 2L, 2L, "역삼역", 4L, "교대역", 7L)));
+		SubwayNetwork before = inMemorySubwayNetworkResolver.fetchNetwork();
+		SectionChanges changes = SectionChanges.of(
+			List.of(new Section(1L, new Station(1L, "강남역"), new Station(2L, "역삼역"), 10L)),
+			List.of(new Section(3L, new Station(1L, "강남역"), new Station(3L, "신논현역"), 4L)));
+
+		// when
+		inMemorySubwayNetworkResolver.onNetworkChanged(SubwayNetworkChangedEvent.of(1L, changes));
+		SubwayNetwork after = inMemorySubwayNetworkResolver.fetchNetwork();
+
+		// then
+		assertThat(after.getSectionsByLine().get(2L)).isSameAs(before.getSectionsByLine().get(2L));
+		assertThat(after.findLineIds(2L)).containsExactly(2L);
+		assertThat(after.findLineIds(3L)).containsExactly(1L);
+		assertThat(after.isServedBy(1L, 1L)).isTrue();
+		assertThat(before.findLineIds(2L)).containsExactly(1L, 2L);
+		assertThat(before.findStation(3L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("노선망 조회 - 스냅샷에 없는 구간을 삭제하는 변경분이면 변경분을 반영하지 않고 노선망을 다시 읽는다")
+	void fetchNetwork_ReloadsWhenSectionChangesDoNotMatch() {
+		// given
+		given(lineResolver.fetchNetworkSections()).willReturn(List.of(createNetworkSection(1L, 1L, "강남역", 2L, "역삼역", 10L)));
+		inMemorySubwayNetworkResolver.fetchNetwork();
+		SectionChanges changes = SectionChanges.of(List.of(new Section(99L, new Station(1L, "강남역"), new Station(2L, "역삼역"), 10L)), List.of());
+
+		// when
+		inMemorySubwayNetworkResolver.onNetworkChanged(SubwayNetworkChangedEvent.of(1L, changes));
+		inMemorySubwayNetworkResolver.fetchNetwork();
+
+		// then
+		then(lineResolver).should(times(2)).fetchNetworkSections();
+	}
+
+	@Test
+	@DisplayName("노선망 조회 - 다음 노선망을 만드는 동안에도 조회 요청은 기다리지 않고 이전 노선망으로 응답한다")
+	void fetchNetwork_ServesPreviousNetworkWhileRebuilding() {
+		// given
+		NetworkSectionInfo section = createNetworkSection(1L, 1L, "강남역", 2L, "역삼역", 10L);
+		NetworkSectionInfo newSection = createNetworkSection(2L, 2L, "역삼역", 3L, "선릉역", 5L);
+		given(lineResolver.fetchNetworkSections()).willReturn(List.of(section));
+		SubwayNetwork before = inMemorySubwayNetworkResolver.fetchNetwork();
+
+		List<SubwayNetwork> servedWhileRebuilding = new ArrayList<>();
+		given(lineResolver.fetchNetworkSections()).willAnswer(invocation -> {
+			servedWhileRebuilding.add(CompletableFuture.supplyAsync(inMemorySubwayNetworkResolver::fetchNetwork).get(1, TimeUnit.SECONDS));
+			return List.of(section, newSection);
+		});
+
+		// when
+		inMemorySubwayNetworkResolver.onNetworkChanged(SubwayNetworkChangedEvent.of(1L));
+		SubwayNetwork after = inMemorySubwayNetworkResolver.fetchNetwork();
+
+		// then
+		assertThat(servedWhileRebuilding).containsExactly(before);
+		assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+		assertThat(after.getSections()).extracting("id").containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("노선망 조회 - 다음 노선망을 읽지 못했다면 이전 노선망을 버리고 다음 조회 요청에서 다시 읽는다")
+	void fetchNetwork_ReloadsOnNextFetchWhenRebuildFails() {
+		// given
+		NetworkSectionInfo section = createNetworkSection(1L, 1L, "강남역", 2L, "역삼역", 10L);
+		given(lineResolver.fetchNetworkSections())
+			.willReturn(List.of(section))
+			.willThrow(new IllegalStateException("connection lost"))
+			.willReturn(List.of(section));
+		SubwayNetwork before = inMemorySubwayNetworkResolver.fetchNetwork();
+
+		// when
+		inMemorySubwayNetworkResolver.onNetworkChanged(SubwayNetworkChangedEvent.of(1L));
+		SubwayNetwork after = inMemorySubwayNetworkResolver.fetchNetwork();
+
+		// then
+		then(lineResolver).should(times(3)).fetchNetworkSections();
+		assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+	}
+
+	@Test
+	@DisplayName("노선망 조회 - 여러 구간에 등장하는 역은 하나의 Station 객체를 공유한다")
+	void fetchNetwork_SharesStationsAcrossSections() {
+		// given
+		given(lineResolver.fetchNetworkSections()).willReturn(List.of(
+			createNetworkSection(1L, 1L, "강남역", 2L, "역삼역", 10L),
+			createNetworkSection(2L, 2L, "역삼역", 3L, "선릉역", 5L)));
+
+		// when
+		SubwayNetwork network = inMemorySubwayNetworkResolver.fetchNetwork();
+
+		// then
+		assertThat(network.getSections().get(1).getUpStation()).isSameAs(network.getSections().get(0).getDownStation());
+	}
+
+	private static NetworkSectionInfo createNetworkSection(Long sectionId, Long upStationId, String upStationName, Long downStationId,
+		String downStationName, Long distance) {
+		return new NetworkSectionInfo(1L, "2호선", sectionId, upStationId, upStationName, downStationId, downStationName, distance);
+	}
+}
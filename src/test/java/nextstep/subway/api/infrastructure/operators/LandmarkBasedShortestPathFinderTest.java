@@ -0,0 +1,191 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+import nextstep.subway.api.infrastructure.graph.LandmarkIndex;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/16
+ */
+class LandmarkBasedShortestPathFinderTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final SnapshotIndexBuilder snapshotIndexBuilder = new SnapshotIndexBuilder(mock(SubwayNetworkResolver.class));
+
+	private final LandmarkBasedShortestPathFinder landmarkBasedShortestPathFinder =
+		new LandmarkBasedShortestPathFinder(new PathFinderMetrics(meterRegistry), snapshotIndexBuilder, 2);
+
+	@AfterEach
+	void tearDown() {
+		snapshotIndexBuilder.shutdown();
+	}
+
+	@Test
+	@DisplayName("ALT 최단 경로 조회 1: 주어진 구간에 대해 최단 경로와 거리를 정확히 계산한다")
+	void findShortestPathTest_1() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Section section1 = createSectionWithIdRandom(station1, station2, 10L);
+		Section section2 = createSectionWithIdRandom(station2, station3, 20L);
+
+		List<Section> sections = Arrays.asList(section1, section2);
+
+		// When
+		Path result = landmarkBasedShortestPathFinder.findShortestPath(station1, station3, sections);
+
+		// Then
+		assertEquals(Arrays.asList(station1, station2, station3), result.getStations());
+		assertEquals(30, result.getDistance());
+	}
+
+	/**
+	 * Station1 --5--> Station2 --10--> Station3 --3--> Station4 --4--> Station5
+	 *                     |                               ^
+	 *                     2                               |
+	 *                     v                               |
+	 *                Station6 --------------------------> 8
+	 *                     ^
+	 *                     1
+	 *                     |
+	 *                 Station5
+	 */
+	@Test
+	@DisplayName("ALT 최단 경로 조회 2: 여러 경로 중 JGraphT 구현과 같은 최단 경로와 거리를 계산한다")
+	void findShortestPathTest_2() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Station station5 = new Station(5L, "Station5");
+		Station station6 = new Station(6L, "Station6");
+		List<Section> sections = Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 5L),
+			createSectionWithIdRandom(station2, station3, 10L),
+			createSectionWithIdRandom(station3, station4, 3L),
+			createSectionWithIdRandom(station4, station5, 4L),
+			createSectionWithIdRandom(station2, station6, 2L),
+			createSectionWithIdRandom(station6, station4, 8L),
+			createSectionWithIdRandom(station5, station6, 1L));
+
+		// When
+		Path result = landmarkBasedShortestPathFinder.findShortestPath(station1, station5, sections);
+		Path expected = new DijkstraBasedShortestPathFinder().findShortestPath(station1, station5, sections);
+
+		// Then
+		assertEquals(Arrays.asList(station1, station2, station6, station4, station5), result.getStations());
+		assertEquals(19, result.getDistance());
+		assertEquals(expected, result);
+	}
+
+	@Test
+	@DisplayName("ALT 최단 경로 조회 3: 거리표가 붙은 뒤에는 조회할 때마다 확정한 정점 수를 지표로 기록한다")
+	void findShortestPathTest_3() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		SubwayNetwork network = SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 4L),
+			createSectionWithIdRandom(station2, station3, 4L),
+			createSectionWithIdRandom(station1, station3, 10L),
+			createSectionWithIdRandom(station3, station4, 1L)));
+		snapshotIndexBuilder.awaitAll(network);
+
+		// When
+		Path first = landmarkBasedShortestPathFinder.findShortestPath(station1, station4, network);
+		Path second = landmarkBasedShortestPathFinder.findShortestPath(station2, station4, network);
+
+		// Then
+		assertTrue(network.findAttached(LandmarkIndex.class).isPresent());
+		assertEquals(Arrays.asList(station1, station2, station3, station4), first.getStations());
+		assertEquals(9, first.getDistance());
+		assertEquals(5, second.getDistance());
+
+		DistributionSummary settled = meterRegistry.find("subway.path.query.settled").tag("finder", "alt").summary();
+		assertNotNull(settled);
+		assertEquals(2, settled.count());
+		assertTrue(settled.totalAmount() > 0);
+	}
+
+	@Test
+	@DisplayName("ALT 다중 도착역 조회: 한 번의 탐색으로 도착역마다 최단 경로를 반환하고, 도달할 수 없거나 없는 역은 제외한다")
+	void findShortestPathsTest() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Station unknown = new Station(99L, "Unknown");
+		SubwayNetwork network = SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 4L),
+			createSectionWithIdRandom(station2, station3, 4L),
+			createSectionWithIdRandom(station1, station3, 10L),
+			createSectionWithIdRandom(station3, station4, 1L)));
+
+		// When
+		Map<Long, Path> result = landmarkBasedShortestPathFinder.findShortestPaths(station2,
+			Arrays.asList(station3, station4, station1, unknown), network);
+
+		// Then
+		assertThat(result).containsOnlyKeys(3L, 4L);
+		assertEquals(Arrays.asList(station2, station3), result.get(3L).getStations());
+		assertEquals(Arrays.asList(station2, station3, station4), result.get(4L).getStations());
+		assertEquals(5, result.get(4L).getDistance());
+	}
+
+	@Test
+	@DisplayName("ALT 최단 경로 조회 실패: 구간 방향상 도달할 수 없는 역이면 예외가 발생한다")
+	void findShortestPath_Failure_Unreachable() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		List<Section> sections = Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station3, station2, 10L));
+
+		// When & Then
+		assertThatThrownBy(() -> landmarkBasedShortestPathFinder.findShortestPath(station1, station3, sections))
+			.isInstanceOf(PathNotValidException.class);
+	}
+
+	@Test
+	@DisplayName("ALT 최단 경로 조회 실패: 노선망에 없는 역이면 예외가 발생한다")
+	void findShortestPath_Failure_UnknownStation() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station unknown = new Station(99L, "Unknown");
+		List<Section> sections = List.of(createSectionWithIdRandom(station1, station2, 10L));
+
+		// When & Then
+		assertThatThrownBy(() -> landmarkBasedShortestPathFinder.findShortestPath(station1, unknown, sections))
+			.isInstanceOf(PathNotValidException.class);
+	}
+}
@@ -0,0 +1,105 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.LinePath;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+class LineAwareTransferMinimizingPathFinderTest {
+
+	private final LineAwareTransferMinimizingPathFinder finder = new LineAwareTransferMinimizingPathFinder(new PathFinderMetrics(new SimpleMeterRegistry()));
+
+	private final Station station1 = new Station(1L, "Station1");
+	private final Station station2 = new Station(2L, "Station2");
+	private final Station station3 = new Station(3L, "Station3");
+	private final Station station4 = new Station(4L, "Station4");
+	private final Station station5 = new Station(5L, "Station5");
+
+	/**
+	 * 1호선: Station1 --10--> Station2 --10--> Station3 --10--> Station4
+	 * 2호선: Station1 --2--> Station5
+	 * 3호선: Station5 --2--> Station4
+	 * 4호선: Station2 --1--> Station3
+	 * 5호선: Station1 --25--> Station3
+	 */
+	private SubwayNetwork createNetwork() {
+		return SubwayNetwork.of(1L, Map.of(
+				1L, List.of(
+					createSectionWithIdRandom(station1, station2, 10L),
+					createSectionWithIdRandom(station2, station3, 10L),
+					createSectionWithIdRandom(station3, station4, 10L)),
+				2L, List.of(createSectionWithIdRandom(station1, station5, 2L)),
+				3L, List.of(createSectionWithIdRandom(station5, station4, 2L)),
+				4L, List.of(createSectionWithIdRandom(station2, station3, 1L)),
+				5L, List.of(createSectionWithIdRandom(station1, station3, 25L))),
+			Map.of(1L, "1호선", 2L, "2호선", 3L, "3호선", 4L, "4호선", 5L, "5호선"));
+	}
+
+	@Test
+	@DisplayName("최소 환승 경로 조회 1: 거리가 더 길더라도 환승 횟수가 적은 경로를 반환한다")
+	void findLeastTransferPathTest_1() {
+		// When
+		LinePath result = finder.findLeastTransferPath(station1, station4, createNetwork());
+
+		// Then
+		assertThat(result.getTransferCount()).isZero();
+		assertThat(result.getDistance()).isEqualTo(30L);
+		assertThat(result.getStations()).containsExactly(station1, station2, station3, station4);
+		assertThat(result.getLegs()).extracting("lineName", "distance").containsExactly(tuple("1호선", 30L));
+	}
+
+	@Test
+	@DisplayName("최소 환승 경로 조회 2: 환승 횟수가 같다면 거리가 짧은 경로를 반환한다")
+	void findLeastTransferPathTest_2() {
+		// When
+		LinePath result = finder.findLeastTransferPath(station1, station3, createNetwork());
+
+		// Then
+		assertThat(result.getTransferCount()).isZero();
+		assertThat(result.getDistance()).isEqualTo(20L);
+		assertThat(result.getLegs()).extracting("lineName", "distance").containsExactly(tuple("1호선", 20L));
+	}
+
+	@Test
+	@DisplayName("최소 환승 경로 조회 3: 환승이 필요하면 환승역에서 나뉜 노선별 이동 구간을 반환한다")
+	void findLeastTransferPathTest_3() {
+		// Given
+		SubwayNetwork network = SubwayNetwork.of(1L, Map.of(
+				2L, List.of(createSectionWithIdRandom(station1, station5, 2L)),
+				3L, List.of(createSectionWithIdRandom(station5, station4, 2L))),
+			Map.of(2L, "2호선", 3L, "3호선"));
+
+		// When
+		LinePath result = finder.findLeastTransferPath(station1, station4, network);
+
+		// Then
+		assertThat(result.getTransferCount()).isEqualTo(1);
+		assertThat(result.getDistance()).isEqualTo(4L);
+		assertThat(result.getStations()).containsExactly(station1, station5, station4);
+		assertThat(result.getLegs()).extracting("lineName", "stations", "distance").containsExactly(
+			tuple("2호선", List.of(station1, station5), 2L),
+			tuple("3호선", List.of(station5, station4), 2L));
+	}
+
+	@Test
+	@DisplayName("최소 환승 경로 조회 실패: 구간 방향상 도달할 수 없는 역이면 예외가 발생한다")
+	void findLeastTransferPath_Failure_Unreachable() {
+		// When & Then
+		assertThatThrownBy(() -> finder.findLeastTransferPath(station4, station1, createNetwork()))
+			.isInstanceOf(PathNotValidException.class);
+	}
+}
@@ -0,0 +1,109 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.DistanceMatrix;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/19
+ */
+class ParallelDistanceMatrixFinderTest {
+
+	private final ParallelDistanceMatrixFinder finder = new ParallelDistanceMatrixFinder(new PathFinderMetrics(new SimpleMeterRegistry()), 4);
+
+	private final Station station1 = new Station(1L, "Station1");
+	private final Station station2 = new Station(2L, "Station2");
+	private final Station station3 = new Station(3L, "Station3");
+	private final Station station4 = new Station(4L, "Station4");
+	private final Station station5 = new Station(5L, "Station5");
+
+	/**
+	 * Station1 --10--> Station2 --15--> Station3 --20--> Station4
+	 *                     |                                ^
+	 *                     5                                |
+	 *                     v                                |
+	 *                  Station5 -----------------------> 10
+	 */
+	private SubwayNetwork createNetwork() {
+		return SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 15L),
+			createSectionWithIdRandom(station3, station4, 20L),
+			createSectionWithIdRandom(station2, station5, 5L),
+			createSectionWithIdRandom(station5, station4, 10L)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		finder.shutdown();
+	}
+
+	@Test
+	@DisplayName("거리 행렬 조회 1: 요청한 출발역/도착역 순서대로 행과 열을 채운다")
+	void findDistanceMatrixTest_1() {
+		// When
+		DistanceMatrix result = finder.findDistanceMatrix(List.of(1L, 2L, 3L), List.of(4L, 3L, 1L), createNetwork());
+
+		// Then
+		assertThat(result.getSourceIds()).containsExactly(1L, 2L, 3L);
+		assertThat(result.getTargetIds()).containsExactly(4L, 3L, 1L);
+		assertThat(result.getDistances()).containsExactly(
+			Arrays.asList(25L, 25L, 0L),
+			Arrays.asList(15L, 15L, null),
+			Arrays.asList(20L, 0L, null));
+	}
+
+	@Test
+	@DisplayName("거리 행렬 조회 2: 노선망에 없는 역이 포함된 칸은 null로 채운다")
+	void findDistanceMatrixTest_2() {
+		// When
+		DistanceMatrix result = finder.findDistanceMatrix(List.of(1L, 99L), List.of(99L, 5L), createNetwork());
+
+		// Then
+		assertThat(result.getDistances()).containsExactly(
+			Arrays.asList(null, 15L),
+			Arrays.asList(null, null));
+	}
+
+	@Test
+	@DisplayName("거리 행렬 조회 3: 병렬로 계산한 행렬은 JGraphT 기반 PathFinder로 출발역마다 찾은 최단 거리와 같다")
+	void findDistanceMatrixTest_3() {
+		// Given
+		SubwayNetwork network = createNetwork();
+		List<Long> stationIds = List.of(1L, 2L, 3L, 4L, 5L);
+		DijkstraBasedShortestPathFinder pathFinder = new DijkstraBasedShortestPathFinder();
+
+		// When
+		DistanceMatrix result = finder.findDistanceMatrix(stationIds, stationIds, network);
+
+		// Then
+		for (int row = 0; row < stationIds.size(); row++) {
+			Station source = network.findStation(stationIds.get(row)).orElseThrow();
+			for (int column = 0; column < stationIds.size(); column++) {
+				Station target = network.findStation(stationIds.get(column)).orElseThrow();
+				Long expected = row == column ? Long.valueOf(0L) : findDistanceOrNull(pathFinder, source, target, network);
+				assertThat(result.getDistances().get(row).get(column)).isEqualTo(expected);
+			}
+		}
+	}
+
+	private static Long findDistanceOrNull(DijkstraBasedShortestPathFinder pathFinder, Station source, Station target, SubwayNetwork network) {
+		return pathFinder.findShortestPaths(source, List.of(target), network).values().stream()
+			.findFirst()
+			.map(Path::getDistance)
+			.orElse(null);
+	}
+}
@@ -0,0 +1,131 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.api.domain.model.entity.Section;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.PathFinder;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+import nextstep.subway.common.exception.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/20
+ */
+@ExtendWith(MockitoExtension.class)
+class PathFinderWarmUpTest {
+
+	@Mock
+	private SubwayNetworkResolver subwayNetworkResolver;
+
+	@Mock
+	private PathFinder pathFinder;
+
+	private SnapshotIndexBuilder snapshotIndexBuilder;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final Station station1 = new Station(1L, "Station1");
+	private final Station station2 = new Station(2L, "Station2");
+	private final Station station3 = new Station(3L, "Station3");
+
+	@BeforeEach
+	void setUp() {
+		snapshotIndexBuilder = new SnapshotIndexBuilder(subwayNetworkResolver);
+	}
+
+	@AfterEach
+	void tearDown() {
+		snapshotIndexBuilder.shutdown();
+	}
+
+	@Test
+	@DisplayName("워밍업 1: 노선망을 불러온 뒤 서로 다른 역 쌍으로 설정한 수만큼 경로를 탐색하고, 경로가 없는 쌍이 있어도 끝까지 실행한다")
+	void warmUpTest_1() {
+		// Given
+		SubwayNetwork network = SubwayNetwork.of(1L, Map.of(1L, List.of(
+			new Section(1L, station1, station2, 10L),
+			new Section(2L, station2, station3, 10L))));
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		given(pathFinder.findShortestPath(any(), any(), eq(network))).willThrow(new PathNotValidException("No path exists between the source and target stations."));
+		PathFinderWarmUp warmUp = new PathFinderWarmUp(subwayNetworkResolver, pathFinder, new PathFinderMetrics(meterRegistry), snapshotIndexBuilder, 50);
+
+		// When
+		int executedQueries = warmUp.warmUp();
+
+		// Then
+		assertThat(executedQueries).isEqualTo(50);
+		then(pathFinder).should(times(50)).findShortestPath(any(), any(), eq(network));
+		then(pathFinder).should(never()).findShortestPath(station1, station1, network);
+		assertThat(meterRegistry.find("subway.path.warm-up.queries").tag("finder", "warm-up").gauge().value()).isEqualTo(50);
+		assertThat(meterRegistry.find("subway.path.warm-up.duration.ms").tag("finder", "warm-up").gauge()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("워밍업 2: 경로를 탐색하기 전에 등록된 색인이 현재 스냅샷에 모두 붙을 때까지 기다린다")
+	void warmUpTest_2() {
+		// Given
+		SubwayNetwork network = SubwayNetwork.of(1L, Map.of(1L, List.of(
+			new Section(1L, station1, station2, 10L),
+			new Section(2L, station2, station3, 10L))));
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+		snapshotIndexBuilder.register(WarmUpIndex.class, it -> {
+			sleep();
+			return new WarmUpIndex();
+		});
+		List<Boolean> attachedOnQuery = new CopyOnWriteArrayList<>();
+		given(pathFinder.findShortestPath(any(), any(), eq(network))).willAnswer(invocation -> {
+			attachedOnQuery.add(network.findAttached(WarmUpIndex.class).isPresent());
+			return null;
+		});
+		PathFinderWarmUp warmUp = new PathFinderWarmUp(subwayNetworkResolver, pathFinder, new PathFinderMetrics(meterRegistry), snapshotIndexBuilder, 5);
+
+		// When
+		warmUp.warmUp();
+
+		// Then
+		assertThat(attachedOnQuery).hasSize(5).containsOnly(true);
+	}
+
+	@Test
+	@DisplayName("워밍업 3: 노선망에 역이 두 개 미만이면 노선망만 불러오고 경로는 탐색하지 않는다")
+	void warmUpTest_3() {
+		// Given
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(SubwayNetwork.from(List.of()));
+		PathFinderWarmUp warmUp = new PathFinderWarmUp(subwayNetworkResolver, pathFinder, new PathFinderMetrics(meterRegistry), snapshotIndexBuilder, 50);
+
+		// When
+		int executedQueries = warmUp.warmUp();
+
+		// Then
+		assertThat(executedQueries).isZero();
+		then(subwayNetworkResolver).should(times(1)).fetchNetwork();
+		then(pathFinder).shouldHaveNoInteractions();
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(100L);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class WarmUpIndex {
+	}
+}
@@ -0,0 +1,181 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.event.SubwayNetworkChangedEvent;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+import nextstep.subway.api.domain.operators.SubwayNetworkResolver;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/17
+ */
+@ExtendWith(MockitoExtension.class)
+class SnapshotIndexBuilderTest {
+
+	@Mock
+	private SubwayNetworkResolver subwayNetworkResolver;
+
+	private SnapshotIndexBuilder snapshotIndexBuilder;
+
+	private final AtomicInteger buildCount = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		snapshotIndexBuilder = new SnapshotIndexBuilder(subwayNetworkResolver);
+	}
+
+	@AfterEach
+	void tearDown() {
+		snapshotIndexBuilder.shutdown();
+	}
+
+	private SubwayNetwork createNetwork(long version) {
+		return SubwayNetwork.of(version, Map.of(1L, List.of(
+			createSectionWithIdRandom(new Station(1L, "Station1"), new Station(2L, "Station2"), 10L))));
+	}
+
+	private TestIndex createIndex(SubwayNetwork network) {
+		buildCount.incrementAndGet();
+		return new TestIndex(network.getVersion());
+	}
+
+	@Test
+	@DisplayName("스냅샷 색인 생성 1: 같은 스냅샷에 동시에 질의가 몰려도 색인은 백그라운드에서 한 번만 만든다")
+	void buildTest_1() throws Exception {
+		// Given
+		BackgroundSnapshotIndex<TestIndex> indexes = snapshotIndexBuilder.register(TestIndex.class, this::createIndex);
+		SubwayNetwork network = createNetwork(1L);
+
+		// When
+		List<CompletableFuture<Long>> queries = IntStream.range(0, 50)
+			.mapToObj(i -> CompletableFuture.supplyAsync(() -> indexes.query(network, TestIndex::getVersion, () -> -1L)))
+			.collect(Collectors.toList());
+		for (CompletableFuture<Long> query : queries) {
+			query.get(5, TimeUnit.SECONDS);
+		}
+		snapshotIndexBuilder.awaitAll(network);
+
+		// Then
+		assertThat(buildCount.get()).isEqualTo(1);
+		assertThat(indexes.query(network, TestIndex::getVersion, () -> -1L)).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("스냅샷 색인 생성 2: 색인이 만들어지는 동안에는 요청 스레드가 기다리지 않고 fallback으로 응답한다")
+	void buildTest_2() {
+		// Given
+		CountDownLatch release = new CountDownLatch(1);
+		BackgroundSnapshotIndex<TestIndex> indexes = snapshotIndexBuilder.register(TestIndex.class, network -> {
+			awaitQuietly(release);
+			return createIndex(network);
+		});
+		SubwayNetwork network = createNetwork(1L);
+
+		// When
+		long whileBuilding = indexes.query(network, TestIndex::getVersion, () -> -1L);
+		release.countDown();
+		snapshotIndexBuilder.awaitAll(network);
+
+		// Then
+		assertThat(whileBuilding).isEqualTo(-1L);
+		assertThat(indexes.query(network, TestIndex::getVersion, () -> -1L)).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("스냅샷 색인 생성 3: 생성 함수가 색인을 만들지 않기로 하면 스냅샷에 붙이지 않고 다시 만들지도 않는다")
+	void buildTest_3() {
+		// Given
+		BackgroundSnapshotIndex<TestIndex> indexes = snapshotIndexBuilder.register(TestIndex.class, network -> {
+			buildCount.incrementAndGet();
+			return null;
+		});
+		SubwayNetwork network = createNetwork(1L);
+
+		// When
+		snapshotIndexBuilder.awaitAll(network);
+		long result = indexes.query(network, TestIndex::getVersion, () -> -1L);
+		snapshotIndexBuilder.awaitAll(network);
+
+		// Then
+		assertThat(result).isEqualTo(-1L);
+		assertThat(network.findAttached(TestIndex.class)).isEmpty();
+		assertThat(buildCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("스냅샷 색인 생성 4: 노선망 변경이 커밋되면 리졸버가 교체한 새 스냅샷의 색인을 미리 만든다")
+	void buildTest_4() {
+		// Given
+		BackgroundSnapshotIndex<TestIndex> indexes = snapshotIndexBuilder.register(TestIndex.class, this::createIndex);
+		SubwayNetwork network = createNetwork(2L);
+		given(subwayNetworkResolver.fetchNetwork()).willReturn(network);
+
+		// When
+		snapshotIndexBuilder.onNetworkChanged(SubwayNetworkChangedEvent.of(1L));
+		snapshotIndexBuilder.awaitAll(network);
+
+		// Then
+		assertThat(buildCount.get()).isEqualTo(1);
+		assertThat(indexes.query(network, TestIndex::getVersion, () -> -1L)).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("스냅샷 색인 생성 5: 더 새로운 스냅샷의 색인을 예약한 뒤에는 이전 스냅샷의 색인을 만들지 않는다")
+	void buildTest_5() {
+		// Given
+		BackgroundSnapshotIndex<TestIndex> indexes = snapshotIndexBuilder.register(TestIndex.class, this::createIndex);
+		SubwayNetwork previous = createNetwork(1L);
+		SubwayNetwork latest = createNetwork(2L);
+		snapshotIndexBuilder.awaitAll(latest);
+
+		// When
+		long result = indexes.query(previous, TestIndex::getVersion, () -> -1L);
+		snapshotIndexBuilder.awaitAll(previous);
+
+		// Then
+		assertThat(result).isEqualTo(-1L);
+		assertThat(previous.findAttached(TestIndex.class)).isEmpty();
+		assertThat(buildCount.get()).isEqualTo(1);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static final class TestIndex {
+		private final long version;
+
+		private TestIndex(long version) {
+			this.version = version;
+		}
+
+		private long getVersion() {
+			return version;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package nextstep.subway.api.infrastructure.operators;
+
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.api.domain.model.entity.Station;
+import nextstep.subway.api.domain.model.vo.Path;
+import nextstep.subway.api.domain.model.vo.SubwayNetwork;
+
+/**
+ * @author : Rene Choi
+ * @since : 2024/02/18
+ */
+class YenAlternativePathFinderTest {
+
+	private final YenAlternativePathFinder finder = new YenAlternativePathFinder(new PathFinderMetrics(new SimpleMeterRegistry()));
+
+	private final Station station1 = new Station(1L, "Station1");
+	private final Station station2 = new Station(2L, "Station2");
+	private final Station station3 = new Station(3L, "Station3");
+	private final Station station4 = new Station(4L, "Station4");
+	private final Station station5 = new Station(5L, "Station5");
+
+	/**
+	 * Station1 --10--> Station2 --15--> Station3 --20--> Station4
+	 *                     |                                ^
+	 *                     5                                |
+	 *                     v                                |
+	 *                  Station5 -----------------------> 10
+	 * <p>
+	 * Station1 --50--> Station4 (직통)
+	 */
+	private SubwayNetwork createNetwork() {
+		return SubwayNetwork.from(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 15L),
+			createSectionWithIdRandom(station3, station4, 20L),
+			createSectionWithIdRandom(station2, station5, 5L),
+			createSectionWithIdRandom(station5, station4, 10L),
+			createSectionWithIdRandom(station1, station4, 50L)));
+	}
+
+	@Test
+	@DisplayName("대안 경로 조회 1: 같은 역을 두 번 지나지 않는 경로를 거리 오름차순으로 반환한다")
+	void findAlternativePathsTest_1() {
+		// When
+		List<Path> result = finder.findAlternativePaths(station1, station4, 5, createNetwork());
+
+		// Then
+		assertThat(result).extracting("distance").containsExactly(25L, 45L, 50L);
+		assertThat(result.get(0).getStations()).containsExactly(station1, station2, station5, station4);
+		assertThat(result.get(1).getStations()).containsExactly(station1, station2, station3, station4);
+		assertThat(result.get(2).getStations()).containsExactly(station1, station4);
+	}
+
+	@Test
+	@DisplayName("대안 경로 조회 2: 요청한 개수만큼만 반환한다")
+	void findAlternativePathsTest_2() {
+		// When
+		List<Path> result = finder.findAlternativePaths(station1, station4, 2, createNetwork());
+
+		// Then
+		assertThat(result).extracting("distance").containsExactly(25L, 45L);
+	}
+
+	@Test
+	@DisplayName("대안 경로 조회 3: 구간 방향상 도달할 수 없으면 빈 목록을 반환한다")
+	void findAlternativePathsTest_3() {
+		// When & Then
+		assertThat(finder.findAlternativePaths(station4, station1, 3, createNetwork())).isEmpty();
+	}
+}
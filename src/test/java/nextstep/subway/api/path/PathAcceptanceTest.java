@@ -3,8 +3,12 @@ package nextstep.subway.api.path;
 import static nextstep.subway.fixture.SubwayScenarioFixtureCreator.*;
 import static nextstep.subway.utils.resthelper.ExtractableResponseParser.*;
 import static nextstep.subway.utils.resthelper.PathRequestExecutor.*;
+import static nextstep.subway.utils.resthelper.SectionRequestExecutor.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -12,6 +16,15 @@ import org.springframework.http.HttpStatus;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import nextstep.subway.api.CommonAcceptanceTest;
+import nextstep.subway.api.interfaces.dto.request.PathBatchRequest;
+import nextstep.subway.api.interfaces.dto.request.PathMatrixRequest;
+import nextstep.subway.api.interfaces.dto.request.PathQueryRequest;
+import nextstep.subway.api.interfaces.dto.response.PathAlternativesResponse;
+import nextstep.subway.api.interfaces.dto.response.PathBatchItemResponse;
+import nextstep.subway.api.interfaces.dto.response.PathBatchResponse;
+import nextstep.subway.api.interfaces.dto.response.PathMatrixResponse;
+import nextstep.subway.api.interfaces.dto.response.PathResponse;
+import nextstep.subway.api.interfaces.dto.response.ReachableStationsResponse;
 
 /**
  * @author : Rene Choi
@@ -219,4 +232,297 @@ public class PathAcceptanceTest extends CommonAcceptanceTest {
 		assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
 	}
 
+	/**
+	 * 일괄 최단 경로 조회
+	 * - given 지하철 역, 노선이 교차로 존재할 때
+	 * - when 출발역이 같은 쌍과 다른 쌍, 경로가 없는 쌍을 섞어 일괄 조회를 요청하면
+	 * - then 요청 순서대로 각 쌍의 최단 경로 또는 실패 사유를 리턴한다
+	 * <p>
+	 * 노선도 현황 예시
+	 * <p>
+	 * 교대역    --- *2호선* ---   강남역
+	 * |                        |
+	 * *3호선*                   *신분당선*
+	 * |                        |
+	 * 남부터미널역  --- *3호선* ---   양재
+	 * <p>
+	 */
+	@Test
+	@DisplayName("일괄 최단 경로 조회: 여러 출발역/도착역 쌍에 대해 요청 순서대로 최단 경로와 거리, 실패 사유가 반환되는지 검증")
+	void findShortestPathsInBatch_success() {
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLine("2호선", stationId1, stationId2, 10L);
+		long lineId2 = createLine("3호선", stationId1, stationId3, 5L);
+		createSection(lineId2, stationId1, stationId4, 2L);
+		createLine("신분당선", stationId2, stationId3, 10L);
+
+		PathBatchRequest batchRequest = new PathBatchRequest(List.of(
+			new PathQueryRequest(stationId1, stationId3),
+			new PathQueryRequest(stationId2, stationId3),
+			new PathQueryRequest(stationId1, stationId2),
+			new PathQueryRequest(stationId3, stationId1)));
+
+		// when
+		ExtractableResponse<Response> response = executeFindPathsInBatchRequest(batchRequest);
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		List<PathBatchItemResponse> paths = response.as(PathBatchResponse.class).getPaths();
+		assertThat(paths).extracting("source", "target", "distance").containsExactly(
+			tuple(stationId1, stationId3, 5L),
+			tuple(stationId2, stationId3, 10L),
+			tuple(stationId1, stationId2, 10L),
+			tuple(stationId3, stationId1, null));
+		assertThat(paths.get(0).getStations()).extracting("name").containsExactly("교대역", "남부터미널역", "양재역");
+		assertThat(paths.get(3).getError()).isNotBlank();
+	}
+
+	/**
+	 * 거리 행렬 조회
+	 * - given 지하철 역, 노선이 교차로 존재할 때
+	 * - when 출발역 목록과 도착역 목록으로 거리 행렬 조회를 요청하면
+	 * - then 요청한 순서대로 출발역별 행, 도착역별 열에 최단 거리를 채워 리턴하고, 도달할 수 없는 칸은 비워둔다
+	 * <p>
+	 * 노선도 현황 예시
+	 * <p>
+	 * 교대역    --- *2호선* ---   강남역
+	 * |                        |
+	 * *3호선*                   *신분당선*
+	 * |                        |
+	 * 남부터미널역  --- *3호선* ---   양재
+	 * <p>
+	 */
+	@Test
+	@DisplayName("거리 행렬 조회: 출발역 목록과 도착역 목록의 모든 쌍에 대한 최단 거리가 요청 순서대로 반환되는지 검증")
+	void findDistanceMatrix_success() {
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLine("2호선", stationId1, stationId2, 10L);
+		long lineId2 = createLine("3호선", stationId1, stationId3, 5L);
+		createSection(lineId2, stationId1, stationId4, 2L);
+		createLine("신분당선", stationId2, stationId3, 10L);
+
+		PathMatrixRequest matrixRequest = new PathMatrixRequest(List.of(stationId1, stationId2), List.of(stationId3, stationId4, stationId1));
+
+		// when
+		ExtractableResponse<Response> response = executeFindDistanceMatrixRequest(matrixRequest);
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		PathMatrixResponse matrix = response.as(PathMatrixResponse.class);
+		assertThat(matrix.getSources()).containsExactly(stationId1, stationId2);
+		assertThat(matrix.getTargets()).containsExactly(stationId3, stationId4, stationId1);
+		assertThat(matrix.getDistances()).containsExactly(
+			Arrays.asList(5L, 2L, 0L),
+			Arrays.asList(10L, null, null));
+	}
+
+	/**
+	 * 경유역을 지나는 최단 경로 조회
+	 * - given 지하철 역, 노선이 교차로 존재할 때
+	 * - when 출발역, 도착역과 함께 경유역을 지정하여 경로 조회를 요청하면
+	 * - then 경유역을 순서대로 지나는 구간별 최단 경로를 이어붙인 경로와 전체 거리를 리턴한다
+	 * <p>
+	 * 노선도 현황 예시
+	 * <p>
+	 * 교대역    --- *2호선* ---   강남역
+	 * |                        |
+	 * *3호선*                   *신분당선*
+	 * |                        |
+	 * 남부터미널역  --- *3호선* ---   양재
+	 * <p>
+	 */
+	@Test
+	@DisplayName("경유역을 지나는 최단 경로 조회: 교대역에서 강남역을 경유해 양재역까지 가는 경로와 거리가 반환되는지 검증")
+	void findShortestPathVia_success() {
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLine("2호선", stationId1, stationId2, 10L);
+		long lineId2 = createLine("3호선", stationId1, stationId3, 5L);
+		createSection(lineId2, stationId1, stationId4, 2L);
+		createLine("신분당선", stationId2, stationId3, 10L);
+
+		// when
+		ExtractableResponse<Response> response = executeFindPathViaRequest(stationId1, stationId3, List.of(stationId2));
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(parseStations(response)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(parseDistance(response)).isEqualTo(20);
+	}
+
+	/**
+	 * 거리 예산 이내 도달 가능한 역 조회
+	 * - given 지하철 역, 노선이 교차로 존재할 때
+	 * - when 출발역과 최대 거리를 지정하여 도달 가능한 역 조회를 요청하면
+	 * - then 최대 거리 이내로 도달할 수 있는 역을 가까운 순서대로 거리와 함께 리턴한다
+	 * <p>
+	 * 노선도 현황 예시
+	 * <p>
+	 * 교대역    --- *2호선* ---   강남역
+	 * |                        |
+	 * *3호선*                   *신분당선*
+	 * |                        |
+	 * 남부터미널역  --- *3호선* ---   양재
+	 * <p>
+	 */
+	@Test
+	@DisplayName("도달 가능한 역 조회: 출발역에서 최대 거리 이내로 도달할 수 있는 역이 가까운 순서대로 반환되는지 검증")
+	void findReachableStations_success() {
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLine("2호선", stationId1, stationId2, 10L);
+		long lineId2 = createLine("3호선", stationId1, stationId3, 5L);
+		createSection(lineId2, stationId1, stationId4, 2L);
+		createLine("신분당선", stationId2, stationId3, 10L);
+
+		// when
+		ExtractableResponse<Response> response = executeFindReachableStationsRequest(stationId1, 7L);
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		ReachableStationsResponse reachableStations = response.as(ReachableStationsResponse.class);
+		assertThat(reachableStations.getSource()).isEqualTo(stationId1);
+		assertThat(reachableStations.getStations()).extracting("name", "distance").containsExactly(
+			tuple("남부터미널역", 2L),
+			tuple("양재역", 5L));
+	}
+
+	/**
+	 * 대안 경로 조회
+	 * - given 지하철 역, 노선이 교차로 존재할 때
+	 * - when 출발역과 도착역, 경로 수를 지정하여 대안 경로 조회를 요청하면
+	 * - then 같은 역을 두 번 지나지 않는 경로를 거리 오름차순으로 리턴한다
+	 * <p>
+	 * 노선도 현황 예시
+	 * <p>
+	 * 교대역    --- *2호선* ---   강남역
+	 * |                        |
+	 * *3호선*                   *신분당선*
+	 * |                        |
+	 * 남부터미널역  --- *3호선* ---   양재
+	 * <p>
+	 */
+	@Test
+	@DisplayName("대안 경로 조회: 출발역에서 도착역까지의 경로가 짧은 순서대로 요청한 개수 이내로 반환되는지 검증")
+	void findAlternativePaths_success() {
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLine("2호선", stationId1, stationId2, 10L);
+		long lineId2 = createLine("3호선", stationId1, stationId3, 5L);
+		createSection(lineId2, stationId1, stationId4, 2L);
+		createLine("신분당선", stationId2, stationId3, 10L);
+
+		// when
+		ExtractableResponse<Response> response = executeFindAlternativePathsRequest(stationId1, stationId3, 3);
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		List<PathResponse> paths = response.as(PathAlternativesResponse.class).getPaths();
+		assertThat(paths).extracting("distance").containsExactly(5L, 20L);
+		assertThat(paths.get(0).getStations()).extracting("name").containsExactly("교대역", "남부터미널역", "양재역");
+		assertThat(paths.get(1).getStations()).extracting("name").containsExactly("교대역", "강남역", "양재역");
+	}
+
+	/**
+	 * 최소 환승 경로 조회
+	 * - given 환승 없이 갈 수 있는 먼 경로와 환승이 필요한 가까운 경로가 함께 존재할 때
+	 * - when 최소 환승 기준으로 경로 조회를 요청하면
+	 * - then 환승 횟수가 적은 경로를 노선별 이동 구간, 환승 횟수와 함께 리턴한다
+	 * <p>
+	 * 노선도 현황 예시
+	 * <p>
+	 * 교대역  --- *2호선* (10) ---  강남역  --- *2호선* (10) ---  역삼역
+	 * |                                                      ^
+	 * *3호선* (2)                                        *신분당선* (2)
+	 * |                                                      |
+	 * 남부터미널역  ----------------------------------------------
+	 * <p>
+	 */
+	@Test
+	@DisplayName("최소 환승 경로 조회: 거리가 더 길더라도 환승이 적은 경로와 노선별 이동 구간이 반환되는지 검증")
+	void findLeastTransferPath_success() {
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("역삼역");
+		long stationId4 = createStation("남부터미널역");
+
+		long lineId1 = createLine("2호선", stationId1, stationId2, 10L);
+		createSection(lineId1, stationId2, stationId3, 10L);
+		createLine("3호선", stationId1, stationId4, 2L);
+		createLine("신분당선", stationId4, stationId3, 2L);
+
+		// when
+		ExtractableResponse<Response> shortestResponse = executeFindPathRequest(stationId1, stationId3);
+		ExtractableResponse<Response> leastTransferResponse = executeFindPathRequest(stationId1, stationId3, "TRANSFER");
+
+		// then
+		assertThat(shortestResponse.as(PathResponse.class).getDistance()).isEqualTo(4L);
+
+		assertThat(leastTransferResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+		PathResponse leastTransferPath = leastTransferResponse.as(PathResponse.class);
+		assertThat(leastTransferPath.getDistance()).isEqualTo(20L);
+		assertThat(leastTransferPath.getTransferCount()).isZero();
+		assertThat(leastTransferPath.getStations()).extracting("name").containsExactly("교대역", "강남역", "역삼역");
+		assertThat(leastTransferPath.getLegs()).extracting("lineName", "distance").containsExactly(tuple("2호선", 20L));
+	}
+
+	/**
+	 * 구간 변경 이후 최단 경로 조회
+	 * - given 경로를 한 번 조회하여 노선망이 메모리에 올라간 상태에서
+	 * - when 구간을 중간에 추가하고, 다시 그 역을 삭제하면
+	 * - then 각 변경 직후의 경로 조회에 변경된 구간이 반영되고, 응답의 노선망 버전이 올라간다
+	 */
+	@Test
+	@DisplayName("구간 변경 이후 최단 경로 조회: 구간 추가로 나뉜 구간과 역 삭제로 합쳐진 구간이 곧바로 경로 조회에 반영되는지 검증")
+	void findShortestPath_AfterSectionsChanged() {
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long lineId = createLine("2호선", stationId1, stationId3, 10L);
+		PathResponse initial = executeFindPathRequest(stationId1, stationId3).as(PathResponse.class);
+		assertThat(initial.getDistance()).isEqualTo(10L);
+
+		// when
+		createSection(lineId, stationId1, stationId2, 4L);
+
+		// then
+		assertThat(executeFindPathRequest(stationId2, stationId3).as(PathResponse.class).getDistance()).isEqualTo(6L);
+		assertThat(executeFindPathRequest(stationId1, stationId3).as(PathResponse.class).getStations())
+			.extracting("name").containsExactly("교대역", "강남역", "양재역");
+
+		// when
+		executeDeleteSectionRequest(lineId, stationId2);
+
+		// then
+		PathResponse merged = executeFindPathRequest(stationId1, stationId3).as(PathResponse.class);
+		assertThat(merged.getDistance()).isEqualTo(10L);
+		assertThat(merged.getStations()).extracting("name").containsExactly("교대역", "양재역");
+		assertThat(merged.getNetworkVersion()).isGreaterThan(initial.getNetworkVersion());
+		assertThat(executeFindPathRequest(stationId1, stationId2).statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
 }
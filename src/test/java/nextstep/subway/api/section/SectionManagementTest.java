@@ -10,16 +10,23 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import nextstep.subway.api.CommonAcceptanceTest;
 import nextstep.subway.api.domain.dto.outport.StationInfo;
+import nextstep.subway.api.interfaces.dto.request.SectionBatchCreateRequest;
 import nextstep.subway.api.interfaces.dto.request.SectionCreateRequest;
 import nextstep.subway.api.interfaces.dto.response.LineResponse;
 
@@ -30,6 +37,9 @@ import nextstep.subway.api.interfaces.dto.response.LineResponse;
 @DisplayName("지하철 구간 관리 기능")
 public class SectionManagementTest extends CommonAcceptanceTest {
 
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	/**
 	 * 구간 등록 - 성공 케이스
 	 * - Given 지하철 노선이 존재하고, 해당 노선의 하행 종점역이 존재할 때
@@ -243,6 +253,129 @@ public class SectionManagementTest extends CommonAcceptanceTest {
 		assertTrue(stationNames.contains("X역"));
 		assertTrue(stationNames.contains("Y역"));
 		assertTrue(stationNames.contains("Z역"));
+		assertEquals(List.of("X역", "Y역", "Z역"), stationNames);
+	}
+
+	/**
+	 * given - 노선에 1번역과 2번역이 등록되어 있을 때
+	 * when - 2번역부터 50번역까지 이어지는 구간들을 한 번의 요청으로 추가하면
+	 * then - 모든 구간이 추가되어 노선의 역이 1번역부터 50번역까지 순서대로 조회된다
+	 */
+	@Test
+	@DisplayName("구간 일괄 등록 - 성공 케이스")
+	void createSectionsInBatch_Success() {
+		// given
+		List<Long> stationIds = IntStream.rangeClosed(1, 50)
+			.mapToObj(index -> parseId(executeCreateStationRequest(index + "번역")))
+			.collect(Collectors.toList());
+		long lineId = parseId(executeCreateLineRequest(createLineCreateRequest("노선", stationIds.get(0), stationIds.get(1), 10L)));
+
+		List<SectionCreateRequest> sections = IntStream.range(2, stationIds.size())
+			.mapToObj(index -> createSectionCreateRequestWithUpAndDownAndDistance(stationIds.get(index - 1), stationIds.get(index), 10L))
+			.collect(Collectors.toList());
+
+		// when
+		ExtractableResponse<Response> response = executeCreateSectionsInBatchRequest(lineId, new SectionBatchCreateRequest(sections));
+
+		// then
+		assertEquals(HttpStatus.CREATED.value(), response.statusCode());
+		assertEquals(48, response.jsonPath().getList("id").size());
+
+		List<String> stationNames = executeGetSpecificStationLineRequest(lineId).as(LineResponse.class).getStations().stream().map(StationInfo::getName).collect(Collectors.toList());
+		assertEquals(IntStream.rangeClosed(1, 50).mapToObj(index -> index + "번역").collect(Collectors.toList()), stationNames);
+	}
+
+	/**
+	 * given - 노선에 1번역과 2번역이 등록되어 있을 때
+	 * when - 2번역부터 50번역까지 이어지는 구간들을 한 번의 요청으로 추가하면
+	 * then - 구간 insert와 노선 id update가 JDBC 배치로 묶여, 준비된 SQL 문 수가 추가한 구간 수보다 적다
+	 */
+	@Test
+	@DisplayName("구간 일괄 등록 - 구간 insert/update는 JDBC 배치로 전송된다")
+	void createSectionsInBatch_SendsStatementsInJdbcBatches() {
+		// given
+		List<Long> stationIds = IntStream.rangeClosed(1, 50)
+			.mapToObj(index -> parseId(executeCreateStationRequest(index + "번역")))
+			.collect(Collectors.toList());
+		long lineId = parseId(executeCreateLineRequest(createLineCreateRequest("노선", stationIds.get(0), stationIds.get(1), 10L)));
+
+		List<SectionCreateRequest> sections = IntStream.range(2, stationIds.size())
+			.mapToObj(index -> createSectionCreateRequestWithUpAndDownAndDistance(stationIds.get(index - 1), stationIds.get(index), 10L))
+			.collect(Collectors.toList());
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		// when
+		ExtractableResponse<Response> response;
+		try {
+			response = executeCreateSectionsInBatchRequest(lineId, new SectionBatchCreateRequest(sections));
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+
+		// then
+		assertEquals(HttpStatus.CREATED.value(), response.statusCode());
+		assertEquals(48, statistics.getEntityInsertCount());
+		assertTrue(statistics.getPrepareStatementCount() < sections.size(),
+			"prepared statements: " + statistics.getPrepareStatementCount());
+	}
+
+	/**
+	 * given - 노선에 A역과 B역이 등록되어 있을 때
+	 * when - 연결할 수 있는 구간과 연결할 수 없는 구간을 함께 일괄 등록하면
+	 * then - 요청이 실패하고 어떤 구간도 추가되지 않는다
+	 */
+	@Test
+	@DisplayName("구간 일괄 등록 - 추가할 수 없는 구간이 하나라도 있으면 모든 구간 추가가 취소된다")
+	void createSectionsInBatch_Fail_RolledBackWhenAnySectionIsInvalid() {
+		// given
+		long stationAId = parseId(executeCreateStationRequest("A역"));
+		long stationBId = parseId(executeCreateStationRequest("B역"));
+		long stationCId = parseId(executeCreateStationRequest("C역"));
+		long stationDId = parseId(executeCreateStationRequest("D역"));
+		long stationEId = parseId(executeCreateStationRequest("E역"));
+		long lineId = parseId(executeCreateLineRequest(createLineCreateRequest("노선", stationAId, stationBId, 10L)));
+
+		List<SectionCreateRequest> sections = List.of(
+			createSectionCreateRequestWithUpAndDownAndDistance(stationBId, stationCId, 10L),
+			createSectionCreateRequestWithUpAndDownAndDistance(stationDId, stationEId, 10L));
+
+		// when
+		ExtractableResponse<Response> response = executeCreateSectionsInBatchRequest(lineId, new SectionBatchCreateRequest(sections));
+
+		// then
+		assertEquals(HttpStatus.BAD_REQUEST.value(), response.statusCode());
+		List<String> stationNames = executeGetSpecificStationLineRequest(lineId).as(LineResponse.class).getStations().stream().map(StationInfo::getName).collect(Collectors.toList());
+		assertEquals(List.of("A역", "B역"), stationNames);
+	}
+
+	/**
+	 * given - A역 - B역 - C역 - D역 - E역 노선이 등록되어 있을 때
+	 * when - B역, C역, E역을 한 번의 요청으로 제거하면
+	 * then - A역 - D역 만 남는다
+	 */
+	@Test
+	@DisplayName("여러 역 일괄 제거 - 성공 케이스")
+	void deleteStationsInBatch_Success() {
+		// given
+		List<Long> stationIds = List.of("A역", "B역", "C역", "D역", "E역").stream()
+			.map(name -> parseId(executeCreateStationRequest(name)))
+			.collect(Collectors.toList());
+		long lineId = parseId(executeCreateLineRequest(createLineCreateRequest("노선", stationIds.get(0), stationIds.get(1), 10L)));
+		executeCreateSectionsInBatchRequest(lineId, new SectionBatchCreateRequest(List.of(
+			createSectionCreateRequestWithUpAndDownAndDistance(stationIds.get(1), stationIds.get(2), 5L),
+			createSectionCreateRequestWithUpAndDownAndDistance(stationIds.get(2), stationIds.get(3), 7L),
+			createSectionCreateRequestWithUpAndDownAndDistance(stationIds.get(3), stationIds.get(4), 3L))));
+
+		// when
+		ExtractableResponse<Response> response = executeDeleteSectionsRequest(lineId, List.of(stationIds.get(1), stationIds.get(2), stationIds.get(4)));
+
+		// then
+		assertEquals(HttpStatus.NO_CONTENT.value(), response.statusCode());
+		List<String> stationNames = executeGetSpecificStationLineRequest(lineId).as(LineResponse.class).getStations().stream().map(StationInfo::getName).collect(Collectors.toList());
+		assertEquals(List.of("A역", "D역"), stationNames);
 	}
 
 	///////////// 삭제 추가 요구 사항
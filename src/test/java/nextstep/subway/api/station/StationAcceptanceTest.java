@@ -1,13 +1,22 @@
 package nextstep.subway.api.station;
 
+import static nextstep.subway.fixture.LineFixtureCreator.*;
+import static nextstep.subway.fixture.SectionFixtureCreator.*;
 import static nextstep.subway.utils.resthelper.ExtractableResponseParser.*;
+import static nextstep.subway.utils.resthelper.LineRequestExecutor.*;
+import static nextstep.subway.utils.resthelper.SectionRequestExecutor.*;
 import static nextstep.subway.utils.resthelper.StationRequestExecutor.*;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
 
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 
 import io.restassured.response.ExtractableResponse;
@@ -17,6 +26,9 @@ import nextstep.subway.api.CommonAcceptanceTest;
 @DisplayName("지하철역 관련 기능")
 public class StationAcceptanceTest extends CommonAcceptanceTest {
 
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	/**
 	 * When 지하철역을 생성하면
 	 * Then 지하철역이 생성된다
@@ -77,4 +89,85 @@ public class StationAcceptanceTest extends CommonAcceptanceTest {
 		assertThat(stationNames).doesNotContain("신사역");
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Given A역 - B역 노선과 B역 - C역 노선을 생성하고
+	 * When B역을 지나는 노선을 조회하면
+	 * Then 두 노선을 모두 응답 받는다
+	 * When A역 - B역 노선에 B역 - C역 구간을 추가하면
+	 * Then C역을 지나는 노선 조회 시 두 노선을 모두 응답 받는다
+	 */
+	@DisplayName("지하철역을 지나는 노선 목록을 조회한다.")
+	@Test
+	void fetchLinesOfStation() {
+		// given
+		long stationAId = parseId(executeCreateStationRequest("A역"));
+		long stationBId = parseId(executeCreateStationRequest("B역"));
+		long stationCId = parseId(executeCreateStationRequest("C역"));
+		long firstLineId = parseId(executeCreateLineRequest(createLineCreateRequest("1호선", stationAId, stationBId, 10L)));
+		parseId(executeCreateLineRequest(createLineCreateRequest("2호선", stationBId, stationCId, 10L)));
+
+		// when
+		ExtractableResponse<Response> response = executeGetLinesOfStationRequest(stationBId);
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(parseLineNames(response)).containsExactly("1호선", "2호선");
+		assertThat(parseLineNames(executeGetLinesOfStationRequest(stationCId))).containsExactly("2호선");
+
+		// when
+		executeCreateSectionRequest(firstLineId, createSectionCreateRequestWithUpAndDownAndDistance(stationBId, stationCId, 5L));
+
+		// then
+		assertThat(parseLineNames(executeGetLinesOfStationRequest(stationCId))).containsExactly("1호선", "2호선");
+	}
+
+	/**
+	 * Given B역을 지나는 노선 세 개를 생성하고
+	 * When B역을 지나는 노선을 조회하면
+	 * Then 노선 수와 관계없이 역 확인 쿼리와 노선/구간/역 fetch join 쿼리만 실행된다
+	 */
+	@DisplayName("지하철역을 지나는 노선 목록은 노선 수와 관계없이 고정된 수의 쿼리로 조회한다.")
+	@Test
+	void fetchLinesOfStation_WithoutNPlusOneQueries() {
+		// given
+		long stationBId = parseId(executeCreateStationRequest("B역"));
+		for (String lineName : List.of("1호선", "2호선", "3호선")) {
+			long upStationId = parseId(executeCreateStationRequest(lineName + " 상행역"));
+			long downStationId = parseId(executeCreateStationRequest(lineName + " 하행역"));
+			long lineId = parseId(executeCreateLineRequest(createLineCreateRequest(lineName, upStationId, stationBId, 10L)));
+			executeCreateSectionRequest(lineId, createSectionCreateRequestWithUpAndDownAndDistance(stationBId, downStationId, 5L));
+		}
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		// when
+		ExtractableResponse<Response> response;
+		try {
+			response = executeGetLinesOfStationRequest(stationBId);
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(parseLineNames(response)).containsExactly("1호선", "2호선", "3호선");
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L);
+	}
+
+	/**
+	 * When 존재하지 않는 지하철역을 지나는 노선을 조회하면
+	 * Then 404 응답을 받는다
+	 */
+	@DisplayName("존재하지 않는 지하철역을 지나는 노선은 조회할 수 없다.")
+	@Test
+	void fetchLinesOfStation_NotFound() {
+		// when
+		ExtractableResponse<Response> response = executeGetLinesOfStationRequest(Long.MAX_VALUE);
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+	}
+
+}
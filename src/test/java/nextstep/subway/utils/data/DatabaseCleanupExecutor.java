@@ -9,9 +9,13 @@ import javax.persistence.PersistenceContext;
 import javax.persistence.metamodel.EntityType;
 
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import nextstep.subway.api.domain.model.event.SubwayNetworkChangedEvent;
+
 /**
  * @author : Rene Choi
  * @since : 2024/02/02
@@ -22,6 +26,9 @@ public class DatabaseCleanupExecutor implements InitializingBean {
 	@PersistenceContext
 	private EntityManager entityManager;
 
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
 	private List<String> tableNames;
 	@Override
 	public void afterPropertiesSet()  {
@@ -37,6 +44,7 @@ public class DatabaseCleanupExecutor implements InitializingBean {
 		entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
 		tableNames.forEach(tableName -> entityManager.createNativeQuery("TRUNCATE TABLE " +  tableName + " RESTART IDENTITY").executeUpdate());
 		entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+		eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(null));
 	}
 
 	private static boolean isEntityFound(EntityType<?> entity) {
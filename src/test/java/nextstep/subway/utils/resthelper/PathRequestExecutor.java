@@ -3,9 +3,14 @@ package nextstep.subway.utils.resthelper;
 import static io.restassured.RestAssured.*;
 import static org.springframework.http.MediaType.*;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import nextstep.subway.api.interfaces.dto.request.PathBatchRequest;
+import nextstep.subway.api.interfaces.dto.request.PathMatrixRequest;
 
 /**
  * @author : Rene Choi
@@ -23,4 +28,29 @@ public class PathRequestExecutor extends AbstractRequestExecutor {
 		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target), LINE_URL_PATH);
 	}
 
+	public static ExtractableResponse<Response> executeFindPathRequest(Long source, Long target, String type) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target).queryParam("type", type), LINE_URL_PATH);
+	}
+
+	public static ExtractableResponse<Response> executeFindPathViaRequest(Long source, Long target, List<Long> via) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target)
+			.queryParam("via", via.stream().map(String::valueOf).collect(Collectors.joining(","))), LINE_URL_PATH);
+	}
+
+	public static ExtractableResponse<Response> executeFindPathsInBatchRequest(PathBatchRequest batchRequest) {
+		return doPost(getRequestSpecification(), LINE_URL_PATH + "/batch", batchRequest);
+	}
+
+	public static ExtractableResponse<Response> executeFindDistanceMatrixRequest(PathMatrixRequest matrixRequest) {
+		return doPost(getRequestSpecification(), LINE_URL_PATH + "/matrix", matrixRequest);
+	}
+
+	public static ExtractableResponse<Response> executeFindAlternativePathsRequest(Long source, Long target, int k) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target).queryParam("k", k), LINE_URL_PATH + "/alternatives");
+	}
+
+	public static ExtractableResponse<Response> executeFindReachableStationsRequest(Long source, Long maxDistance) {
+		return doGet(getRequestSpecification().queryParam("maxDistance", maxDistance), LINE_URL_PATH + "/from/" + source);
+	}
+
 }
\ No newline at end of file
@@ -3,9 +3,13 @@ package nextstep.subway.utils.resthelper;
 import static io.restassured.RestAssured.*;
 import static org.springframework.http.MediaType.*;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import nextstep.subway.api.interfaces.dto.request.SectionBatchCreateRequest;
 import nextstep.subway.api.interfaces.dto.request.SectionCreateRequest;
 
 /**
@@ -25,6 +29,15 @@ public class SectionRequestExecutor extends AbstractRequestExecutor {
 		return doPost(getRequestSpecification(), LINE_URL_PATH + "/" + lineId + SECTION_URL_PATH, createRequest);
 	}
 
+	public static ExtractableResponse<Response> executeCreateSectionsInBatchRequest(Long lineId, SectionBatchCreateRequest batchRequest) {
+		return doPost(getRequestSpecification(), LINE_URL_PATH + "/" + lineId + SECTION_URL_PATH + "/batch", batchRequest);
+	}
+
+	public static ExtractableResponse<Response> executeDeleteSectionsRequest(Long lineId, List<Long> stationIds) {
+		return doDelete(getRequestSpecification().queryParam("stationIds", stationIds.stream().map(String::valueOf).collect(Collectors.joining(","))),
+			LINE_URL_PATH + "/" + lineId + SECTION_URL_PATH);
+	}
+
 	public static ExtractableResponse<Response> executeDeleteSectionRequest(Long lineId, Long downStationId) {
 		return doDelete(getRequestSpecification(), LINE_URL_PATH + "/" + lineId + SECTION_URL_PATH + "/" + downStationId);
 	}
@@ -35,4 +35,8 @@ public class StationRequestExecutor extends AbstractRequestExecutor {
 	public static ExtractableResponse<Response> executeGetStationRequest() {
 		return doGet(getRequestSpecification(), URL_PATH);
 	}
+
+	public static ExtractableResponse<Response> executeGetLinesOfStationRequest(Long id) {
+		return doGet(getRequestSpecification(), URL_PATH + "/" + id + "/lines");
+	}
 }